@@ -0,0 +1,76 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/** Drives games through the public Rules API with a trivial bot. */
+final class BenchGames {
+  private BenchGames() {}
+
+  static GameState newState(int playerCount) {
+    List<UUID> players = new ArrayList<>(playerCount);
+    for (int i = 0; i < playerCount; i++) {
+      players.add(new UUID(0, i + 1));
+    }
+    return new GameState("bench", players);
+  }
+
+  /** Deal, bid and select landlords so the state is in PLAY. */
+  static void startAndBid(DdzRules rules, GameState s, Random random) {
+    rules.apply(s, new SystemAction("START", null));
+    int maxBid = rules.getConfig().getMaxBid();
+    while (s.phase() == GameState.Phase.BIDDING) {
+      UUID selector = s.getAwaitingLandlordSelection();
+      if (selector != null) {
+        UUID pick =
+            s.players().stream()
+                .filter(p -> !s.getSelectedLandlords().contains(p))
+                .findFirst()
+                .orElseThrow();
+        rules.apply(s, new PlayerAction(selector, "SELECT_LANDLORD", pick));
+      } else {
+        rules.apply(
+            s, new PlayerAction(s.currentPlayerId(), "BID", new Bid(random.nextInt(maxBid + 1))));
+      }
+    }
+  }
+
+  /**
+   * Play one turn: lead the lowest single, beat a single lead with the lowest higher card, and pass
+   * otherwise.
+   */
+  static void playTurn(DdzRules rules, GameState s) {
+    UUID p = s.currentPlayerId();
+    List<Card> hand = s.handOf(p);
+    PlayedHand lead = s.getCurrentLead();
+    List<Card> move = null;
+    if (lead == null) {
+      move = List.of(hand.get(0));
+    } else if (lead.type() == ComboType.SINGLE) {
+      int leadRank = lead.cards().get(0).rank().ordinal();
+      for (Card c : hand) {
+        if (c.rank().ordinal() > leadRank) {
+          move = List.of(c);
+          break;
+        }
+      }
+    }
+    rules.apply(s, new PlayerAction(p, "PLAY", move));
+  }
+
+  /** Play a freshly created game to completion and return the number of turns. */
+  static int playGame(DdzRules rules, int playerCount, Random random) {
+    GameState s = newState(playerCount);
+    startAndBid(rules, s, random);
+    int turns = 0;
+    while (!rules.isTerminal(s)) {
+      playTurn(rules, s);
+      turns++;
+    }
+    return turns;
+  }
+}
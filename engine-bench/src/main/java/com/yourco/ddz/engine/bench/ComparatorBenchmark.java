@@ -0,0 +1,52 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.core.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** SimplePlayComparator on already-detected plays. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparatorBenchmark {
+  /** Which pair of plays to compare: same-type kicker combos, bomb vs bomb, bomb vs non-bomb. */
+  @Param({"SINGLE", "TRIPLE_WITH_PAIR", "AIRPLANE_WITH_SINGLES", "BOMB_WITH_PAIRS", "BOMB"})
+  public String combo;
+
+  private PlayComparator comparator;
+  private PlayedHand a;
+  private PlayedHand b;
+
+  @Setup
+  public void setUp() {
+    comparator = new SimplePlayComparator();
+    var detector = new HistogramHandDetector();
+    ComboType type = ComboType.valueOf(combo);
+    a = detector.detect(Samples.PLAYS.get(type)).orElseThrow();
+    b =
+        switch (type) {
+          case SINGLE -> detector.detect(Samples.cards("7S")).orElseThrow();
+          case TRIPLE_WITH_PAIR ->
+              detector.detect(Samples.cards("8H", "8D", "8S", "5C", "5D")).orElseThrow();
+          case AIRPLANE_WITH_SINGLES ->
+              detector
+                  .detect(
+                      Samples.cards(
+                          "3H", "3D", "3S", "4C", "4D", "4H", "5C", "5D", "5H", "9S", "TS", "JS"))
+                  .orElseThrow();
+          case BOMB_WITH_PAIRS ->
+              detector
+                  .detect(Samples.cards("8H", "8D", "8S", "8C", "3D", "3H", "KH", "KS"))
+                  .orElseThrow();
+          default -> detector.detect(Samples.cards("AH", "AD", "AS", "5C", "5D")).orElseThrow();
+        };
+  }
+
+  @Benchmark
+  public int compare() {
+    return comparator.compare(a, b);
+  }
+}
@@ -0,0 +1,34 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.core.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** GameState.resetForNewGame followed by the START deal, per table size. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DealBenchmark {
+  @Param({"3", "5", "8", "12"})
+  public int players;
+
+  private DdzRules rules;
+  private GameState state;
+  private final SystemAction start = new SystemAction("START", null);
+
+  @Setup
+  public void setUp() {
+    rules = DdzRules.standard(players);
+    state = BenchGames.newState(players);
+  }
+
+  @Benchmark
+  public GameState resetAndDeal() {
+    state.resetForNewGame();
+    rules.apply(state, start);
+    return state;
+  }
+}
@@ -0,0 +1,56 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Combo detection for every combo type, pattern chain vs single-pass histogram. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DetectorBenchmark {
+  @Param({
+    "SINGLE",
+    "PAIR",
+    "TRIPLE",
+    "TRIPLE_WITH_SINGLE",
+    "TRIPLE_WITH_PAIR",
+    "SEQUENCE",
+    "PAIR_SEQUENCE",
+    "AIRPLANE",
+    "AIRPLANE_WITH_SINGLES",
+    "AIRPLANE_WITH_PAIRS",
+    "BOMB",
+    "BOMB_WITH_SINGLES",
+    "BOMB_WITH_PAIRS",
+    "ROCKET"
+  })
+  public String combo;
+
+  private List<Card> cards;
+  private PlayDetector chain;
+  private PlayDetector histogram;
+
+  @Setup
+  public void setUp() {
+    cards = Samples.PLAYS.get(ComboType.valueOf(combo));
+    chain = HandDetector.defaultDdz();
+    histogram = new HistogramHandDetector();
+  }
+
+  @Benchmark
+  public Optional<PlayedHand> handDetector() {
+    return chain.detect(cards);
+  }
+
+  @Benchmark
+  public Optional<PlayedHand> histogramDetector() {
+    return histogram.detect(cards);
+  }
+}
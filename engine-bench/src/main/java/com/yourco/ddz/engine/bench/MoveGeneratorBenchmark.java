@@ -0,0 +1,41 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.cards.Dealer;
+import com.yourco.ddz.engine.cards.Hand;
+import com.yourco.ddz.engine.core.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** MoveGenerator on a dealt 17-card hand: full enumeration when leading, first beating play. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGeneratorBenchmark {
+  private MoveGenerator generator;
+  private Hand hand;
+  private PlayedHand lead;
+
+  @Setup
+  public void setUp() {
+    generator = new MoveGenerator(GameConfig.standard(3));
+    Dealer dealer = new Dealer(1);
+    dealer.shuffle(new SplittableRandom(1));
+    hand = new Hand();
+    dealer.deal(0, 17, hand);
+    lead = new HistogramHandDetector().detect(Samples.PLAYS.get(ComboType.PAIR)).orElseThrow();
+  }
+
+  @Benchmark
+  public long allLeads() {
+    return generator.legalPlays(hand, null).count();
+  }
+
+  @Benchmark
+  public Object firstBeatingPair() {
+    return generator.legalPlays(hand, lead).findFirst().orElse(null);
+  }
+}
@@ -0,0 +1,50 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.*;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * DdzRules.apply for PLAY turns. One op is a full round: the leader plays a single, every other
+ * player passes, and the card is handed back so the state is identical for the next op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayTurnBenchmark {
+  @Param({"3", "5", "8", "12"})
+  public int players;
+
+  private DdzRules rules;
+  private GameState state;
+  private UUID leader;
+  private PlayerAction lead;
+  private Card leadCard;
+
+  @Setup
+  public void setUp() {
+    rules = DdzRules.standard(players);
+    state = BenchGames.newState(players);
+    BenchGames.startAndBid(rules, state, new Random(1));
+    leader = state.currentPlayerId();
+    leadCard = state.handOf(leader).get(0);
+    lead = new PlayerAction(leader, "PLAY", List.of(leadCard));
+  }
+
+  @Benchmark
+  public GameState playRound() {
+    rules.apply(state, lead);
+    while (!state.currentPlayerId().equals(leader)) {
+      rules.apply(state, new PlayerAction(state.currentPlayerId(), "PLAY", null));
+    }
+    state.handOf(leader).add(leadCard);
+    return state;
+  }
+}
@@ -0,0 +1,32 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.core.DdzRules;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** End-to-end games (deal, bid, play to completion) with a trivial singles-only bot. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomGameBenchmark {
+  @Param({"3", "5", "8", "12"})
+  public int players;
+
+  private DdzRules rules;
+  private Random random;
+
+  @Setup
+  public void setUp() {
+    rules = DdzRules.standard(players);
+    random = new Random(7);
+  }
+
+  @Benchmark
+  public int playGame() {
+    return BenchGames.playGame(rules, players, random);
+  }
+}
@@ -0,0 +1,79 @@
+package com.yourco.ddz.engine.bench;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.ComboType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/** Fixed sample plays shared by the benchmarks. */
+final class Samples {
+  private Samples() {}
+
+  /** One representative play per combo type. */
+  static final Map<ComboType, List<Card>> PLAYS = new EnumMap<>(ComboType.class);
+
+  static {
+    PLAYS.put(ComboType.SINGLE, cards("9H"));
+    PLAYS.put(ComboType.PAIR, cards("9H", "9D"));
+    PLAYS.put(ComboType.TRIPLE, cards("9H", "9D", "9S"));
+    PLAYS.put(ComboType.TRIPLE_WITH_SINGLE, cards("9H", "9D", "9S", "4C"));
+    PLAYS.put(ComboType.TRIPLE_WITH_PAIR, cards("9H", "9D", "9S", "4C", "4D"));
+    PLAYS.put(ComboType.SEQUENCE, cards("6H", "7D", "8S", "9C", "TD", "JH", "QS"));
+    PLAYS.put(ComboType.PAIR_SEQUENCE, cards("6H", "6D", "7S", "7C", "8D", "8H", "9S", "9C"));
+    PLAYS.put(ComboType.AIRPLANE, cards("6H", "6D", "6S", "7C", "7D", "7H"));
+    PLAYS.put(
+        ComboType.AIRPLANE_WITH_SINGLES,
+        cards("6H", "6D", "6S", "7C", "7D", "7H", "8C", "8D", "8H", "3S", "4S", "KS"));
+    PLAYS.put(
+        ComboType.AIRPLANE_WITH_PAIRS,
+        cards("6H", "6D", "6S", "7C", "7D", "7H", "3S", "3H", "KS", "KH"));
+    PLAYS.put(ComboType.BOMB, cards("9H", "9D", "9S", "9C"));
+    PLAYS.put(ComboType.BOMB_WITH_SINGLES, cards("9H", "9D", "9S", "9C", "3D", "KH"));
+    PLAYS.put(ComboType.BOMB_WITH_PAIRS, cards("9H", "9D", "9S", "9C", "3D", "3H", "KH", "KS"));
+    PLAYS.put(ComboType.ROCKET, cards("LJ", "BJ"));
+  }
+
+  /** Parse short notation: "9H", "TD", "LJ", "BJ". */
+  static List<Card> cards(String... notations) {
+    List<Card> result = new ArrayList<>(notations.length);
+    for (String n : notations) {
+      if (n.equals("LJ")) {
+        result.add(Card.of(Card.Suit.JOKER, Card.Rank.LITTLE_JOKER));
+        continue;
+      }
+      if (n.equals("BJ")) {
+        result.add(Card.of(Card.Suit.JOKER, Card.Rank.BIG_JOKER));
+        continue;
+      }
+      Card.Rank rank =
+          switch (n.charAt(0)) {
+            case '3' -> Card.Rank.THREE;
+            case '4' -> Card.Rank.FOUR;
+            case '5' -> Card.Rank.FIVE;
+            case '6' -> Card.Rank.SIX;
+            case '7' -> Card.Rank.SEVEN;
+            case '8' -> Card.Rank.EIGHT;
+            case '9' -> Card.Rank.NINE;
+            case 'T' -> Card.Rank.TEN;
+            case 'J' -> Card.Rank.JACK;
+            case 'Q' -> Card.Rank.QUEEN;
+            case 'K' -> Card.Rank.KING;
+            case 'A' -> Card.Rank.ACE;
+            case '2' -> Card.Rank.TWO;
+            default -> throw new IllegalArgumentException("Invalid rank: " + n);
+          };
+      Card.Suit suit =
+          switch (n.charAt(1)) {
+            case 'C' -> Card.Suit.CLUBS;
+            case 'D' -> Card.Suit.DIAMONDS;
+            case 'H' -> Card.Suit.HEARTS;
+            case 'S' -> Card.Suit.SPADES;
+            default -> throw new IllegalArgumentException("Invalid suit: " + n);
+          };
+      result.add(Card.of(suit, rank));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,247 @@
+package com.yourco.ddz.engine.bot;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Hand;
+import com.yourco.ddz.engine.core.Bid;
+import com.yourco.ddz.engine.core.GameConfig;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.engine.core.MoveGenerator;
+import com.yourco.ddz.engine.core.PlayedHand;
+import com.yourco.ddz.engine.core.PlayerAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * A Dou Dizhu player for empty or abandoned seats, using Information-Set Monte Carlo Tree Search.
+ * Each iteration deals the cards the bot cannot see at random (a determinization), walks the tree
+ * choosing among the moves legal in that deal, adds one new move, plays the rest of the game out
+ * with a cheap policy and credits the result to every move on the path. The bot never looks at
+ * another player's cards beyond how many they hold.
+ *
+ * <p>Searches run on the {@link ForkJoinPool} given to the constructor. A move's iterations are
+ * split between up to {@link ForkJoinPool#getParallelism()} workers, each growing its own tree from
+ * its own random stream; their root visit counts are summed and the most visited move is played. No
+ * state is shared between workers, so they never contend. Share one pool between all bots, sized
+ * below the core count: a bot then never holds more threads than that however many tables it plays,
+ * and the remaining cores are left to the human games. When the pool is busy, searches queue and
+ * their time budget runs out sooner, which makes them shallower rather than late.
+ *
+ * <p>Decisions are returned as {@link PlayerAction}s to submit through the game's {@link
+ * com.yourco.ddz.engine.core.Rules} or {@link com.yourco.ddz.engine.core.GameLoop} like any other
+ * player's. Bids and landlord selection use a simple high-card count, not search.
+ */
+public final class IsmctsBot {
+  // Fewer iterations than this per worker are not worth a fork
+  private static final int MIN_WORKER_ITERATIONS = 32;
+
+  private final GameConfig config;
+  private final MoveGenerator generator;
+  private final SearchBudget budget;
+  private final ForkJoinPool pool;
+  private final SplittableGenerator seeds;
+
+  /**
+   * @param seed root of the bot's random streams; with an iterations-only budget the same seed
+   *     makes the same decisions
+   */
+  public IsmctsBot(GameConfig config, SearchBudget budget, ForkJoinPool pool, long seed) {
+    this.config = config;
+    this.generator = new MoveGenerator(config);
+    this.budget = budget;
+    this.pool = pool;
+    this.seeds =
+        RandomGeneratorFactory.<SplittableGenerator>of(GameConfig.DEFAULT_RNG_ALGORITHM)
+            .create(seed);
+  }
+
+  /**
+   * The action {@code player} should take now, searching on the pool and waiting for the result.
+   *
+   * @throws IllegalStateException if it is not the player's turn to act
+   */
+  public PlayerAction decide(GameState s, UUID player) {
+    return decideAsync(s, player).join();
+  }
+
+  /**
+   * Like {@link #decide}, but returns at once. The state is read before this returns, so the caller
+   * may keep using it; the search itself runs on the pool.
+   *
+   * @throws IllegalStateException if it is not the player's turn to act
+   */
+  public CompletableFuture<PlayerAction> decideAsync(GameState s, UUID player) {
+    if (s.phase() == GameState.Phase.BIDDING) {
+      if (player.equals(s.getAwaitingLandlordSelection())) {
+        return CompletableFuture.completedFuture(
+            new PlayerAction(player, "SELECT_LANDLORD", selectLandlord(s, player)));
+      }
+      requireTurn(s, player);
+      return CompletableFuture.completedFuture(
+          new PlayerAction(player, "BID", new Bid(bid(s.handOf(player)))));
+    }
+    if (s.phase() != GameState.Phase.PLAY) {
+      throw new IllegalStateException("Nothing to decide in phase " + s.phase());
+    }
+    requireTurn(s, player);
+    Position position = Position.observe(s, player, generator);
+    SplittableGenerator random = nextRandom();
+    return CompletableFuture.supplyAsync(() -> search(position, random), pool)
+        .thenApply(play -> new PlayerAction(player, "PLAY", play == null ? null : play.cards()));
+  }
+
+  /** The play to make from {@code position}, or null to pass. */
+  PlayedHand search(Position position, SplittableGenerator random) {
+    List<PlayedHand> legal = position.moves();
+    if (legal.size() == 1) {
+      return legal.get(0);
+    }
+    long deadline = System.nanoTime() + budget.time().toNanos();
+    int workers =
+        Math.max(1, Math.min(pool.getParallelism(), budget.iterations() / MIN_WORKER_ITERATIONS));
+    int perWorker = (budget.iterations() + workers - 1) / workers;
+    List<Worker> tasks = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      tasks.add(new Worker(position, perWorker, deadline, random.split()));
+    }
+    Map<Move, Integer> visits = new HashMap<>();
+    for (Worker w : ForkJoinTask.invokeAll(tasks)) {
+      w.join().forEach((move, n) -> visits.merge(move, n, Integer::sum));
+    }
+
+    // Most visited root move; ties go to the earlier (cheaper) play
+    PlayedHand best = null;
+    int bestVisits = -1;
+    for (PlayedHand play : legal) {
+      int n = visits.getOrDefault(Move.of(play), 0);
+      if (n > bestVisits) {
+        best = play;
+        bestVisits = n;
+      }
+    }
+    return best;
+  }
+
+  private SplittableGenerator nextRandom() {
+    synchronized (seeds) {
+      return seeds.split();
+    }
+  }
+
+  private static void requireTurn(GameState s, UUID player) {
+    if (!player.equals(s.currentPlayerId())) {
+      throw new IllegalStateException("Not " + player + "'s turn");
+    }
+  }
+
+  /** Bid one per two, joker and bomb held, capped at the maximum bid. */
+  private int bid(Hand hand) {
+    int strength = hand.count(Card.Rank.TWO);
+    strength += hand.count(Card.Rank.LITTLE_JOKER) + hand.count(Card.Rank.BIG_JOKER);
+    for (Card.Rank r : Card.Rank.values()) {
+      if (hand.count(r) >= 4) strength++;
+    }
+    return Math.min(config.getMaxBid(), strength / 2);
+  }
+
+  /**
+   * Itself, if not yet chosen and its own hand would bid; otherwise the next player in seat order
+   * not yet chosen. Other players' cards are not consulted.
+   */
+  private UUID selectLandlord(GameState s, UUID selector) {
+    List<UUID> players = s.players();
+    List<UUID> chosen = s.getSelectedLandlords();
+    if (!chosen.contains(selector) && bid(s.handOf(selector)) > 0) {
+      return selector;
+    }
+    int seat = s.seatOf(selector);
+    for (int i = 1; i <= players.size(); i++) {
+      UUID p = players.get((seat + i) % players.size());
+      if (!chosen.contains(p)) return p;
+    }
+    throw new IllegalStateException("No player left for " + selector + " to select");
+  }
+
+  /** One independent tree: iterates until its share of the budget or the deadline runs out. */
+  private static final class Worker extends RecursiveTask<Map<Move, Integer>> {
+    private final Position root;
+    private final int iterations;
+    private final long deadline;
+    private final RandomGenerator random;
+
+    Worker(Position root, int iterations, long deadline, RandomGenerator random) {
+      this.root = root;
+      this.iterations = iterations;
+      this.deadline = deadline;
+      this.random = random;
+    }
+
+    @Override
+    protected Map<Move, Integer> compute() {
+      Node tree = new Node(null, null, -1);
+      for (int i = 0; i < iterations && (i == 0 || System.nanoTime() < deadline); i++) {
+        iterate(tree);
+      }
+      Map<Move, Integer> visits = new HashMap<>();
+      tree.children.forEach((move, child) -> visits.put(move, child.visits));
+      return visits;
+    }
+
+    private void iterate(Node tree) {
+      Position p = root.determinize(random);
+      Node node = tree;
+      List<Node> options = new ArrayList<>();
+      List<PlayedHand> optionPlays = new ArrayList<>();
+
+      // Select through moves legal in this deal until one has never been tried, then add it
+      while (!p.over()) {
+        PlayedHand untried = null;
+        Move untriedMove = null;
+        int untriedSeen = 0;
+        options.clear();
+        optionPlays.clear();
+        for (PlayedHand play : p.moves()) {
+          Move move = Move.of(play);
+          Node child = node.children.get(move);
+          if (child == null) {
+            if (random.nextInt(++untriedSeen) == 0) {
+              untried = play;
+              untriedMove = move;
+            }
+          } else {
+            child.available++;
+            options.add(child);
+            optionPlays.add(play);
+          }
+        }
+        if (untriedMove != null) {
+          node = node.add(untriedMove, p.current());
+          node.available++;
+          p.apply(untried);
+          break;
+        }
+        int best = 0;
+        for (int i = 1; i < options.size(); i++) {
+          if (options.get(i).score() > options.get(best).score()) best = i;
+        }
+        node = options.get(best);
+        p.apply(optionPlays.get(best));
+      }
+
+      p.rollout(random);
+      for (Node n = node; n.parent != null; n = n.parent) {
+        n.visits++;
+        if (p.sameTeam(n.mover, p.winner())) n.wins++;
+      }
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.yourco.ddz.engine.bot;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.ComboType;
+import com.yourco.ddz.engine.core.PlayedHand;
+import java.util.Arrays;
+
+/**
+ * A play identified by its combo type and rank counts, ignoring suits, so the same move can be
+ * found in every determinization: opponents' cards are redealt each iteration, but "a pair of
+ * nines" means the same thing whichever nines they were dealt.
+ */
+final class Move {
+  private static final int RANKS = Card.Rank.values().length;
+
+  static final Move PASS = new Move(null, new int[RANKS]);
+
+  private final ComboType type;
+  private final int[] counts;
+  private final int hash;
+
+  private Move(ComboType type, int[] counts) {
+    this.type = type;
+    this.counts = counts;
+    this.hash = 31 * (type == null ? -1 : type.ordinal()) + Arrays.hashCode(counts);
+  }
+
+  /** The move for a play, or {@link #PASS} for null. */
+  static Move of(PlayedHand play) {
+    if (play == null) {
+      return PASS;
+    }
+    int[] counts = new int[RANKS];
+    for (Card c : play.cards()) {
+      counts[c.rank().ordinal()]++;
+    }
+    return new Move(play.type(), counts);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof Move m && type == m.type && Arrays.equals(counts, m.counts);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return type == null ? "PASS" : type + Arrays.toString(counts);
+  }
+}
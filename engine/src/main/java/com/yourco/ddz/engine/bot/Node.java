@@ -0,0 +1,38 @@
+package com.yourco.ddz.engine.bot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A node of one worker's search tree: the move that led here and its statistics, from the point of
+ * view of the seat that made it. {@code available} counts the iterations in which the move was
+ * legal, which stands in for the parent's visits in the selection formula, since a move that only
+ * exists in some determinizations should not be penalized for the others.
+ */
+final class Node {
+  private static final double EXPLORATION = 0.7;
+
+  final Node parent;
+  final Move move;
+  final int mover;
+  final Map<Move, Node> children = new HashMap<>();
+  int visits;
+  int wins;
+  int available;
+
+  Node(Node parent, Move move, int mover) {
+    this.parent = parent;
+    this.move = move;
+    this.mover = mover;
+  }
+
+  Node add(Move move, int mover) {
+    Node child = new Node(this, move, mover);
+    children.put(move, child);
+    return child;
+  }
+
+  double score() {
+    return (double) wins / visits + EXPLORATION * Math.sqrt(Math.log(available) / visits);
+  }
+}
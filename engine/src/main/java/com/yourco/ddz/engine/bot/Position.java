@@ -0,0 +1,169 @@
+package com.yourco.ddz.engine.bot;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Hand;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.engine.core.MoveGenerator;
+import com.yourco.ddz.engine.core.PlayedHand;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * The PLAY phase reduced to what search needs: hands by seat, teams, the lead and the turn. Moves
+ * are applied the way {@link com.yourco.ddz.engine.core.DdzRules} applies them, but without the
+ * action log, events and scoring, so thousands of copies per move stay cheap.
+ *
+ * <p>A position made by {@link #observe} holds only what the observer may know: its own hand and
+ * how many cards everyone else has. The other hands are filled in by {@link #determinize}, which
+ * deals the cards the observer cannot see at random.
+ */
+final class Position {
+  private final MoveGenerator generator;
+  private final boolean[] landlords;
+  private final Hand[] hands;
+  private final int observer;
+  // The cards held by everyone but the observer, to be redealt by determinize
+  private final Card[] unseen;
+
+  private int current;
+  private PlayedHand lead;
+  private int passes;
+  private int winner = -1;
+
+  private Position(
+      MoveGenerator generator, boolean[] landlords, Hand[] hands, int observer, Card[] unseen) {
+    this.generator = generator;
+    this.landlords = landlords;
+    this.hands = hands;
+    this.observer = observer;
+    this.unseen = unseen;
+  }
+
+  /** The PLAY-phase position as {@code observer} sees it. */
+  static Position observe(GameState s, UUID observer, MoveGenerator generator) {
+    List<UUID> players = s.players();
+    int n = players.size();
+    boolean[] landlords = new boolean[n];
+    Hand[] hands = new Hand[n];
+    List<Card> unseen = new ArrayList<>();
+    for (int seat = 0; seat < n; seat++) {
+      UUID p = players.get(seat);
+      landlords[seat] = s.isLandlord(p);
+      hands[seat] = new Hand(s.handOf(p));
+      if (!p.equals(observer)) {
+        unseen.addAll(hands[seat]);
+      }
+    }
+    Position position =
+        new Position(generator, landlords, hands, s.seatOf(observer), unseen.toArray(Card[]::new));
+    position.current = s.currentPlayerIndex();
+    position.lead = s.getCurrentLead();
+    position.passes = s.passesInRow();
+    return position;
+  }
+
+  /** A copy with the unseen cards shuffled and dealt back out, each player keeping their count. */
+  Position determinize(RandomGenerator random) {
+    Card[] deck = unseen.clone();
+    for (int i = deck.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      Card t = deck[i];
+      deck[i] = deck[j];
+      deck[j] = t;
+    }
+    Hand[] dealt = new Hand[hands.length];
+    int pos = 0;
+    for (int seat = 0; seat < hands.length; seat++) {
+      if (seat == observer) {
+        dealt[seat] = new Hand(hands[seat]);
+        continue;
+      }
+      dealt[seat] = new Hand();
+      for (int k = hands[seat].size(); k > 0; k--) {
+        dealt[seat].add(deck[pos++]);
+      }
+    }
+    Position copy = new Position(generator, landlords, dealt, observer, unseen);
+    copy.current = current;
+    copy.lead = lead;
+    copy.passes = passes;
+    copy.winner = winner;
+    return copy;
+  }
+
+  /**
+   * Legal moves for the player to act; null stands for passing, allowed whenever there is a lead.
+   */
+  List<PlayedHand> moves() {
+    List<PlayedHand> moves = new ArrayList<>(generator.legalPlays(hands[current], lead).toList());
+    if (lead != null) {
+      moves.add(null);
+    }
+    return moves;
+  }
+
+  /** Play the current player's move, or pass for null. */
+  void apply(PlayedHand play) {
+    int n = hands.length;
+    if (play == null) {
+      passes++;
+      current = (current + 1) % n;
+      // Round closes when everyone but the lead player has passed
+      if (passes >= n - 1) {
+        lead = null;
+        passes = 0;
+      }
+      return;
+    }
+    hands[current].removeEach(play.cards());
+    lead = play;
+    passes = 0;
+    if (hands[current].isEmpty()) {
+      winner = current;
+      return;
+    }
+    current = (current + 1) % n;
+  }
+
+  /**
+   * Play out the rest of the game with a cheap default policy: lead a random play, and follow with
+   * the cheapest beating play three times in four, passing otherwise.
+   */
+  void rollout(RandomGenerator random) {
+    while (winner < 0) {
+      PlayedHand play;
+      if (lead == null) {
+        List<PlayedHand> plays = generator.legalPlays(hands[current], null).toList();
+        play = plays.get(random.nextInt(plays.size()));
+      } else if (random.nextInt(4) == 0) {
+        play = null;
+      } else {
+        play = generator.legalPlays(hands[current], lead).findFirst().orElse(null);
+      }
+      apply(play);
+    }
+  }
+
+  int current() {
+    return current;
+  }
+
+  boolean over() {
+    return winner >= 0;
+  }
+
+  /** Seat that emptied its hand, or -1 while the game goes on. */
+  int winner() {
+    return winner;
+  }
+
+  boolean sameTeam(int a, int b) {
+    return landlords[a] == landlords[b];
+  }
+
+  Hand hand(int seat) {
+    return hands[seat];
+  }
+}
@@ -0,0 +1,27 @@
+package com.yourco.ddz.engine.bot;
+
+import java.time.Duration;
+
+/**
+ * How much search {@link IsmctsBot} may spend on one move: it stops at whichever limit comes first.
+ * Every search worker completes at least one iteration, so a bot on a saturated pool still answers,
+ * just with a shallower search.
+ *
+ * @param time wall-clock limit per move
+ * @param iterations total determinize-select-rollout iterations per move, across all workers
+ */
+public record SearchBudget(Duration time, int iterations) {
+  public SearchBudget {
+    if (time.isNegative() || time.isZero()) {
+      throw new IllegalArgumentException("Search time must be positive: " + time);
+    }
+    if (iterations < 1) {
+      throw new IllegalArgumentException("Search iterations must be at least 1: " + iterations);
+    }
+  }
+
+  /** A budget limited only by iterations, for reproducible searches. */
+  public static SearchBudget iterations(int iterations) {
+    return new SearchBudget(Duration.ofDays(1), iterations);
+  }
+}
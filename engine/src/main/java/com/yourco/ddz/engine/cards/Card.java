@@ -32,12 +32,59 @@ public final class Card {
     BIG_JOKER
   }
 
+  /** Number of distinct cards in one deck (13 ranks x 4 suits + 2 jokers). */
+  public static final int DISTINCT = 54;
+
+  private static final Card[] BY_INDEX = new Card[DISTINCT];
+
+  static {
+    for (Rank r : Rank.values()) {
+      for (Suit s : Suit.values()) {
+        int i = indexOf(s, r);
+        if (i >= 0) BY_INDEX[i] = new Card(s, r);
+      }
+    }
+  }
+
   private final Suit suit;
   private final Rank rank;
+  private final int index;
 
   public Card(Suit suit, Rank rank) {
     this.suit = suit;
     this.rank = rank;
+    this.index = indexOf(suit, rank);
+  }
+
+  /**
+   * Returns the shared instance for a card index.
+   *
+   * @param index 0-51 for ranked cards (ordered by rank, then suit), 52 little joker, 53 big joker
+   */
+  public static Card of(int index) {
+    return BY_INDEX[index];
+  }
+
+  /** Returns the shared instance for a suit/rank, or throws if the pair is not a real card. */
+  public static Card of(Suit suit, Rank rank) {
+    int i = indexOf(suit, rank);
+    if (i < 0) {
+      throw new IllegalArgumentException("Not a valid card: " + rank + " of " + suit);
+    }
+    return BY_INDEX[i];
+  }
+
+  /**
+   * Dense index of a suit/rank pair, ordered by rank then suit so that ascending index order is
+   * also ascending rank order. Jokers only exist in the JOKER suit; any other mismatch is -1.
+   */
+  static int indexOf(Suit suit, Rank rank) {
+    if (suit == null || rank == null) return -1;
+    boolean jokerRank = rank == Rank.LITTLE_JOKER || rank == Rank.BIG_JOKER;
+    if (jokerRank != (suit == Suit.JOKER)) return -1;
+    if (rank == Rank.LITTLE_JOKER) return 52;
+    if (rank == Rank.BIG_JOKER) return 53;
+    return rank.ordinal() * 4 + suit.ordinal();
   }
 
   public Suit suit() {
@@ -48,6 +95,11 @@ public final class Card {
     return rank;
   }
 
+  /** Dense card index (see {@link #of(int)}), or -1 if this suit/rank pair is not a real card. */
+  public int index() {
+    return index;
+  }
+
   public interface HandPattern {
     Optional<PlayedHand> match(List<Card> cards);
   }
@@ -0,0 +1,56 @@
+package com.yourco.ddz.engine.cards;
+
+import java.util.Collection;
+import java.util.random.RandomGenerator;
+
+/**
+ * Deals from one or more decks by shuffling a primitive array of card indices (see {@link
+ * Card#index()}) instead of lists of card objects. Cards are materialized as the shared {@link
+ * Card#of(int)} instances only when they are handed out.
+ *
+ * <p>Every shuffle starts from the canonical deck order, so the same generator state always
+ * produces the same deal. Not thread-safe; use one dealer per game.
+ */
+public final class Dealer {
+  private final int[] canonical;
+  private final int[] order;
+
+  public Dealer(int deckCount) {
+    if (deckCount < 1) {
+      throw new IllegalArgumentException("Deck count must be at least 1");
+    }
+    canonical = new int[deckCount * Card.DISTINCT];
+    for (int i = 0; i < canonical.length; i++) {
+      canonical[i] = i % Card.DISTINCT;
+    }
+    order = canonical.clone();
+  }
+
+  /** Total number of cards across all decks. */
+  public int size() {
+    return order.length;
+  }
+
+  /** Reset to canonical order and Fisher-Yates shuffle with the given generator. */
+  public void shuffle(RandomGenerator random) {
+    System.arraycopy(canonical, 0, order, 0, order.length);
+    for (int i = order.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int tmp = order[i];
+      order[i] = order[j];
+      order[j] = tmp;
+    }
+  }
+
+  /** The card at a position in the current order. */
+  public Card get(int position) {
+    return Card.of(order[position]);
+  }
+
+  /** Add the cards at positions [from, to) of the current order to {@code target}. */
+  public void deal(int from, int to, Collection<Card> target) {
+    for (int i = from; i < to; i++) {
+      target.add(Card.of(order[i]));
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.yourco.ddz.engine.cards;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public final class Deck {
   private final List<Card> cards = new ArrayList<>();
@@ -24,11 +25,11 @@ public final class Deck {
             Card.Rank.ACE,
             Card.Rank.TWO
           }) {
-        cards.add(new Card(s, r));
+        cards.add(Card.of(s, r));
       }
     }
-    cards.add(new Card(Card.Suit.JOKER, Card.Rank.LITTLE_JOKER));
-    cards.add(new Card(Card.Suit.JOKER, Card.Rank.BIG_JOKER));
+    cards.add(Card.of(Card.Suit.JOKER, Card.Rank.LITTLE_JOKER));
+    cards.add(Card.of(Card.Suit.JOKER, Card.Rank.BIG_JOKER));
   }
 
   public List<Card> asList() {
@@ -38,4 +39,8 @@ public final class Deck {
   public void shuffle() {
     Collections.shuffle(cards);
   }
+
+  public void shuffle(RandomGenerator random) {
+    Collections.shuffle(cards, random);
+  }
 }
@@ -0,0 +1,199 @@
+package com.yourco.ddz.engine.cards;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A multiset of cards stored as a count per distinct card (see {@link Card#index()}) instead of a
+ * list of objects. Works for any number of decks.
+ *
+ * <p>Membership, add and remove are O(1); {@link #containsAll} and {@link #removeAll} are O(size of
+ * the argument). Those two follow the {@link java.util.List} contract and ignore how many copies
+ * are listed; to play cards from a multi-deck hand use {@link #containsEach} and {@link
+ * #removeEach}, which count them. The list view always iterates in ascending rank order (then suit)
+ * using the shared {@link Card#of(int)} instances, so no sorting is ever needed and iteration does
+ * not allocate cards.
+ */
+public final class Hand extends AbstractList<Card> {
+  private static final int RANKS = Card.Rank.values().length;
+
+  private final int[] counts = new int[Card.DISTINCT];
+  private final int[] rankCounts = new int[RANKS];
+  private long present; // bit i set when counts[i] > 0
+  private int size;
+
+  public Hand() {}
+
+  public Hand(Collection<Card> cards) {
+    addAll(cards);
+  }
+
+  /** Number of copies of this exact card (suit and rank) in the hand. */
+  public int count(Card card) {
+    int i = card.index();
+    return i < 0 ? 0 : counts[i];
+  }
+
+  /** Number of cards of this rank in the hand, across all suits. */
+  public int count(Card.Rank rank) {
+    return rankCounts[rank.ordinal()];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean add(Card card) {
+    int i = card.index();
+    if (i < 0) {
+      throw new IllegalArgumentException("Not a valid card: " + card);
+    }
+    counts[i]++;
+    rankCounts[card.rank().ordinal()]++;
+    present |= 1L << i;
+    size++;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends Card> cards) {
+    for (Card c : cards) add(c);
+    return !cards.isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof Card c && count(c) > 0;
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> cards) {
+    for (Object o : cards) {
+      if (!contains(o)) return false;
+    }
+    return true;
+  }
+
+  /** Removes one copy of the card, if present. */
+  @Override
+  public boolean remove(Object o) {
+    if (!(o instanceof Card c) || count(c) == 0) return false;
+    decrement(c.index(), 1);
+    return true;
+  }
+
+  /** Removes every copy of each listed card, matching {@link java.util.List#removeAll}. */
+  @Override
+  public boolean removeAll(Collection<?> cards) {
+    boolean changed = false;
+    for (Object o : cards) {
+      if (o instanceof Card c && count(c) > 0) {
+        decrement(c.index(), counts[c.index()]);
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * True if the hand holds every listed card as many times as it is listed, so two 7♠ need two
+   * copies. O(size of the argument).
+   */
+  public boolean containsEach(Collection<Card> cards) {
+    int[] needed = new int[Card.DISTINCT];
+    for (Card c : cards) {
+      int i = c.index();
+      if (i < 0 || ++needed[i] > counts[i]) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Removes one copy per listed card, if the hand holds them all ({@link #containsEach}); otherwise
+   * leaves the hand untouched. O(size of the argument).
+   *
+   * @return whether the cards were removed
+   */
+  public boolean removeEach(Collection<Card> cards) {
+    int removed = 0;
+    for (Card c : cards) {
+      int i = c.index();
+      if (i < 0 || counts[i] == 0) {
+        // Put back what was taken so far
+        for (Card back : cards) {
+          if (removed-- == 0) break;
+          add(back);
+        }
+        return false;
+      }
+      decrement(i, 1);
+      removed++;
+    }
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(counts, 0);
+    Arrays.fill(rankCounts, 0);
+    present = 0;
+    size = 0;
+  }
+
+  @Override
+  public Card get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    long bits = present;
+    while (true) {
+      int i = Long.numberOfTrailingZeros(bits);
+      if (index < counts[i]) return Card.of(i);
+      index -= counts[i];
+      bits &= bits - 1;
+    }
+  }
+
+  @Override
+  public Iterator<Card> iterator() {
+    return new Iterator<>() {
+      private long bits = present;
+      private int current = -1;
+      private int remaining = 0; // copies of `current` still to return
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0 || bits != 0;
+      }
+
+      @Override
+      public Card next() {
+        if (remaining == 0) {
+          if (bits == 0) throw new NoSuchElementException();
+          current = Long.numberOfTrailingZeros(bits);
+          bits &= bits - 1;
+          remaining = counts[current];
+        }
+        remaining--;
+        return Card.of(current);
+      }
+    };
+  }
+
+  private void decrement(int i, int n) {
+    counts[i] -= n;
+    rankCounts[Card.of(i).rank().ordinal()] -= n;
+    if (counts[i] == 0) present &= ~(1L << i);
+    size -= n;
+  }
+}
@@ -1,18 +1,27 @@
 package com.yourco.ddz.engine.core;
 
 import com.yourco.ddz.engine.cards.Card;
-import com.yourco.ddz.engine.cards.Deck;
+import com.yourco.ddz.engine.cards.Dealer;
+import com.yourco.ddz.engine.core.MoveResult.Code;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public final class DdzRules implements Rules {
   private final PlayDetector detector;
   private final PlayComparator comparator;
   private final GameConfig config;
+  private final Dealer dealer;
+  // Draws one seed per game; rooted at the config seed when there is one
+  private final RandomGenerator seeds;
 
   public DdzRules(GameConfig config) {
-    this.detector = HandDetector.defaultDdz();
+    this.detector = new HistogramHandDetector();
     this.comparator = Objects.requireNonNull(new SimplePlayComparator());
     this.config = Objects.requireNonNull(config);
+    this.dealer = new Dealer(config.getDeckCount());
+    Long seed = config.getSeed();
+    this.seeds = config.newRandom(seed != null ? seed : ThreadLocalRandom.current().nextLong());
   }
 
   /** Convenience factory for standard 3-player game. */
@@ -31,26 +40,58 @@ public final class DdzRules implements Rules {
 
   @Override
   public void apply(GameState s, GameAction a) {
-    switch (s.phase()) {
-      case LOBBY -> onStart(s, a); // expect SystemAction("START")
-      case PLAY -> onPlay(s, a); // expect PlayerAction("PLAY", List<Card> or null for PASS)
-      case BIDDING -> onBidOrSelectLandlord(s, a);
-      case SCORING -> throw new IllegalStateException("Game over");
-      case TERMINATED -> onRestart(s, a); // Allow restarting from terminated state
+    handle(s, a, true).orThrow();
+  }
+
+  @Override
+  public MoveResult validate(GameState s, GameAction a) {
+    return handle(s, a, false);
+  }
+
+  @Override
+  public MoveResult tryApply(GameState s, GameAction a) {
+    return handle(s, a, true);
+  }
+
+  /**
+   * Validate an action and, if it is accepted and {@code commit} is set, apply it. Every phase
+   * handler runs its checks before touching the state, so a rejection never leaves partial changes.
+   */
+  private MoveResult handle(GameState s, GameAction a, boolean commit) {
+    return switch (s.phase()) {
+      case LOBBY -> onStart(s, a, commit); // expect SystemAction("START")
+      case PLAY -> onPlay(s, a, commit); // expect PlayerAction("PLAY", List<Card> or null for PASS)
+      case BIDDING -> onBidOrSelectLandlord(s, a, commit);
+      case SCORING -> MoveResult.reject(Code.GAME_OVER, "Game over");
+      case TERMINATED -> onRestart(s, a, commit); // Allow restarting from terminated state
       default -> throw new IllegalStateException("Unsupported phase: " + s.phase());
-    }
+    };
   }
 
-  private void onBidOrSelectLandlord(GameState s, GameAction a) {
+  private MoveResult onBidOrSelectLandlord(GameState s, GameAction a, boolean commit) {
     if (!(a instanceof PlayerAction pa)) {
-      throw new IllegalArgumentException("Expected PlayerAction");
+      return MoveResult.reject(Code.WRONG_ACTION, "Expected PlayerAction");
     }
 
     // Check if we're in landlord selection mode
     if (s.getAwaitingLandlordSelection() != null) {
-      DdzRulesLandlordSelection.onSelectLandlord(s, pa, config);
-    } else {
-      DdzRulesBidding.onBid(s, a, config);
+      return DdzRulesLandlordSelection.selectLandlord(s, pa, config, commit);
+    }
+    return DdzRulesBidding.bid(s, pa, config, commit);
+  }
+
+  /**
+   * Prepare a state restored from a snapshot to continue play. The generator is re-seeded from the
+   * recorded seed and, once the cards are dealt, the shuffle is redone so the draws that follow
+   * (the bidding tie-break) match the original game.
+   */
+  public void resume(GameState s) {
+    if (s.rngSeed() == null) {
+      return;
+    }
+    s.seedRandom(s.rngAlgorithm(), s.rngSeed());
+    if (s.phase() != GameState.Phase.LOBBY) {
+      dealer.shuffle(s.random());
     }
   }
 
@@ -75,7 +116,7 @@ public final class DdzRules implements Rules {
     }
 
     if (winner == null) {
-      System.out.println("No winner found - game may have ended abnormally");
+      s.events().onWarning(s, "No winner found - game may have ended abnormally");
       return;
     }
 
@@ -99,26 +140,14 @@ public final class DdzRules implements Rules {
     if (landlordWon && !s.getFarmersPlayed()) {
       spring = true;
       multiplierExponent++; // Spring doubles the score
-      System.out.println("SPRING! Landlord won before farmers played any cards!");
     } else if (!landlordWon && !s.getLandlordPlayed()) {
       antiSpring = true;
       multiplierExponent++; // Anti-spring doubles the score
-      System.out.println("ANTI-SPRING! Farmers won before landlord played any cards!");
     }
 
     // Final score = base × 2^multiplier
     int finalScore = baseScore * (int) Math.pow(2, multiplierExponent);
 
-    System.out.println("=== SCORING ===");
-    System.out.println("Winner: " + winner);
-    System.out.println("Base score (bid): " + baseScore);
-    System.out.println("Bombs played: " + s.getBombsPlayed());
-    System.out.println("Rockets played: " + s.getRocketsPlayed());
-    System.out.println("Spring: " + spring);
-    System.out.println("Anti-spring: " + antiSpring);
-    System.out.println("Multiplier exponent: " + multiplierExponent);
-    System.out.println("Final score: " + finalScore);
-
     // Distribute scores
     int numFarmers = s.players().size() - config.getLandlordCount();
 
@@ -132,8 +161,6 @@ public final class DdzRules implements Rules {
           s.addScore(p, -finalScore * config.getLandlordCount());
         }
       }
-      System.out.println("Each landlord +" + (finalScore * numFarmers));
-      System.out.println("Each farmer -" + (finalScore * config.getLandlordCount()));
     } else {
       // Farmers win: each landlord loses finalScore to each farmer
       for (UUID landlord : s.getLandlordIds()) {
@@ -144,139 +171,144 @@ public final class DdzRules implements Rules {
           s.addScore(p, finalScore * config.getLandlordCount());
         }
       }
-      System.out.println("Each landlord -" + (finalScore * numFarmers));
-      System.out.println("Each farmer +" + (finalScore * config.getLandlordCount()));
     }
 
-    System.out.println("Final scores: " + s.getScores());
-    System.out.println("===============");
+    s.events()
+        .onScored(
+            s,
+            new GameEventListener.ScoreBreakdown(
+                winner,
+                landlordWon,
+                baseScore,
+                s.getBombsPlayed(),
+                s.getRocketsPlayed(),
+                spring,
+                antiSpring,
+                multiplierExponent,
+                finalScore));
   }
 
   /* ====== RESTART → reset state and start a new game ====== */
-  private void onRestart(GameState s, GameAction a) {
+  private MoveResult onRestart(GameState s, GameAction a, boolean commit) {
     if (!(a instanceof SystemAction sa) || !"START".equals(sa.type())) {
-      throw new IllegalArgumentException("Expected System START");
+      return MoveResult.reject(Code.WRONG_ACTION, "Expected System START");
     }
+    if (!commit) return MoveResult.ACCEPTED;
 
-    System.out.println("===============");
-    System.out.println("RESTARTING GAME: " + s.gameId());
-    System.out.println("===============");
+    s.events().onRestart(s);
 
     // Reset all game state while keeping players
     s.resetForNewGame();
 
     // Now start a new game (deal cards, enter BIDDING)
-    onStart(s, a);
+    return onStart(s, a, true);
   }
 
   /* ====== START → deal cards, save bottom cards, enter BIDDING ====== */
-  private void onStart(GameState s, GameAction a) {
+  private MoveResult onStart(GameState s, GameAction a, boolean commit) {
     if (!(a instanceof SystemAction sa) || !"START".equals(sa.type())) {
-      throw new IllegalArgumentException("Expected System START");
+      return MoveResult.reject(Code.WRONG_ACTION, "Expected System START");
     }
+    if (!commit) return MoveResult.ACCEPTED;
 
-    var pool = getCardPool();
-
-    deal_player_hands(s, pool);
-
-    // Save remaining cards as "bottom" for landlord
-    s.setBottom(List.copyOf(pool));
-    System.out.println("Bottom cards (for landlord): " + pool);
+    // A replay arrives with the recorded seed already set
+    if (s.rngSeed() == null) {
+      s.seedRandom(config.getRngAlgorithm(), seeds.nextLong());
+    }
+    dealer.shuffle(s.random());
 
-    // Sort all hands for display
+    // Each player gets a contiguous slice of the shuffled order
+    int perPlayer = config.getCardsPerPlayer();
+    int dealt = perPlayer * s.players().size();
+    if (dealt > dealer.size()) {
+      throw new IllegalStateException("Not enough cards to deal " + s.players().size() + " hands");
+    }
+    int pos = 0;
     for (UUID p : s.players()) {
-      Collections.sort(s.handOf(p), Comparator.comparing(Card::rank));
-      System.out.println("Sorted hand for " + p + ": " + s.handOf(p));
+      dealer.deal(pos, pos + perPlayer, s.handOf(p));
+      pos += perPlayer;
     }
 
+    // Save remaining cards as "bottom" for landlord
+    List<Card> bottom = new ArrayList<>(dealer.size() - dealt);
+    dealer.deal(dealt, dealer.size(), bottom);
+    s.setBottom(bottom);
+
     // Initialize bidding state
     s.clearBiddingState();
     s.setCurrentPlayerIndex(0);
 
     // Transition to BIDDING phase
     s.setPhase(GameState.Phase.BIDDING);
-  }
-
-  private void deal_player_hands(GameState s, ArrayList<Card> pool) {
-    int num_cards_per_player = config.getCardsPerPlayer();
-    for (int i = 0; i < num_cards_per_player; i++) {
-      for (UUID p : s.players()) {
-        s.handOf(p).add(pool.removeFirst());
-        System.out.println(s.handOf(p));
-      }
-    }
-  }
-
-  private ArrayList<Card> getCardPool() {
-    var pool = new ArrayList<Card>();
-    for (int i = 0; i < config.getDeckCount(); i++) {
-      var deck = new Deck();
-      pool.addAll(deck.asList());
-    }
-    Collections.shuffle(pool);
-    return pool;
+    s.events().onDeal(s, s.bottom());
+    return MoveResult.ACCEPTED;
   }
 
   /* ====== PLAY → detect/validate/apply or PASS ====== */
-  private void onPlay(GameState s, GameAction a) {
+  private MoveResult onPlay(GameState s, GameAction a, boolean commit) {
     if (!(a instanceof PlayerAction pa)) {
-      throw new IllegalArgumentException("Expected PlayerAction");
+      return MoveResult.reject(Code.WRONG_ACTION, "Expected PlayerAction");
     }
     if (!pa.playerId().equals(s.currentPlayerId())) {
-      throw new IllegalStateException("Not your turn");
+      return MoveResult.reject(Code.NOT_YOUR_TURN, "Not your turn");
     }
 
     // PASS: null payload (leader cannot pass if no current lead)
     if (pa.payload() == null) {
-      onPass(s);
-      return;
+      return onPass(s, pa.playerId(), commit);
     }
 
     // Expect List<Card> as the raw move
     if (!(pa.payload() instanceof List<?> raw) || raw.isEmpty()) {
-      throw new IllegalArgumentException("Bad payload");
+      return MoveResult.reject(Code.BAD_PAYLOAD, "Bad payload");
     }
     @SuppressWarnings("unchecked")
     List<Card> cards = (List<Card>) raw;
 
     // Detect combo
     var maybe = detector.detect(cards);
-    if (maybe.isEmpty()) throw new IllegalStateException("Invalid combo");
+    if (maybe.isEmpty()) return MoveResult.reject(Code.INVALID_COMBO, "Invalid combo");
     var hand = maybe.get();
 
     // Validate kicker rules for 5+ player games
     if (config.getPlayerCount() >= 5) {
       if (hand.type() == ComboType.TRIPLE_WITH_SINGLE) {
-        throw new IllegalStateException(
+        return MoveResult.reject(
+            Code.KICKER_NOT_ALLOWED,
             "Single kickers not allowed in 5+ player games. Use TRIPLE_WITH_PAIR instead.");
       }
       if (hand.type() == ComboType.AIRPLANE_WITH_SINGLES) {
-        throw new IllegalStateException(
+        return MoveResult.reject(
+            Code.KICKER_NOT_ALLOWED,
             "Single kickers not allowed in 5+ player games. Use AIRPLANE_WITH_PAIRS instead.");
       }
       if (hand.type() == ComboType.BOMB_WITH_SINGLES) {
-        throw new IllegalStateException(
+        return MoveResult.reject(
+            Code.KICKER_NOT_ALLOWED,
             "Single kickers not allowed in 5+ player games. Use BOMB_WITH_PAIRS instead.");
       }
     }
 
-    // Own the cards
-    System.out.println("hand of pa " + pa.playerId() + ": " + s.handOf(pa.playerId()));
-    System.out.println("Hand Type: " + hand.type());
-    System.out.println("Cards in Hand: " + hand.cards());
-    if (!s.handOf(pa.playerId()).containsAll(hand.cards())) {
-      throw new IllegalStateException("Card(s) not in hand");
+    // Own the cards, counting copies: with several decks a hand may hold the same card twice
+    if (!s.handOf(pa.playerId()).containsEach(hand.cards())) {
+      return MoveResult.reject(Code.CARDS_NOT_IN_HAND, "Card(s) not in hand");
     }
 
     // Must beat current lead if exists
     var lead = s.getCurrentLead();
     if (lead != null) {
+      if (!comparable(hand, lead)) {
+        return MoveResult.reject(
+            Code.DOES_NOT_MATCH_LEAD,
+            "Must play " + lead.type() + " of " + lead.cards().size() + " cards, or a bomb");
+      }
       int cmp = comparator.compare(hand, lead);
-      if (cmp <= 0) throw new IllegalStateException("Does not beat current lead");
+      if (cmp <= 0) return MoveResult.reject(Code.DOES_NOT_BEAT_LEAD, "Does not beat current lead");
     }
+    if (!commit) return MoveResult.ACCEPTED;
 
     // Apply play
-    s.handOf(pa.playerId()).removeAll(hand.cards());
+    s.handOf(pa.playerId()).removeEach(hand.cards());
     s.setCurrentLead(hand);
     s.setCurrentLeadPlayer(pa.playerId());
     s.setPassesInRow(0);
@@ -285,13 +317,8 @@ public final class DdzRules implements Rules {
     // Note: Only PURE bombs count for multiplier, not bombs with kickers
     if (hand.type() == ComboType.BOMB) {
       s.incrementBombsPlayed();
-      System.out.println("PURE BOMB played! Total bombs: " + s.getBombsPlayed());
     } else if (hand.type() == ComboType.ROCKET) {
       s.incrementRocketsPlayed();
-      System.out.println("ROCKET played! Total rockets: " + s.getRocketsPlayed());
-    } else if (hand.type() == ComboType.BOMB_WITH_SINGLES
-        || hand.type() == ComboType.BOMB_WITH_PAIRS) {
-      System.out.println("BOMB WITH KICKERS played (does not count for multiplier)");
     }
 
     // Track first play for spring/anti-spring detection
@@ -300,28 +327,45 @@ public final class DdzRules implements Rules {
     } else {
       s.setFarmersPlayed(true);
     }
+    s.events().onPlay(s, pa.playerId(), hand);
 
     // Terminal: hand empty
     // Win condition: ANY landlord empties hand = landlords win, ANY farmer empties = farmers win
     if (s.handOf(pa.playerId()).size() == 0) {
-      System.out.println("Player " + pa.playerId() + " won!");
       boolean landlordWon = s.isLandlord(pa.playerId());
-      System.out.println(landlordWon ? "LANDLORDS WIN!" : "FARMERS WIN!");
       s.setPhase(GameState.Phase.TERMINATED);
-      score(s); // Calculate scores when game ends
-      return;
+      s.events().onGameOver(s, pa.playerId(), landlordWon);
+      // Scored by the GameLoop, once, as it sees the game end
+      return MoveResult.ACCEPTED;
     }
 
     // Next turn
     s.nextPlayer();
+    return MoveResult.ACCEPTED;
+  }
+
+  /** Bombs and the rocket can be played on anything; other plays must match type and size. */
+  private static boolean comparable(PlayedHand hand, PlayedHand lead) {
+    return isBombOrRocket(hand.type())
+        || isBombOrRocket(lead.type())
+        || (hand.type() == lead.type() && hand.cards().size() == lead.cards().size());
+  }
+
+  private static boolean isBombOrRocket(ComboType type) {
+    return type == ComboType.BOMB
+        || type == ComboType.BOMB_WITH_SINGLES
+        || type == ComboType.BOMB_WITH_PAIRS
+        || type == ComboType.ROCKET;
   }
 
-  private void onPass(GameState s) {
+  private MoveResult onPass(GameState s, UUID playerId, boolean commit) {
     if (s.getCurrentLead() == null) {
-      throw new IllegalStateException("Leader must play; cannot PASS");
+      return MoveResult.reject(Code.LEADER_CANNOT_PASS, "Leader must play; cannot PASS");
     }
+    if (!commit) return MoveResult.ACCEPTED;
     s.setPassesInRow(s.passesInRow() + 1);
     s.nextPlayer();
+    s.events().onPass(s, playerId);
 
     // Round closes when (totalPlayers - 1) consecutive passes occur
     // This means everyone except the current lead player has passed
@@ -331,11 +375,8 @@ public final class DdzRules implements Rules {
       s.setCurrentLead(null);
       s.setCurrentLeadPlayer(null);
       s.setPassesInRow(0);
-      System.out.println(
-          "Round over after "
-              + passesNeeded
-              + " passes. Next player leads: "
-              + s.players().get(s.currentPlayerIndex()));
+      s.events().onRoundOver(s, s.currentPlayerId());
     }
+    return MoveResult.ACCEPTED;
   }
 }
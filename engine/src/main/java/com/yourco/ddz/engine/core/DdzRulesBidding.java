@@ -1,53 +1,49 @@
 package com.yourco.ddz.engine.core;
 
+import com.yourco.ddz.engine.core.MoveResult.Code;
 import java.util.*;
 
 /** Bidding logic for DdzRules - extract for easier editing */
 public class DdzRulesBidding {
 
+  /** Apply a bid, throwing if it is not allowed. */
   public static void onBid(GameState s, GameAction a, GameConfig config) {
+    bid(s, a, config, true).orThrow();
+  }
+
+  /** Validate a bid and, if it is accepted and {@code commit} is set, apply it. */
+  static MoveResult bid(GameState s, GameAction a, GameConfig config, boolean commit) {
     if (!(a instanceof PlayerAction pa)) {
-      throw new IllegalArgumentException("Expected PlayerAction");
+      return MoveResult.reject(Code.WRONG_ACTION, "Expected PlayerAction");
     }
     if (!pa.playerId().equals(s.currentPlayerId())) {
-      throw new IllegalStateException("Not your turn");
+      return MoveResult.reject(Code.NOT_YOUR_TURN, "Not your turn");
     }
 
     // Expect Bid as the raw move
     if (!(pa.payload() instanceof Bid bid)) {
-      throw new IllegalArgumentException("Bad payload");
+      return MoveResult.reject(Code.BAD_PAYLOAD, "Bad payload");
     }
 
     int value = bid.getValue();
     if (value < 0 || value > config.getMaxBid()) {
-      throw new IllegalArgumentException("Bid must be between 0 and " + config.getMaxBid());
+      return MoveResult.reject(
+          Code.BID_OUT_OF_RANGE, "Bid must be between 0 and " + config.getMaxBid());
     }
+    if (!commit) return MoveResult.ACCEPTED;
 
     // Record the player's bid
     s.setPlayerBid(pa.playerId(), value);
-    System.out.println(
-        s.getPlayerName(pa.playerId()) + " bid " + value + (value == 0 ? " (passed)" : ""));
+    s.events().onBid(s, pa.playerId(), value);
 
     // Move to next player
     s.nextPlayer();
 
     // Check if everyone has bid
     if (s.hasEveryoneBid()) {
-      System.out.println("\n=== ALL BIDS RECEIVED ===");
-      displayAllBids(s);
       resolveLandlordsFromBids(s, config);
     }
-  }
-
-  private static void displayAllBids(GameState s) {
-    System.out.println("Player bids:");
-    for (UUID playerId : s.players()) {
-      int bid = s.getPlayerBid(playerId);
-      System.out.println(
-          "  " + s.getPlayerName(playerId) + ": " + bid + (bid == 0 ? " (passed)" : ""));
-    }
-    System.out.println("Highest bid: " + s.getHighestBid());
-    System.out.println("========================\n");
+    return MoveResult.ACCEPTED;
   }
 
   public static void resolveLandlordsFromBids(GameState s, GameConfig config) {
@@ -55,8 +51,8 @@ public class DdzRulesBidding {
 
     if (highestBidders.isEmpty()) {
       // Everyone passed, give landlord to first player by default
-      System.out.println("Everyone passed. First player becomes landlord by default.");
       UUID firstPlayer = s.players().get(0);
+      s.events().onBiddingResolved(s, firstPlayer, highestBidders);
       initializeLandlordSelection(s, firstPlayer, config);
       return;
     }
@@ -65,27 +61,13 @@ public class DdzRulesBidding {
 
     if (highestBidders.size() == 1) {
       primaryLandlord = highestBidders.get(0);
-      System.out.println("\n========================================");
-      System.out.println("PRIMARY LANDLORD: " + s.getPlayerName(primaryLandlord));
-      System.out.println("(Single highest bidder)");
-      System.out.println("========================================\n");
     } else {
       // Multiple players with highest bid - random selection
-      Random random = new Random();
-      int winnerIndex = random.nextInt(highestBidders.size());
+      int winnerIndex = s.random().nextInt(highestBidders.size());
       primaryLandlord = highestBidders.get(winnerIndex);
-
-      System.out.println("\n========================================");
-      System.out.println("=== BID TIE - RANDOM SELECTION ===");
-      System.out.println("Highest bidders (" + s.getHighestBid() + " points):");
-      for (UUID bidder : highestBidders) {
-        System.out.println("  - " + s.getPlayerName(bidder));
-      }
-      System.out.println("\nPRIMARY LANDLORD: " + s.getPlayerName(primaryLandlord));
-      System.out.println("(Selected randomly)");
-      System.out.println("========================================\n");
     }
 
+    s.events().onBiddingResolved(s, primaryLandlord, highestBidders);
     initializeLandlordSelection(s, primaryLandlord, config);
   }
 
@@ -101,12 +83,6 @@ public class DdzRulesBidding {
     } else {
       // Multiple landlords needed - start interactive selection
       s.setAwaitingLandlordSelection(primaryLandlord);
-
-      System.out.println("=== LANDLORD TEAM SELECTION ===");
-      System.out.println("Primary landlord: " + s.getPlayerName(primaryLandlord));
-      System.out.println(
-          "Awaiting selection of " + (config.getLandlordCount() - 1) + " more landlords");
-      System.out.println("================================");
     }
   }
 }
@@ -1,94 +1,73 @@
 package com.yourco.ddz.engine.core;
 
 import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.MoveResult.Code;
 import java.util.*;
 
 /** Landlord selection logic for DdzRules */
 public class DdzRulesLandlordSelection {
 
+  /** Apply a landlord selection, throwing if it is not allowed. */
   public static void onSelectLandlord(GameState s, PlayerAction pa, GameConfig config) {
+    selectLandlord(s, pa, config, true).orThrow();
+  }
+
+  /** Validate a landlord selection and, if it is accepted and {@code commit} is set, apply it. */
+  static MoveResult selectLandlord(
+      GameState s, PlayerAction pa, GameConfig config, boolean commit) {
     UUID selector = s.getAwaitingLandlordSelection();
 
     if (!pa.playerId().equals(selector)) {
-      throw new IllegalStateException("Not your turn to select a landlord");
+      return MoveResult.reject(Code.NOT_YOUR_TURN, "Not your turn to select a landlord");
     }
 
     if (!(pa.payload() instanceof UUID selectedPlayer)) {
-      throw new IllegalArgumentException("Payload must be a UUID (selected player)");
+      return MoveResult.reject(Code.BAD_PAYLOAD, "Payload must be a UUID (selected player)");
     }
 
     // Validate selection
     if (s.getSelectedLandlords().contains(selectedPlayer)) {
-      throw new IllegalStateException("Player already selected as landlord");
+      return MoveResult.reject(
+          Code.LANDLORD_ALREADY_SELECTED, "Player already selected as landlord");
     }
 
     if (!s.players().contains(selectedPlayer)) {
-      throw new IllegalStateException("Selected player not in game");
+      return MoveResult.reject(Code.PLAYER_NOT_IN_GAME, "Selected player not in game");
     }
+    if (!commit) return MoveResult.ACCEPTED;
 
     // Add to landlord team
     s.addSelectedLandlord(selectedPlayer);
-
-    System.out.println(
-        s.getPlayerName(selector)
-            + " selected "
-            + s.getPlayerName(selectedPlayer)
-            + " as landlord");
+    s.events().onLandlordSelected(s, selector, selectedPlayer);
 
     // Check if we need more landlords
     if (s.getSelectedLandlords().size() < config.getLandlordCount()) {
       // Snake draft: next selector is the player we just selected
       s.setAwaitingLandlordSelection(selectedPlayer);
-      System.out.println("Awaiting selection from " + s.getPlayerName(selectedPlayer) + "...");
     } else {
       // All landlords selected, finalize team
       s.setAwaitingLandlordSelection(null);
       List<UUID> landlords = new ArrayList<>(s.getSelectedLandlords());
 
-      System.out.println("Final landlord team: ");
-      for (UUID landlord : landlords) {
-        System.out.println("  - " + s.getPlayerName(landlord));
-      }
-      System.out.println("================================");
-
       // Distribute cards and start play
       distributeLandlordCards(s, landlords);
     }
+    return MoveResult.ACCEPTED;
   }
 
   public static void distributeLandlordCards(GameState s, List<UUID> landlords) {
     s.setLandlordIds(landlords);
 
-    System.out.println("\n=== BOTTOM CARD DISTRIBUTION ===");
-    System.out.println("Landlords (" + landlords.size() + " total):");
-    for (UUID landlord : landlords) {
-      System.out.println("  - " + s.getPlayerName(landlord));
-    }
-
     // Distribute bottom cards evenly among landlords
     var bottom = new ArrayList<>(s.bottom());
-    System.out.println("Bottom cards (" + bottom.size() + " total): " + bottom);
 
     int cardsPerLandlord = bottom.size() / landlords.size();
     int remainder = bottom.size() % landlords.size();
-    System.out.println(
-        "Distribution: " + cardsPerLandlord + " cards per landlord, " + remainder + " extra");
 
     for (int i = 0; i < landlords.size(); i++) {
       UUID landlord = landlords.get(i);
       int cardsToGive = cardsPerLandlord + (i < remainder ? 1 : 0);
 
-      System.out.println(
-          "\n--- Distributing to "
-              + s.getPlayerName(landlord)
-              + " (landlord "
-              + (i + 1)
-              + "/"
-              + landlords.size()
-              + ") ---");
-      System.out.println("Cards to give: " + cardsToGive);
-      System.out.println("Cards remaining in bottom pile: " + bottom.size());
-
       List<Card> landlordBottomCards = new ArrayList<>();
       for (int j = 0; j < cardsToGive; j++) {
         if (!bottom.isEmpty()) {
@@ -96,17 +75,10 @@ public class DdzRulesLandlordSelection {
         }
       }
 
-      int handSizeBefore = s.handOf(landlord).size();
       s.handOf(landlord).addAll(landlordBottomCards);
-      Collections.sort(s.handOf(landlord), Comparator.comparing(Card::rank));
-      int handSizeAfter = s.handOf(landlord).size();
-
-      System.out.println("Cards given: " + landlordBottomCards);
-      System.out.println("Hand size: " + handSizeBefore + " -> " + handSizeAfter);
+      s.events().onBottomCardsGiven(s, landlord, landlordBottomCards);
     }
 
-    System.out.println("\nBottom cards remaining: " + bottom.size() + " (should be 0)");
-
     // Primary landlord (first in list) starts the game
     UUID primaryLandlord = landlords.get(0);
     int landlordIndex = s.players().indexOf(primaryLandlord);
@@ -115,10 +87,8 @@ public class DdzRulesLandlordSelection {
     s.setCurrentLeadPlayer(null);
     s.setPassesInRow(0);
 
-    System.out.println(s.getPlayerName(primaryLandlord) + " starts the game");
-    System.out.println("=================================\n");
-
     // Transition to PLAY phase
     s.setPhase(GameState.Phase.PLAY);
+    s.events().onPlayStarted(s, s.getLandlordIds());
   }
 }
@@ -1,18 +1,30 @@
 package com.yourco.ddz.engine.core;
 
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
 /**
  * Configuration for a Dou Dizhu game, supporting 3-12 players.
  *
  * <p>Includes preset rules for standard games and support for custom "haha funny" high-variance
  * games.
+ *
+ * <p>Randomness (shuffling, bid tie-breaks) comes from a {@link RandomGenerator} algorithm named
+ * here. With a fixed seed (see {@link #withSeed}) every run of the same actions produces the same
+ * deals; without one each set of rules seeds itself randomly.
  */
 public final class GameConfig {
+  /** Default generator: a fast, splittable LXM generator available in every JDK 17+. */
+  public static final String DEFAULT_RNG_ALGORITHM = "L64X128MixRandom";
+
   private final int playerCount;
   private final int deckCount;
   private final int landlordCount;
   private final int landlordExtraCards;
   private final int maxBid;
   private final boolean customDeckSize;
+  private final String rngAlgorithm;
+  private final Long seed;
 
   private GameConfig(
       int playerCount,
@@ -21,6 +33,26 @@ public final class GameConfig {
       int landlordExtraCards,
       int maxBid,
       boolean customDeckSize) {
+    this(
+        playerCount,
+        deckCount,
+        landlordCount,
+        landlordExtraCards,
+        maxBid,
+        customDeckSize,
+        DEFAULT_RNG_ALGORITHM,
+        null);
+  }
+
+  private GameConfig(
+      int playerCount,
+      int deckCount,
+      int landlordCount,
+      int landlordExtraCards,
+      int maxBid,
+      boolean customDeckSize,
+      String rngAlgorithm,
+      Long seed) {
     if (playerCount < 3 || playerCount > 12) {
       throw new IllegalArgumentException("Player count must be between 3 and 12");
     }
@@ -37,6 +69,8 @@ public final class GameConfig {
     if (maxBid < 1) {
       throw new IllegalArgumentException("Max bid must be at least 1");
     }
+    // Throws IllegalArgumentException for unknown algorithms
+    RandomGeneratorFactory.of(rngAlgorithm);
 
     this.playerCount = playerCount;
     this.deckCount = deckCount;
@@ -44,6 +78,8 @@ public final class GameConfig {
     this.landlordExtraCards = landlordExtraCards;
     this.maxBid = maxBid;
     this.customDeckSize = customDeckSize;
+    this.rngAlgorithm = rngAlgorithm;
+    this.seed = seed;
   }
 
   public int getPlayerCount() {
@@ -70,6 +106,57 @@ public final class GameConfig {
     return customDeckSize;
   }
 
+  public String getRngAlgorithm() {
+    return rngAlgorithm;
+  }
+
+  /** Fixed root seed, or null if each set of rules should seed itself randomly. */
+  public Long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Copy of this configuration with a fixed root seed, for reproducible deals in tests, load tests
+   * and simulations.
+   */
+  public GameConfig withSeed(long seed) {
+    return new GameConfig(
+        playerCount,
+        deckCount,
+        landlordCount,
+        landlordExtraCards,
+        maxBid,
+        customDeckSize,
+        rngAlgorithm,
+        seed);
+  }
+
+  /**
+   * Copy of this configuration using another {@link RandomGeneratorFactory} algorithm.
+   *
+   * @throws IllegalArgumentException if the JDK does not provide the algorithm
+   */
+  public GameConfig withRngAlgorithm(String algorithm) {
+    return new GameConfig(
+        playerCount,
+        deckCount,
+        landlordCount,
+        landlordExtraCards,
+        maxBid,
+        customDeckSize,
+        algorithm,
+        seed);
+  }
+
+  /** Create a generator of the configured algorithm with the given seed. */
+  public RandomGenerator newRandom(long seed) {
+    return newRandom(rngAlgorithm, seed);
+  }
+
+  static RandomGenerator newRandom(String algorithm, long seed) {
+    return RandomGeneratorFactory.of(algorithm).create(seed);
+  }
+
   public int getTotalCards() {
     return deckCount * 54;
   }
@@ -172,7 +259,15 @@ public final class GameConfig {
   @Override
   public String toString() {
     return String.format(
-        "GameConfig{players=%d, decks=%d, landlords=%d, extraCards=%d, maxBid=%d, custom=%b}",
-        playerCount, deckCount, landlordCount, landlordExtraCards, maxBid, customDeckSize);
+        "GameConfig{players=%d, decks=%d, landlords=%d, extraCards=%d, maxBid=%d, custom=%b,"
+            + " rng=%s, seed=%s}",
+        playerCount,
+        deckCount,
+        landlordCount,
+        landlordExtraCards,
+        maxBid,
+        customDeckSize,
+        rngAlgorithm,
+        seed);
   }
 }
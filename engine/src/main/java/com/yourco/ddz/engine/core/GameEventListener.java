@@ -0,0 +1,68 @@
+package com.yourco.ddz.engine.core;
+
+import com.yourco.ddz.engine.cards.Card;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Receives structured events from the rules as a game progresses. Every method is a no-op by
+ * default, so implementations only override what they need and the engine never builds log strings
+ * on its own.
+ *
+ * <p>Attach one per game with {@link GameState#setEventListener}. Events are delivered
+ * synchronously on the thread applying the action, after the state change they describe.
+ */
+public interface GameEventListener {
+  /** Listener that ignores everything. Used when nobody has subscribed. */
+  GameEventListener NONE = new GameEventListener() {};
+
+  /** Score breakdown reported once per finished game. */
+  record ScoreBreakdown(
+      UUID winner,
+      boolean landlordWon,
+      int baseScore,
+      int bombsPlayed,
+      int rocketsPlayed,
+      boolean spring,
+      boolean antiSpring,
+      int multiplierExponent,
+      int finalScore) {}
+
+  /** A finished game is being reset for a rematch with the same players. */
+  default void onRestart(GameState s) {}
+
+  /** Hands have been dealt; {@code bottom} holds the cards reserved for the landlords. */
+  default void onDeal(GameState s, List<Card> bottom) {}
+
+  default void onBid(GameState s, UUID playerId, int value) {}
+
+  /**
+   * All bids are in and the primary landlord is known.
+   *
+   * @param highestBidders everyone tied on the highest bid (empty if everyone passed)
+   */
+  default void onBiddingResolved(GameState s, UUID primaryLandlord, List<UUID> highestBidders) {}
+
+  /** A landlord picked a teammate during the snake draft. */
+  default void onLandlordSelected(GameState s, UUID selector, UUID selected) {}
+
+  /** A landlord received their share of the bottom cards. */
+  default void onBottomCardsGiven(GameState s, UUID landlord, List<Card> cards) {}
+
+  /** The landlord team is final and the PLAY phase has begun. */
+  default void onPlayStarted(GameState s, List<UUID> landlords) {}
+
+  default void onPlay(GameState s, UUID playerId, PlayedHand hand) {}
+
+  default void onPass(GameState s, UUID playerId) {}
+
+  /** Everyone passed on the current lead; {@code nextLeader} starts a fresh round. */
+  default void onRoundOver(GameState s, UUID nextLeader) {}
+
+  default void onGameOver(GameState s, UUID winner, boolean landlordWon) {}
+
+  default void onScored(GameState s, ScoreBreakdown breakdown) {}
+
+  /** Something unexpected that the rules tolerated (e.g. scoring a game with no winner). */
+  default void onWarning(GameState s, String message) {}
+}
@@ -6,11 +6,26 @@ public final class GameLoop {
   private final Rules rules;
   private final GameState state;
   private final Queue<GameAction> inbox = new ArrayDeque<>();
-  private boolean scored = false;
+  private boolean scored;
 
   public GameLoop(Rules rules, GameState initialState) {
     this.rules = Objects.requireNonNull(rules);
     this.state = Objects.requireNonNull(initialState);
+    // A state restored after the game ended was scored by the loop that finished it
+    this.scored = rules.isTerminal(initialState);
+  }
+
+  /**
+   * Rebuild a game from its recorded actions. {@code fresh} must hold the original players in LOBBY
+   * with {@link GameState#seedRandom} called using the original game's algorithm and seed.
+   */
+  public static GameLoop replay(Rules rules, GameState fresh, Iterable<GameAction> actions) {
+    var loop = new GameLoop(rules, fresh);
+    for (GameAction a : actions) {
+      loop.submit(a);
+    }
+    loop.tick().orThrow();
+    return loop;
   }
 
   public GameState state() {
@@ -25,21 +40,30 @@ public final class GameLoop {
     inbox.add(a);
   }
 
-  public void tick() {
-    while (!inbox.isEmpty() && !rules.isTerminal(state)) {
+  /**
+   * Apply queued actions in order. Stops at the first rejected action, which is dropped without
+   * being logged or changing the state; any later actions stay queued. A game is scored once when
+   * it ends; after that the rules decide what is accepted, e.g. a START that begins a rematch,
+   * which is scored again when it ends.
+   *
+   * @return the rejection, or {@link MoveResult#ACCEPTED} if every processed action was applied
+   */
+  public MoveResult tick() {
+    MoveResult result = MoveResult.ACCEPTED;
+    while (!inbox.isEmpty()) {
       var a = inbox.poll();
-      try {
-        rules.apply(state, a);
-        state.addAction(a);
-      } catch (IllegalStateException | IllegalArgumentException e) {
-        // Invalid action - do not add to history, do not modify state
-        // Re-throw so caller can handle (e.g., send error to client)
-        throw e;
+      result = rules.tryApply(state, a);
+      if (!result.isAccepted()) {
+        break;
+      }
+      state.addAction(a);
+      if (!rules.isTerminal(state)) {
+        scored = false;
+      } else if (!scored) {
+        rules.score(state);
+        scored = true;
       }
     }
-    if (rules.isTerminal(state) && !scored) {
-      rules.score(state);
-      scored = true;
-    }
+    return result;
   }
 }
@@ -1,8 +1,11 @@
 package com.yourco.ddz.engine.core;
 
 import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Hand;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public final class GameState {
   public PlayedHand getCurrentLead() {
@@ -12,8 +15,9 @@ public final class GameState {
     return this.currentLead;
   }
 
-  public List<Card> handOf(UUID uuid) {
-    return this.hands.get(uuid);
+  public Hand handOf(UUID uuid) {
+    int seat = seatOf(uuid);
+    return seat >= 0 ? hands[seat] : null;
   }
 
   public void setLandlordId(UUID landlord) {
@@ -70,37 +74,58 @@ public final class GameState {
   }
 
   public void setPlayerBid(UUID playerId, int bid) {
-    playerBids.put(playerId, bid);
+    int seat = requireSeat(playerId);
+    if (playerBids[seat] == NO_BID) {
+      bidCount++;
+    }
+    playerBids[seat] = bid;
   }
 
   public int getPlayerBid(UUID playerId) {
-    return playerBids.getOrDefault(playerId, 0);
+    int seat = seatOf(playerId);
+    return seat >= 0 && playerBids[seat] != NO_BID ? playerBids[seat] : 0;
   }
 
+  /** Bids made so far, in seat order. */
   public Map<UUID, Integer> getAllBids() {
-    return Collections.unmodifiableMap(playerBids);
+    Map<UUID, Integer> bids = new LinkedHashMap<>();
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (playerBids[seat] != NO_BID) {
+        bids.put(players.get(seat), playerBids[seat]);
+      }
+    }
+    return Collections.unmodifiableMap(bids);
   }
 
   public boolean hasEveryoneBid() {
-    return playerBids.size() == players.size();
+    return bidCount == players.size();
   }
 
   public int getHighestBid() {
-    return playerBids.values().stream().max(Integer::compare).orElse(0);
+    int max = 0; // NO_BID is below every bid
+    for (int seat = 0; seat < players.size(); seat++) {
+      max = Math.max(max, playerBids[seat]);
+    }
+    return max;
   }
 
+  /** Players who bid the highest bid, in seat order; empty if nobody bid above 0. */
   public List<UUID> getHighestBidders() {
     int maxBid = getHighestBid();
     if (maxBid == 0) return List.of();
 
-    return playerBids.entrySet().stream()
-        .filter(e -> e.getValue() == maxBid)
-        .map(Map.Entry::getKey)
-        .toList();
+    List<UUID> bidders = new ArrayList<>(2);
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (playerBids[seat] == maxBid) {
+        bidders.add(players.get(seat));
+      }
+    }
+    return bidders;
   }
 
   public void clearBiddingState() {
-    playerBids.clear();
+    Arrays.fill(playerBids, NO_BID);
+    bidCount = 0;
     biddingRoundCount = 0;
   }
 
@@ -116,6 +141,14 @@ public final class GameState {
     this.rocketsPlayed++;
   }
 
+  public void setBombsPlayed(int bombs) {
+    this.bombsPlayed = bombs;
+  }
+
+  public void setRocketsPlayed(int rockets) {
+    this.rocketsPlayed = rockets;
+  }
+
   public int getBombsPlayed() {
     return bombsPlayed;
   }
@@ -140,16 +173,25 @@ public final class GameState {
     return farmersPlayed;
   }
 
+  /** Scores of the players scored so far in this game, in seat order. */
   public Map<UUID, Integer> getScores() {
-    return Collections.unmodifiableMap(scores);
+    Map<UUID, Integer> result = new LinkedHashMap<>();
+    for (int seat = scored.nextSetBit(0); seat >= 0; seat = scored.nextSetBit(seat + 1)) {
+      result.put(players.get(seat), scores[seat]);
+    }
+    return Collections.unmodifiableMap(result);
   }
 
   public void setScore(UUID playerId, int score) {
-    this.scores.put(playerId, score);
+    int seat = requireSeat(playerId);
+    scores[seat] = score;
+    scored.set(seat);
   }
 
   public void addScore(UUID playerId, int delta) {
-    this.scores.merge(playerId, delta, Integer::sum);
+    int seat = requireSeat(playerId);
+    scores[seat] = scored.get(seat) ? scores[seat] + delta : delta;
+    scored.set(seat);
   }
 
   public UUID getCurrentLeadPlayer() {
@@ -169,13 +211,15 @@ public final class GameState {
 
   private final List<java.util.UUID> players;
 
-  private final Map<java.util.UUID, List<Card>> hands;
+  // Per-player data is kept in arrays indexed by seat, the player's position in players
+  private final Map<UUID, Integer> seats = new HashMap<>();
+  private Hand[] hands;
 
   private final Deque<GameAction> actionLog;
 
   // Player metadata
-  private final Map<UUID, String> playerNames = new HashMap<>();
-  private final Map<UUID, Boolean> playerConnected = new HashMap<>();
+  private String[] playerNames;
+  private final BitSet playerConnected = new BitSet();
 
   private Phase phase;
 
@@ -189,7 +233,9 @@ public final class GameState {
   private java.util.UUID currentLeadPlayer;
 
   // Bidding state
-  private Map<UUID, Integer> playerBids = new HashMap<>(); // Track each player's bid
+  private static final int NO_BID = -1;
+  private int[] playerBids; // each seat's bid, or NO_BID
+  private int bidCount = 0; // seats that have bid
   private int biddingRoundCount = 0;
   private List<Card> bottom = new ArrayList<>();
 
@@ -198,48 +244,159 @@ public final class GameState {
   private List<UUID> selectedLandlords = new ArrayList<>(); // Landlords selected so far
 
   // Scoring state
-  private Map<UUID, Integer> scores = new HashMap<>();
+  private int[] scores;
+  private final BitSet scored = new BitSet(); // seats with a score this game
   private int bombsPlayed = 0;
   private int rocketsPlayed = 0;
   private boolean landlordPlayed = false;
   private boolean farmersPlayed = false;
 
+  private GameEventListener events = GameEventListener.NONE;
+
+  // Randomness for the current game; seed + actionLog reproduce it exactly
+  private String rngAlgorithm;
+  private Long rngSeed;
+  private RandomGenerator random;
+
   public GameState(String gameId, List<java.util.UUID> players) {
     this.gameId = Objects.requireNonNull(gameId);
-    this.players = new ArrayList<>(players);
-    this.hands = new HashMap<>();
+    this.players = new ArrayList<>(players.size());
+    this.hands = new Hand[players.size()];
+    this.playerNames = new String[players.size()];
+    this.playerBids = new int[players.size()];
+    this.scores = new int[players.size()];
     this.actionLog = new ArrayDeque<>();
     this.phase = Phase.LOBBY;
     this.currentPlayerIndex = 0;
     this.updatedAt = Instant.now();
-    for (UUID p : this.players) {
-      hands.put(p, new ArrayList<>());
-      playerConnected.put(p, true); // All players start as connected
+    for (UUID p : players) {
+      if (seatOf(p) < 0) {
+        seat(p);
+      }
+    }
+  }
+
+  /** A player's seat, their index in {@link #players()}, or -1 if they are not in this game. */
+  public int seatOf(UUID playerId) {
+    Integer seat = seats.get(playerId);
+    return seat != null ? seat : -1;
+  }
+
+  private int requireSeat(UUID playerId) {
+    int seat = seatOf(playerId);
+    if (seat < 0) {
+      throw new IllegalArgumentException("Not a player in game " + gameId + ": " + playerId);
+    }
+    return seat;
+  }
+
+  /** Give a new player the next seat, with an empty hand and no bid. Players start connected. */
+  private int seat(UUID playerId) {
+    int seat = players.size();
+    if (seat == hands.length) {
+      int capacity = Math.max(4, 2 * seat);
+      hands = Arrays.copyOf(hands, capacity);
+      playerNames = Arrays.copyOf(playerNames, capacity);
+      playerBids = Arrays.copyOf(playerBids, capacity);
+      scores = Arrays.copyOf(scores, capacity);
+    }
+    players.add(playerId);
+    seats.put(playerId, seat);
+    hands[seat] = new Hand();
+    playerBids[seat] = NO_BID;
+    playerConnected.set(seat);
+    return seat;
+  }
+
+  /** Listener notified of rule events for this game. Defaults to {@link GameEventListener#NONE}. */
+  public GameEventListener events() {
+    return events;
+  }
+
+  public void setEventListener(GameEventListener listener) {
+    this.events = listener == null ? GameEventListener.NONE : listener;
+  }
+
+  /**
+   * Seed the generator used for this game's shuffle and tie-breaks. The algorithm and seed are
+   * recorded so the game can be rebuilt from them plus {@link #actionLog()} (see {@link
+   * GameLoop#replay}).
+   */
+  public void seedRandom(String algorithm, long seed) {
+    this.random = GameConfig.newRandom(algorithm, seed);
+    this.rngAlgorithm = algorithm;
+    this.rngSeed = seed;
+  }
+
+  /** Seed of the current game's generator, or null if it has not been seeded yet. */
+  public Long rngSeed() {
+    return rngSeed;
+  }
+
+  public String rngAlgorithm() {
+    return rngAlgorithm;
+  }
+
+  /**
+   * The current game's generator. If the rules never seeded it, a random seed is drawn (and
+   * recorded) with the default algorithm.
+   */
+  public RandomGenerator random() {
+    if (random == null) {
+      seedRandom(GameConfig.DEFAULT_RNG_ALGORITHM, ThreadLocalRandom.current().nextLong());
     }
+    return random;
   }
 
+  /** Name a player; ignored for anyone not in this game. */
   public void setPlayerName(UUID playerId, String name) {
-    playerNames.put(playerId, name);
+    int seat = seatOf(playerId);
+    if (seat >= 0) {
+      playerNames[seat] = name;
+    }
   }
 
   public String getPlayerName(UUID playerId) {
-    return playerNames.getOrDefault(playerId, "Player");
+    int seat = seatOf(playerId);
+    return seat >= 0 && playerNames[seat] != null ? playerNames[seat] : "Player";
   }
 
+  /** Names of the players that have one, in seat order. */
   public Map<UUID, String> getPlayerNames() {
-    return Collections.unmodifiableMap(playerNames);
+    Map<UUID, String> names = new LinkedHashMap<>();
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (playerNames[seat] != null) {
+        names.put(players.get(seat), playerNames[seat]);
+      }
+    }
+    return Collections.unmodifiableMap(names);
   }
 
+  /** Mark a player (dis)connected; ignored for anyone not in this game, such as spectators. */
   public void setPlayerConnected(UUID playerId, boolean connected) {
-    playerConnected.put(playerId, connected);
+    int seat = seatOf(playerId);
+    if (seat >= 0) {
+      playerConnected.set(seat, connected);
+    }
   }
 
   public boolean isPlayerConnected(UUID playerId) {
-    return playerConnected.getOrDefault(playerId, false);
+    int seat = seatOf(playerId);
+    return seat >= 0 && playerConnected.get(seat);
   }
 
+  /** Whether every player is connected. */
+  public boolean allPlayersConnected() {
+    return playerConnected.nextClearBit(0) >= players.size();
+  }
+
+  /** Each player's connection state, in seat order. */
   public Map<UUID, Boolean> getPlayerConnectionStatus() {
-    return Collections.unmodifiableMap(playerConnected);
+    Map<UUID, Boolean> status = new LinkedHashMap<>();
+    for (int seat = 0; seat < players.size(); seat++) {
+      status.put(players.get(seat), playerConnected.get(seat));
+    }
+    return Collections.unmodifiableMap(status);
   }
 
   /**
@@ -248,8 +405,8 @@ public final class GameState {
    */
   public void resetForNewGame() {
     // Clear hands
-    for (UUID playerId : players) {
-      hands.put(playerId, new ArrayList<>());
+    for (int seat = 0; seat < players.size(); seat++) {
+      hands[seat].clear();
     }
 
     // Reset phase
@@ -268,8 +425,7 @@ public final class GameState {
     pass_count = 0;
 
     // Clear bidding state
-    playerBids.clear();
-    biddingRoundCount = 0;
+    clearBiddingState();
     bottom.clear();
 
     // Clear landlord selection state
@@ -277,7 +433,8 @@ public final class GameState {
     selectedLandlords.clear();
 
     // Clear scoring state (per-game scores)
-    scores.clear();
+    Arrays.fill(scores, 0);
+    scored.clear();
     bombsPlayed = 0;
     rocketsPlayed = 0;
     landlordPlayed = false;
@@ -286,16 +443,17 @@ public final class GameState {
     // Update timestamp
     updatedAt = Instant.now();
 
-    // Clear action log
+    // Clear action log; the next game gets its own seed
     actionLog.clear();
+    rngAlgorithm = null;
+    rngSeed = null;
+    random = null;
   }
 
   public void addPlayer(UUID playerId, String name) {
-    if (!players.contains(playerId)) {
-      players.add(playerId);
-      hands.put(playerId, new ArrayList<>());
-      playerNames.put(playerId, name);
-      playerConnected.put(playerId, true);
+    if (seatOf(playerId) < 0) {
+      int seat = seat(playerId); // may grow the arrays
+      playerNames[seat] = name;
       touch();
     }
   }
@@ -331,8 +489,13 @@ public final class GameState {
     return Collections.unmodifiableList(players);
   }
 
+  /** Each player's hand, in seat order. */
   public Map<java.util.UUID, Object> hands() {
-    return Collections.unmodifiableMap(hands);
+    Map<UUID, Object> result = new LinkedHashMap<>();
+    for (int seat = 0; seat < players.size(); seat++) {
+      result.put(players.get(seat), hands[seat]);
+    }
+    return Collections.unmodifiableMap(result);
   }
 
   public Phase phase() {
@@ -52,7 +52,6 @@ public final class HandDetector implements PlayDetector {
     var copy = List.copyOf(cards);
     for (var p : patterns) {
       var res = p.match(copy);
-      System.out.println("res: " + res + " p: " + p);
       if (res.isPresent()) return res;
     }
     return Optional.empty();
@@ -0,0 +1,127 @@
+package com.yourco.ddz.engine.core;
+
+import com.yourco.ddz.engine.cards.Card;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-pass combo classifier. Builds one rank histogram, reduces it to a count signature (how
+ * many ranks appear once, twice, three times, four or more times, plus the span of the ranks) and
+ * classifies the play from that signature.
+ *
+ * <p>Produces exactly the same results as {@link HandDetector#defaultDdz()}: the checks below are
+ * evaluated in the same priority order as the pattern chain, and each one mirrors the conditions of
+ * the corresponding {@link Card.HandPattern}, including which kickers the airplane patterns ignore.
+ */
+public final class HistogramHandDetector implements PlayDetector {
+  private static final int RANKS = Card.Rank.values().length;
+  private static final int LITTLE_JOKER = Card.Rank.LITTLE_JOKER.ordinal();
+  private static final int BIG_JOKER = Card.Rank.BIG_JOKER.ordinal();
+  private static final int TWO = Card.Rank.TWO.ordinal();
+
+  @Override
+  public Optional<PlayedHand> detect(List<Card> cards) {
+    int[] counts = histogram(cards);
+    ComboType type = classify(counts, cards.size());
+    return type == null
+        ? Optional.empty()
+        : Optional.of(
+            new PlayedHand(type, List.copyOf(cards), PlayStrength.of(type, counts, cards.size())));
+  }
+
+  /**
+   * Classify a raw set of cards.
+   *
+   * @param cards the cards being played
+   * @return the combo type, or null if the cards do not form a valid combo
+   */
+  public static ComboType classify(List<Card> cards) {
+    return classify(histogram(cards), cards.size());
+  }
+
+  private static int[] histogram(List<Card> cards) {
+    int[] counts = new int[RANKS];
+    for (int i = 0; i < cards.size(); i++) {
+      counts[cards.get(i).rank().ordinal()]++;
+    }
+    return counts;
+  }
+
+  private static ComboType classify(int[] counts, int n) {
+    if (n == 0) return null;
+
+    // Count signature
+    int distinct = 0, ones = 0, twos = 0, triples = 0;
+    int minRank = -1, maxRank = -1;
+    int minTriple = -1, maxTriple = -1;
+    int bombCount = 0; // size of the first rank with 4+ cards
+    for (int r = 0; r < RANKS; r++) {
+      int c = counts[r];
+      if (c == 0) continue;
+      distinct++;
+      if (minRank < 0) minRank = r;
+      maxRank = r;
+      switch (c) {
+        case 1 -> ones++;
+        case 2 -> twos++;
+        case 3 -> {
+          triples++;
+          if (minTriple < 0) minTriple = r;
+          maxTriple = r;
+        }
+        default -> {
+          if (bombCount == 0) bombCount = c;
+        }
+      }
+    }
+
+    // Sequences may run up to and including 2 (e.g. J-Q-K-A-2) but never include jokers
+    boolean ranksConsecutive = maxRank <= TWO && maxRank - minRank + 1 == distinct;
+    boolean triplesConsecutive = maxTriple <= TWO && maxTriple - minTriple + 1 == triples;
+    boolean singleRankNotJoker = distinct == 1 && minRank != LITTLE_JOKER && minRank != BIG_JOKER;
+
+    if (n == 2 && counts[LITTLE_JOKER] > 0 && counts[BIG_JOKER] > 0) {
+      return ComboType.ROCKET;
+    }
+    if (n >= 8 && distinct >= 3 && bombCount > 0 && n == bombCount + 4 && twos == 2) {
+      return ComboType.BOMB_WITH_PAIRS;
+    }
+    if (n >= 6 && distinct >= 3 && bombCount > 0 && n == bombCount + 2 && ones == 2) {
+      return ComboType.BOMB_WITH_SINGLES;
+    }
+    if (n >= 4 && singleRankNotJoker) {
+      return ComboType.BOMB;
+    }
+    if (n >= 10 && triples >= 2 && twos == triples && triplesConsecutive) {
+      return ComboType.AIRPLANE_WITH_PAIRS;
+    }
+    if (n >= 8 && triples >= 2 && ones == triples && triplesConsecutive) {
+      return ComboType.AIRPLANE_WITH_SINGLES;
+    }
+    if (n >= 6 && triples == distinct && triples >= 2 && triplesConsecutive) {
+      return ComboType.AIRPLANE;
+    }
+    if (n == 5 && distinct == 2 && triples == 1 && twos == 1) {
+      return ComboType.TRIPLE_WITH_PAIR;
+    }
+    if (n == 4 && distinct == 2 && triples == 1 && ones == 1) {
+      return ComboType.TRIPLE_WITH_SINGLE;
+    }
+    if (n >= 6 && twos == distinct && distinct >= 3 && ranksConsecutive) {
+      return ComboType.PAIR_SEQUENCE;
+    }
+    if (n >= 5 && ones == n && ranksConsecutive) {
+      return ComboType.SEQUENCE;
+    }
+    if (n == 3 && singleRankNotJoker) {
+      return ComboType.TRIPLE;
+    }
+    if (n == 2 && singleRankNotJoker) {
+      return ComboType.PAIR;
+    }
+    if (n == 1) {
+      return ComboType.SINGLE;
+    }
+    return null;
+  }
+}
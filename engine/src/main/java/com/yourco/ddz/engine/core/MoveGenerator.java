@@ -0,0 +1,323 @@
+package com.yourco.ddz.engine.core;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Hand;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Enumerates the plays a hand can legally make against the current lead, applying the same rules as
+ * {@link DdzRules}: detector combos, the 5+ player ban on single kickers, and {@link
+ * SimplePlayComparator} ordering.
+ *
+ * <p>Works on the hand's rank histogram, so multi-deck hands (bombs of 5-8 cards, repeated kickers)
+ * cost no more than a single deck, and cards are only picked once a play is emitted. Each rank
+ * combination is emitted once, using the lowest suits in the hand. Kickers are emitted in exactly
+ * the shape the combo describes; the detector also tolerates surplus kicker cards on airplanes, but
+ * those wasteful variants are never generated.
+ *
+ * <p>Plays are produced lazily, one at a time and weakest first within each combo type. Against a
+ * lead, plays of the lead's type come first, then bombs and finally the rocket, so {@code
+ * findFirst()} is the cheapest beating play. A short-circuiting operation such as {@code
+ * findFirst()} or {@link #canBeat} builds only the plays it looks at: a type's main parts (the
+ * triple, the chain, the bomb) are listed up front, but kicker choices are stepped through only as
+ * far as they are consumed. Passing is not included; it is legal whenever there is a lead.
+ */
+public final class MoveGenerator {
+  private static final int RANKS = Card.Rank.values().length;
+  private static final int TWO = Card.Rank.TWO.ordinal();
+  private static final int LITTLE_JOKER = Card.Rank.LITTLE_JOKER.ordinal();
+  private static final int BIG_JOKER = Card.Rank.BIG_JOKER.ordinal();
+
+  private static final ComboType[] ALL = ComboType.values();
+  private static final ComboType[] BOMBS = {
+    ComboType.BOMB, ComboType.BOMB_WITH_SINGLES, ComboType.BOMB_WITH_PAIRS, ComboType.ROCKET
+  };
+
+  private final boolean singleKickersAllowed;
+
+  public MoveGenerator(GameConfig config) {
+    this.singleKickersAllowed = config.getPlayerCount() < 5;
+  }
+
+  /** Legal plays for a player against the state's current lead. */
+  public Stream<PlayedHand> legalPlays(GameState s, UUID playerId) {
+    return legalPlays(s.handOf(playerId), s.getCurrentLead());
+  }
+
+  /**
+   * Legal plays from {@code hand}.
+   *
+   * @param hand the player's cards
+   * @param lead the play to beat, or null when leading a new round
+   * @return lazily generated plays, weakest first within each combo type
+   */
+  public Stream<PlayedHand> legalPlays(Hand hand, PlayedHand lead) {
+    int[] counts = new int[RANKS];
+    for (Card.Rank r : Card.Rank.values()) {
+      counts[r.ordinal()] = hand.count(r);
+    }
+    Target target = lead == null ? null : Target.of(lead);
+    ComboType[] types;
+    if (lead == null) {
+      types = ALL;
+    } else if (lead.type() == ComboType.ROCKET) {
+      types = new ComboType[0];
+    } else if (isBombType(lead.type())) {
+      types = BOMBS;
+    } else {
+      types = new ComboType[BOMBS.length + 1];
+      types[0] = lead.type();
+      System.arraycopy(BOMBS, 0, types, 1, BOMBS.length);
+    }
+    return Arrays.stream(types)
+        .filter(this::allowed)
+        .flatMap(type -> StreamSupport.stream(new Plays(hand, counts, target, type), false));
+  }
+
+  /** True if {@code hand} has at least one play that beats {@code lead}. */
+  public boolean canBeat(Hand hand, PlayedHand lead) {
+    return legalPlays(hand, lead).findAny().isPresent();
+  }
+
+  private boolean allowed(ComboType type) {
+    return singleKickersAllowed
+        || (type != ComboType.TRIPLE_WITH_SINGLE
+            && type != ComboType.AIRPLANE_WITH_SINGLES
+            && type != ComboType.BOMB_WITH_SINGLES);
+  }
+
+  private static boolean isBombType(ComboType type) {
+    return type == ComboType.BOMB
+        || type == ComboType.BOMB_WITH_SINGLES
+        || type == ComboType.BOMB_WITH_PAIRS;
+  }
+
+  /** The play to beat: its type and size, and the strength key it was made with. */
+  private record Target(ComboType type, int size, long strength) {
+    static Target of(PlayedHand lead) {
+      if ((lead.strength() & PlayStrength.UNKNOWN) != 0) {
+        throw new IllegalArgumentException("Lead does not match its combo type");
+      }
+      return new Target(lead.type(), lead.cards().size(), lead.strength());
+    }
+
+    boolean beatenBy(long strength) {
+      return PlayStrength.beats(strength, this.strength);
+    }
+
+    /** Chain length a play of {@code type} needs to be comparable, or 0 for any length. */
+    int chainLength(ComboType type) {
+      if (type != this.type) return 0;
+      return switch (type) {
+        case SEQUENCE -> size;
+        case PAIR_SEQUENCE -> size / 2;
+        case AIRPLANE -> size / 3;
+        case AIRPLANE_WITH_SINGLES -> size / 4;
+        case AIRPLANE_WITH_PAIRS -> size / 5;
+        default -> 0;
+      };
+    }
+  }
+
+  /**
+   * The main part of a play: ranks [lo, hi] x copies, completed by {@code kickers} groups of {@code
+   * kickerCopies} cards, each of a distinct rank outside the main part.
+   */
+  private record Part(
+      int lo, int hi, int copies, int kickers, int kickerCopies, int size, long strength) {}
+
+  /**
+   * The plays of one combo type. The main parts that beat the target are listed when it is made;
+   * each part's kicker choices are then stepped through in order, one play per {@link #tryAdvance}.
+   */
+  private static final class Plays extends Spliterators.AbstractSpliterator<PlayedHand> {
+    private final Hand hand;
+    private final int[] counts;
+    private final Target target;
+    private final ComboType type;
+    private final List<Part> parts = new ArrayList<>();
+
+    // Position: the current part, and for parts with kickers the current choice of them
+    private int next;
+    private boolean choosing;
+    private final int[] candidates = new int[RANKS];
+    private int candidateCount;
+    private final int[] chosen = new int[RANKS];
+
+    Plays(Hand hand, int[] counts, Target target, ComboType type) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.hand = hand;
+      this.counts = counts;
+      this.target = target;
+      this.type = type;
+      switch (type) {
+        case SINGLE -> sets(1, RANKS);
+        case PAIR -> sets(2, LITTLE_JOKER);
+        case TRIPLE -> sets(3, LITTLE_JOKER);
+        case TRIPLE_WITH_SINGLE -> triplesWithKicker(1);
+        case TRIPLE_WITH_PAIR -> triplesWithKicker(2);
+        case SEQUENCE -> chains(1, 5);
+        case PAIR_SEQUENCE -> chains(2, 3);
+        case AIRPLANE -> chains(3, 2);
+        case AIRPLANE_WITH_SINGLES -> airplanes(1);
+        case AIRPLANE_WITH_PAIRS -> airplanes(2);
+        case BOMB -> bombs(0, 0, LITTLE_JOKER);
+        case BOMB_WITH_SINGLES -> bombs(2, 1, RANKS);
+        case BOMB_WITH_PAIRS -> bombs(2, 2, RANKS);
+        case ROCKET -> {
+          if (counts[LITTLE_JOKER] > 0 && counts[BIG_JOKER] > 0) {
+            part(LITTLE_JOKER, BIG_JOKER, 1, 0, 0, BIG_JOKER, 0);
+          }
+        }
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super PlayedHand> action) {
+      while (next < parts.size()) {
+        Part part = parts.get(next);
+        if (part.kickers() == 0) {
+          next++;
+          action.accept(play(part));
+          return true;
+        }
+        if (!choosing) {
+          choosing = startKickers(part);
+        }
+        if (choosing) {
+          PlayedHand play = play(part);
+          choosing = nextKickers(part.kickers());
+          if (!choosing) next++;
+          action.accept(play);
+          return true;
+        }
+        next++;
+      }
+      return false;
+    }
+
+    /** {@code copies} of one rank, for ranks below {@code rankLimit}. */
+    private void sets(int copies, int rankLimit) {
+      for (int r = 0; r < rankLimit; r++) {
+        if (counts[r] >= copies) part(r, r, copies, 0, 0, r, 0);
+      }
+    }
+
+    /** A triple of any rank plus one kicker group of another rank. */
+    private void triplesWithKicker(int kickerCopies) {
+      for (int r = 0; r < RANKS; r++) {
+        if (counts[r] >= 3) part(r, r, 3, 1, kickerCopies, r, 0);
+      }
+    }
+
+    /** Runs of consecutive ranks up to TWO, each with {@code copies} cards. */
+    private void chains(int copies, int minLength) {
+      int fixed = target == null ? 0 : target.chainLength(type);
+      int run = 0;
+      for (int hi = 0; hi <= TWO; hi++) {
+        run = counts[hi] >= copies ? run + 1 : 0;
+        for (int len = minLength; len <= run; len++) {
+          if (fixed == 0 || len == fixed) part(hi - len + 1, hi, copies, 0, 0, hi, 0);
+        }
+      }
+    }
+
+    /** Consecutive triples with one kicker group per triple. */
+    private void airplanes(int kickerCopies) {
+      int fixed = target == null ? 0 : target.chainLength(type);
+      int run = 0;
+      for (int hi = 0; hi <= TWO; hi++) {
+        run = counts[hi] >= 3 ? run + 1 : 0;
+        for (int len = 2; len <= run; len++) {
+          if (fixed == 0 || len == fixed) part(hi - len + 1, hi, 3, len, kickerCopies, hi, 0);
+        }
+      }
+    }
+
+    /** Bombs of every size, weakest first, optionally with two kicker groups. */
+    private void bombs(int kickers, int kickerCopies, int rankLimit) {
+      int largest = 0;
+      for (int r = 0; r < rankLimit; r++) {
+        largest = Math.max(largest, counts[r]);
+      }
+      for (int size = 4; size <= largest; size++) {
+        for (int r = 0; r < rankLimit; r++) {
+          if (counts[r] >= size) part(r, r, size, kickers, kickerCopies, r, size);
+        }
+      }
+    }
+
+    /** Add ranks [lo, hi] x copies as a part, if plays made from it beat the target. */
+    private void part(
+        int lo, int hi, int copies, int kickers, int kickerCopies, int primary, int bombSize) {
+      int size = (hi - lo + 1) * copies + kickers * kickerCopies;
+      long strength = PlayStrength.pack(type, size, primary, bombSize);
+      if (target != null && !target.beatenBy(strength)) return;
+      parts.add(new Part(lo, hi, copies, kickers, kickerCopies, size, strength));
+    }
+
+    /** Set up the first choice of kicker ranks outside the part; false if there is none. */
+    private boolean startKickers(Part part) {
+      candidateCount = 0;
+      for (int r = 0; r < RANKS; r++) {
+        if ((r < part.lo() || r > part.hi()) && counts[r] >= part.kickerCopies()) {
+          candidates[candidateCount++] = r;
+        }
+      }
+      for (int k = 0; k < part.kickers(); k++) {
+        chosen[k] = k;
+      }
+      return candidateCount >= part.kickers();
+    }
+
+    /** Step to the next choice of {@code kickers} candidates, in order; false after the last. */
+    private boolean nextKickers(int kickers) {
+      int i = kickers - 1;
+      while (i >= 0 && chosen[i] == candidateCount - kickers + i) {
+        i--;
+      }
+      if (i < 0) return false;
+      chosen[i]++;
+      for (int k = i + 1; k < kickers; k++) {
+        chosen[k] = chosen[k - 1] + 1;
+      }
+      return true;
+    }
+
+    /** The part's cards plus the currently chosen kickers. */
+    private PlayedHand play(Part part) {
+      Card[] cards = new Card[part.size()];
+      int pos = 0;
+      for (int r = part.lo(); r <= part.hi(); r++) {
+        pos = take(cards, pos, r, part.copies());
+      }
+      for (int k = 0; k < part.kickers(); k++) {
+        pos = take(cards, pos, candidates[chosen[k]], part.kickerCopies());
+      }
+      return new PlayedHand(type, Arrays.asList(cards), part.strength());
+    }
+
+    /** Copy {@code k} cards of a rank from the hand, lowest suit first. */
+    private int take(Card[] into, int pos, int rank, int k) {
+      int first = rank < LITTLE_JOKER ? rank * 4 : Card.DISTINCT - (RANKS - rank);
+      int last = rank < LITTLE_JOKER ? first + 3 : first;
+      for (int i = first; i <= last && k > 0; i++) {
+        Card card = Card.of(i);
+        int m = Math.min(hand.count(card), k);
+        for (int j = 0; j < m; j++) {
+          into[pos++] = card;
+        }
+        k -= m;
+      }
+      return pos;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.yourco.ddz.engine.core;
+
+/**
+ * Outcome of validating or applying an action. Illegal moves from players are ordinary results, not
+ * exceptions: {@link Rules#tryApply} and {@link GameLoop#tick} return a {@link Rejected} and leave
+ * the state untouched. Exceptions are kept for programmer errors (bad configuration, impossible
+ * phases).
+ */
+public sealed interface MoveResult {
+  /** Shared accepted result; accepting a move never allocates. */
+  MoveResult ACCEPTED = new Accepted();
+
+  /** Why an action was rejected. */
+  enum Code {
+    WRONG_ACTION(true),
+    BAD_PAYLOAD(true),
+    BID_OUT_OF_RANGE(true),
+    NOT_YOUR_TURN(false),
+    GAME_OVER(false),
+    INVALID_COMBO(false),
+    KICKER_NOT_ALLOWED(false),
+    CARDS_NOT_IN_HAND(false),
+    DOES_NOT_MATCH_LEAD(true),
+    DOES_NOT_BEAT_LEAD(false),
+    LEADER_CANNOT_PASS(false),
+    LANDLORD_ALREADY_SELECTED(false),
+    PLAYER_NOT_IN_GAME(false);
+
+    private final boolean badArgument;
+
+    Code(boolean badArgument) {
+      this.badArgument = badArgument;
+    }
+  }
+
+  record Accepted() implements MoveResult {}
+
+  record Rejected(Code code, String message) implements MoveResult {
+    /**
+     * The exception the throwing API ({@link Rules#apply}) raises for this rejection: {@link
+     * IllegalArgumentException} for malformed actions, {@link IllegalStateException} for moves that
+     * are well-formed but not allowed right now.
+     */
+    public RuntimeException toException() {
+      return code.badArgument
+          ? new IllegalArgumentException(message)
+          : new IllegalStateException(message);
+    }
+  }
+
+  static Rejected reject(Code code, String message) {
+    return new Rejected(code, message);
+  }
+
+  default boolean isAccepted() {
+    return this instanceof Accepted;
+  }
+
+  /** Throw {@link Rejected#toException()} if this is a rejection. */
+  default void orThrow() {
+    if (this instanceof Rejected r) {
+      throw r.toException();
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.yourco.ddz.engine.core;
+
+import com.yourco.ddz.engine.cards.Card;
+import java.util.List;
+
+/**
+ * Packs everything {@link SimplePlayComparator} looks at into one long, so comparing two plays is a
+ * couple of integer operations instead of re-counting their cards. From the most significant bits
+ * down:
+ *
+ * <pre>
+ * tier:2 (0 normal, 1 bomb, 2 rocket)  unknown:1  bombSize:8  type:8  size:16  primary:8
+ * </pre>
+ *
+ * Bombs leave type and size zero, so they order by bomb size and then rank whatever their kickers;
+ * the rocket is its tier alone. Normal plays only order meaningfully against plays of the same type
+ * and size ({@link #sameClass}). {@code unknown} marks a play whose cards lack the part its type
+ * promises (say, a TRIPLE_WITH_SINGLE without a triple), for which the comparator throws as it
+ * always did.
+ */
+final class PlayStrength {
+  private static final int RANKS = Card.Rank.values().length;
+
+  static final int NORMAL = 0;
+  static final int BOMB = 1;
+  static final int ROCKET = 2;
+
+  private static final int SIZE_SHIFT = 8;
+  private static final int TYPE_SHIFT = 24;
+  private static final int BOMB_SIZE_SHIFT = 32;
+  private static final int TIER_SHIFT = 41;
+
+  static final long UNKNOWN = 1L << 40;
+
+  /** The type and size bits, which must match for two normal plays to be comparable. */
+  private static final long CLASS_MASK = 0xFFFFFFL << SIZE_SHIFT;
+
+  private PlayStrength() {}
+
+  /** The key of a play of {@code type} made of {@code cards}. */
+  static long of(ComboType type, List<Card> cards) {
+    int[] counts = new int[RANKS];
+    for (int i = 0; i < cards.size(); i++) {
+      counts[cards.get(i).rank().ordinal()]++;
+    }
+    return of(type, counts, cards.size());
+  }
+
+  /**
+   * The key of a play of {@code type} from its rank histogram.
+   *
+   * @param counts cards per rank ordinal
+   * @param size total number of cards
+   */
+  static long of(ComboType type, int[] counts, int size) {
+    int primary = -1;
+    int bombSize = 0;
+    switch (type) {
+      case ROCKET -> {
+        return pack(type, size, 0, 0);
+      }
+      case TRIPLE_WITH_SINGLE, TRIPLE_WITH_PAIR -> primary = lowest(counts, 3, 3);
+      case AIRPLANE, AIRPLANE_WITH_SINGLES, AIRPLANE_WITH_PAIRS -> primary = highest(counts, 3, 3);
+      case BOMB_WITH_SINGLES, BOMB_WITH_PAIRS -> {
+        primary = lowest(counts, 4, Integer.MAX_VALUE);
+        bombSize = primary < 0 ? 0 : counts[primary];
+      }
+      case BOMB -> {
+        primary = highest(counts, 1, Integer.MAX_VALUE);
+        bombSize = size;
+      }
+      default -> primary = highest(counts, 1, Integer.MAX_VALUE);
+    }
+    return primary < 0
+        ? pack(type, size, 0, bombSize) | UNKNOWN
+        : pack(type, size, primary, bombSize);
+  }
+
+  /**
+   * The key of a play whose measurements are already known.
+   *
+   * @param primary rank ordinal of the part that decides the play: the triple, the highest triple
+   *     of an airplane, the bomb, or the highest card
+   * @param bombSize cards in the bomb itself, for bomb types
+   */
+  static long pack(ComboType type, int size, int primary, int bombSize) {
+    return switch (type) {
+      case ROCKET -> (long) ROCKET << TIER_SHIFT;
+      case BOMB, BOMB_WITH_SINGLES, BOMB_WITH_PAIRS ->
+          (long) BOMB << TIER_SHIFT | (long) bombSize << BOMB_SIZE_SHIFT | primary;
+      default -> (long) type.ordinal() << TYPE_SHIFT | (long) size << SIZE_SHIFT | primary;
+    };
+  }
+
+  static int tier(long key) {
+    return (int) (key >>> TIER_SHIFT);
+  }
+
+  /** True if two normal plays have the same type and size. */
+  static boolean sameClass(long a, long b) {
+    return ((a ^ b) & CLASS_MASK) == 0;
+  }
+
+  /** True if a play keyed {@code a} may be played over one keyed {@code b}. */
+  static boolean beats(long a, long b) {
+    if (tier(a) == NORMAL && tier(b) == NORMAL && !sameClass(a, b)) {
+      return false;
+    }
+    return a > b;
+  }
+
+  private static int lowest(int[] counts, int min, int max) {
+    for (int r = 0; r < counts.length; r++) {
+      if (counts[r] >= min && counts[r] <= max) return r;
+    }
+    return -1;
+  }
+
+  private static int highest(int[] counts, int min, int max) {
+    for (int r = counts.length - 1; r >= 0; r--) {
+      if (counts[r] >= min && counts[r] <= max) return r;
+    }
+    return -1;
+  }
+}
@@ -3,8 +3,17 @@ package com.yourco.ddz.engine.core;
 import com.yourco.ddz.engine.cards.Card;
 import java.util.List;
 
-/** A normalized play (combo) that has already been validated by a PlayDetector. */
-public record PlayedHand(ComboType type, List<Card> cards) {
+/**
+ * A normalized play (combo) that has already been validated by a PlayDetector.
+ *
+ * @param strength the packed comparison key described in {@link PlayStrength}, worked out once when
+ *     the play is made; callers that do not already have it use the two-argument constructor
+ */
+public record PlayedHand(ComboType type, List<Card> cards, long strength) {
+  public PlayedHand(ComboType type, List<Card> cards) {
+    this(type, cards, PlayStrength.of(type, cards));
+  }
+
   @Override
   public String toString() {
     return type + " " + cards.toString();
@@ -1,8 +1,27 @@
 package com.yourco.ddz.engine.core;
 
 public interface Rules {
+  /**
+   * Apply an action, throwing {@link IllegalStateException} or {@link IllegalArgumentException} if
+   * it is not allowed. Prefer {@link #tryApply} for player input.
+   */
   void apply(GameState state, GameAction action);
 
+  /** Check whether an action would be accepted, without changing the state. */
+  MoveResult validate(GameState state, GameAction action);
+
+  /**
+   * Apply an action if it is allowed. A rejected action leaves the state untouched and is reported
+   * in the result rather than thrown.
+   */
+  default MoveResult tryApply(GameState state, GameAction action) {
+    MoveResult result = validate(state, action);
+    if (result.isAccepted()) {
+      apply(state, action);
+    }
+    return result;
+  }
+
   boolean isTerminal(GameState state);
 
   void score(GameState state);
@@ -53,12 +53,10 @@ public class DemoMain {
       // - List<Card> payload = attempt a play (requires a working detector)
       List<Card> move = chooseNextMove(state, pid, scanner);
       System.out.println("Player " + pid + " plays " + move);
-      try {
-        loop.submit(new PlayerAction(pid, "PLAY", move)); // null => PASS
-        loop.tick();
-      } catch (RuntimeException ex) {
+      loop.submit(new PlayerAction(pid, "PLAY", move)); // null => PASS
+      if (loop.tick() instanceof MoveResult.Rejected rejected) {
         // In production, handle NACK and re-prompt; here we log and break to avoid a tight loop.
-        System.out.println("Rejected move for " + pid + ": " + ex.getMessage());
+        System.out.println("Rejected move for " + pid + ": " + rejected.message());
         break;
       }
 
@@ -12,6 +12,11 @@ public final class DemoRules implements Rules {
     applied.incrementAndGet();
   }
 
+  @Override
+  public MoveResult validate(GameState s, GameAction a) {
+    return MoveResult.ACCEPTED;
+  }
+
   @Override
   public boolean isTerminal(GameState s) {
     return applied.get() >= 3;
@@ -199,10 +199,8 @@ public class StandaloneGameTest {
         loop.submit(new PlayerAction(currentPlayer, "PLAY", cards));
       }
 
-      try {
-        loop.tick();
-      } catch (Exception e) {
-        System.out.println("ERROR: " + e.getMessage());
+      if (loop.tick() instanceof MoveResult.Rejected rejected) {
+        System.out.println("ERROR: " + rejected.message());
         System.out.println("Try again.\n");
         continue;
       }
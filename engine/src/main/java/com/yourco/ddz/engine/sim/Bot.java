@@ -0,0 +1,61 @@
+package com.yourco.ddz.engine.sim;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Hand;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.engine.core.MoveGenerator;
+import com.yourco.ddz.engine.core.PlayedHand;
+import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/** Move policies for self-play. Every choice comes from {@link MoveGenerator}. */
+public enum Bot {
+  /** Bids at random and picks uniformly among the legal plays (and passing, when allowed). */
+  RANDOM {
+    @Override
+    int bid(Hand hand, int maxBid, RandomGenerator random) {
+      return random.nextInt(maxBid + 1);
+    }
+
+    @Override
+    PlayedHand choose(GameState s, UUID player, MoveGenerator generator, RandomGenerator random) {
+      List<PlayedHand> plays = generator.legalPlays(s, player).toList();
+      boolean canPass = s.getCurrentLead() != null;
+      int choice = random.nextInt(plays.size() + (canPass ? 1 : 0));
+      return choice < plays.size() ? plays.get(choice) : null;
+    }
+  },
+
+  /**
+   * Bids by counting high cards, leads with the play that sheds the most cards and otherwise beats
+   * the lead as cheaply as possible.
+   */
+  GREEDY {
+    @Override
+    int bid(Hand hand, int maxBid, RandomGenerator random) {
+      int strength =
+          hand.count(Card.Rank.TWO)
+              + hand.count(Card.Rank.LITTLE_JOKER)
+              + hand.count(Card.Rank.BIG_JOKER);
+      return Math.min(maxBid, strength);
+    }
+
+    @Override
+    PlayedHand choose(GameState s, UUID player, MoveGenerator generator, RandomGenerator random) {
+      if (s.getCurrentLead() != null) {
+        return generator.legalPlays(s, player).findFirst().orElse(null);
+      }
+      return generator
+          .legalPlays(s, player)
+          .reduce((best, p) -> p.cards().size() > best.cards().size() ? p : best)
+          .orElseThrow();
+    }
+  };
+
+  abstract int bid(Hand hand, int maxBid, RandomGenerator random);
+
+  /** The play to make, or null to pass. */
+  abstract PlayedHand choose(
+      GameState s, UUID player, MoveGenerator generator, RandomGenerator random);
+}
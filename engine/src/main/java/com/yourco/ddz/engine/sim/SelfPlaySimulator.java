@@ -0,0 +1,305 @@
+package com.yourco.ddz.engine.sim;
+
+import com.yourco.ddz.engine.core.Bid;
+import com.yourco.ddz.engine.core.DdzRules;
+import com.yourco.ddz.engine.core.GameConfig;
+import com.yourco.ddz.engine.core.GameEventListener;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.engine.core.MoveGenerator;
+import com.yourco.ddz.engine.core.MoveResult;
+import com.yourco.ddz.engine.core.PlayedHand;
+import com.yourco.ddz.engine.core.PlayerAction;
+import com.yourco.ddz.engine.core.SystemAction;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Headless self-play: runs complete games with {@link Bot} players straight through {@link
+ * DdzRules}, in parallel on a {@link ForkJoinPool}, and checks every finished game.
+ *
+ * <p>Games are split into fixed-size chunks, each with its own rules instance and a generator split
+ * from the run seed, so the games played depend only on the seed, game count and bot, not on the
+ * thread count or scheduling. Every bot move comes from {@link MoveGenerator}, so a rejected move
+ * means the generator and the rules disagree and is reported as a violation, as are plays that do
+ * not shrink the hand by exactly their cards, unfinished games, games without exactly one empty
+ * hand and scores that do not sum to zero.
+ *
+ * <p>Run from the command line with {@code ./gradlew :engine:simulate --args="--players 5 --games
+ * 100000"}.
+ */
+public final class SelfPlaySimulator {
+  private static final int CHUNK_SIZE = 250;
+  private static final int MAX_TURNS = 10_000;
+  private static final int MAX_SAMPLES = 10;
+  private static final SystemAction START = new SystemAction("START", null);
+
+  private final GameConfig config;
+  private final Bot bot;
+  private final int parallelism;
+
+  public SelfPlaySimulator(GameConfig config, Bot bot, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
+    this.config = config;
+    this.bot = bot;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Play {@code games} games and report throughput and sanity checks.
+   *
+   * @param games number of games to play
+   * @param seed root seed for deals and bot decisions
+   */
+  public SimulationReport run(int games, long seed) {
+    SplittableGenerator root =
+        RandomGeneratorFactory.<SplittableGenerator>of(GameConfig.DEFAULT_RNG_ALGORITHM)
+            .create(seed);
+    List<Callable<Tally>> chunks = new ArrayList<>();
+    for (int first = 0; first < games; first += CHUNK_SIZE) {
+      int from = first;
+      int to = Math.min(games, first + CHUNK_SIZE);
+      SplittableGenerator random = root.split();
+      chunks.add(() -> playChunk(from, to, random));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    long start = System.nanoTime();
+    Tally total = new Tally();
+    try {
+      for (Future<Tally> f : pool.invokeAll(chunks)) {
+        total.merge(f.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Simulation failed", e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    return new SimulationReport(
+        total.games,
+        total.moves,
+        elapsed,
+        total.allocatedBytes,
+        total.landlordWins,
+        total.springs,
+        total.antiSprings,
+        total.maxMultiplierExponent,
+        total.maxAbsScore,
+        total.violations,
+        List.copyOf(total.samples));
+  }
+
+  private Tally playChunk(int from, int to, RandomGenerator random) {
+    Tally t = new Tally();
+    long allocatedBefore = allocatedBytes();
+    DdzRules rules = new DdzRules(config.withSeed(random.nextLong()));
+    MoveGenerator generator = new MoveGenerator(config);
+    List<UUID> players = new ArrayList<>(config.getPlayerCount());
+    for (int i = 0; i < config.getPlayerCount(); i++) {
+      players.add(new UUID(0, i + 1));
+    }
+    for (int g = from; g < to; g++) {
+      playGame(g, rules, generator, players, random, t);
+    }
+    long allocatedAfter = allocatedBytes();
+    t.allocatedBytes = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+    return t;
+  }
+
+  private void playGame(
+      int index,
+      DdzRules rules,
+      MoveGenerator generator,
+      List<UUID> players,
+      RandomGenerator random,
+      Tally t) {
+    GameState s = new GameState("sim-" + index, players);
+    var scored = new GameEventListener.ScoreBreakdown[1];
+    s.setEventListener(
+        new GameEventListener() {
+          @Override
+          public void onScored(GameState state, ScoreBreakdown breakdown) {
+            scored[0] = breakdown;
+          }
+        });
+    t.games++;
+
+    try {
+      rules.apply(s, START);
+      while (s.phase() == GameState.Phase.BIDDING) {
+        UUID selector = s.getAwaitingLandlordSelection();
+        if (selector != null) {
+          List<UUID> open =
+              players.stream().filter(p -> !s.getSelectedLandlords().contains(p)).toList();
+          UUID pick = open.get(random.nextInt(open.size()));
+          rules.apply(s, new PlayerAction(selector, "SELECT_LANDLORD", pick));
+        } else {
+          UUID p = s.currentPlayerId();
+          int bid = bot.bid(s.handOf(p), config.getMaxBid(), random);
+          rules.apply(s, new PlayerAction(p, "BID", new Bid(bid)));
+        }
+      }
+    } catch (IllegalStateException | IllegalArgumentException e) {
+      t.violation("game " + index + ": setup rejected: " + e.getMessage());
+      return;
+    }
+
+    int turns = 0;
+    while (!rules.isTerminal(s)) {
+      if (turns == MAX_TURNS) {
+        t.violation("game " + index + ": not finished after " + MAX_TURNS + " turns");
+        return;
+      }
+      UUID p = s.currentPlayerId();
+      PlayedHand play = bot.choose(s, p, generator, random);
+      int before = s.handOf(p).size();
+      MoveResult result =
+          rules.tryApply(s, new PlayerAction(p, "PLAY", play == null ? null : play.cards()));
+      if (result instanceof MoveResult.Rejected rejected) {
+        t.violation("game " + index + ": rules rejected " + play + ": " + rejected.message());
+        return;
+      }
+      int played = play == null ? 0 : play.cards().size();
+      if (s.handOf(p).size() != before - played) {
+        t.violation(
+            "game "
+                + index
+                + ": hand went from "
+                + before
+                + " to "
+                + s.handOf(p).size()
+                + " cards playing "
+                + play);
+        return;
+      }
+      turns++;
+    }
+    t.moves += turns;
+    // Applied without a GameLoop, so the game is scored here, as the loop would
+    rules.score(s);
+    check(index, s, scored[0], t);
+  }
+
+  private static void check(int index, GameState s, GameEventListener.ScoreBreakdown b, Tally t) {
+    long emptyHands = s.players().stream().filter(p -> s.handOf(p).isEmpty()).count();
+    if (emptyHands != 1) {
+      t.violation("game " + index + ": " + emptyHands + " empty hands at the end");
+      return;
+    }
+    if (b == null) {
+      t.violation("game " + index + ": finished without a score");
+      return;
+    }
+    long sum = 0;
+    for (int score : s.getScores().values()) {
+      sum += score;
+      t.maxAbsScore = Math.max(t.maxAbsScore, Math.abs((long) score));
+    }
+    if (sum != 0) {
+      t.violation("game " + index + ": scores sum to " + sum);
+      return;
+    }
+    if (b.landlordWon()) t.landlordWins++;
+    if (b.spring()) t.springs++;
+    if (b.antiSpring()) t.antiSprings++;
+    t.maxMultiplierExponent = Math.max(t.maxMultiplierExponent, b.multiplierExponent());
+  }
+
+  /** Bytes allocated so far by the current thread, or -1 if the JVM does not track it. */
+  private static long allocatedBytes() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+        && bean.isThreadAllocatedMemorySupported()
+        && bean.isThreadAllocatedMemoryEnabled()) {
+      return bean.getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+
+  /** Per-chunk counters, merged once the chunk is done. */
+  private static final class Tally {
+    int games;
+    long moves;
+    long allocatedBytes;
+    int landlordWins;
+    int springs;
+    int antiSprings;
+    int maxMultiplierExponent;
+    long maxAbsScore;
+    int violations;
+    final List<String> samples = new ArrayList<>();
+
+    void violation(String description) {
+      violations++;
+      if (samples.size() < MAX_SAMPLES) samples.add(description);
+    }
+
+    void merge(Tally o) {
+      games += o.games;
+      moves += o.moves;
+      allocatedBytes =
+          allocatedBytes < 0 || o.allocatedBytes < 0 ? -1 : allocatedBytes + o.allocatedBytes;
+      landlordWins += o.landlordWins;
+      springs += o.springs;
+      antiSprings += o.antiSprings;
+      maxMultiplierExponent = Math.max(maxMultiplierExponent, o.maxMultiplierExponent);
+      maxAbsScore = Math.max(maxAbsScore, o.maxAbsScore);
+      violations += o.violations;
+      for (String v : o.samples) {
+        if (samples.size() < MAX_SAMPLES) samples.add(v);
+      }
+    }
+  }
+
+  /**
+   * Command line entry point.
+   *
+   * <p>Options: {@code --players N} (3-12, standard preset), {@code --haha M} (high-variance preset
+   * with M times the decks), {@code --games N}, {@code --bot RANDOM|GREEDY}, {@code --threads N},
+   * {@code --seed N}.
+   */
+  public static void main(String[] args) {
+    int players = 3;
+    int haha = 0;
+    int games = 10_000;
+    Bot bot = Bot.GREEDY;
+    int threads = Runtime.getRuntime().availableProcessors();
+    long seed = System.nanoTime();
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      String value = args[i + 1];
+      switch (args[i]) {
+        case "--players" -> players = Integer.parseInt(value);
+        case "--haha" -> haha = Integer.parseInt(value);
+        case "--games" -> games = Integer.parseInt(value);
+        case "--bot" -> bot = Bot.valueOf(value.toUpperCase());
+        case "--threads" -> threads = Integer.parseInt(value);
+        case "--seed" -> seed = Long.parseLong(value);
+        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+    GameConfig config =
+        haha > 0 ? GameConfig.hahaFunny(players, haha) : GameConfig.standard(players);
+
+    System.out.println(config + ", bot=" + bot + ", threads=" + threads + ", seed=" + seed);
+    SimulationReport report = new SelfPlaySimulator(config, bot, threads).run(games, seed);
+    System.out.println(report);
+    if (report.violations() > 0) {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.yourco.ddz.engine.sim;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a {@link SelfPlaySimulator} run: throughput, allocation and the score sanity checks.
+ *
+ * @param games games played to completion (or abandoned on a violation)
+ * @param moves PLAY-phase turns, including passes
+ * @param elapsed wall-clock time for the whole run
+ * @param allocatedBytes bytes allocated by the worker threads, or -1 if the JVM cannot tell
+ * @param landlordWins games won by the landlord team
+ * @param springs games scored with the spring bonus
+ * @param antiSprings games scored with the anti-spring bonus
+ * @param maxMultiplierExponent largest score doubling exponent seen
+ * @param maxAbsScore largest single-player score change seen
+ * @param violations number of games breaking an invariant
+ * @param violationSamples descriptions of the first few violations
+ */
+public record SimulationReport(
+    int games,
+    long moves,
+    Duration elapsed,
+    long allocatedBytes,
+    int landlordWins,
+    int springs,
+    int antiSprings,
+    int maxMultiplierExponent,
+    long maxAbsScore,
+    int violations,
+    List<String> violationSamples) {
+
+  public double gamesPerSecond() {
+    return games / seconds();
+  }
+
+  public double movesPerSecond() {
+    return moves / seconds();
+  }
+
+  /** Allocation rate in MB/s, or -1 if allocation could not be measured. */
+  public double allocatedMegabytesPerSecond() {
+    return allocatedBytes < 0 ? -1 : allocatedBytes / 1e6 / seconds();
+  }
+
+  public double landlordWinRate() {
+    return games == 0 ? 0 : (double) landlordWins / games;
+  }
+
+  private double seconds() {
+    return Math.max(elapsed.toNanos(), 1) / 1e9;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(
+        String.format(
+            "%d games, %d moves in %.2fs: %.0f games/s, %.0f moves/s%n",
+            games, moves, seconds(), gamesPerSecond(), movesPerSecond()));
+    if (allocatedBytes >= 0) {
+      sb.append(
+          String.format(
+              "allocated %.1f MB (%.0f MB/s, %.1f KB/game)%n",
+              allocatedBytes / 1e6,
+              allocatedMegabytesPerSecond(),
+              games == 0 ? 0.0 : allocatedBytes / 1e3 / games));
+    }
+    sb.append(
+        String.format(
+            "landlord win rate %.3f, springs %d, anti-springs %d, max multiplier 2^%d,"
+                + " max score %d%n",
+            landlordWinRate(), springs, antiSprings, maxMultiplierExponent, maxAbsScore));
+    sb.append("violations: ").append(violations);
+    for (String v : violationSamples) {
+      sb.append(System.lineSeparator()).append("  ").append(v);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,126 @@
+package com.yourco.ddz.engine.bot;
+
+import static com.yourco.ddz.engine.core.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Hand;
+import com.yourco.ddz.engine.core.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the ISMCTS bot: legal, complete games and sensible choices on small positions. */
+class IsmctsBotTest {
+
+  private final ForkJoinPool pool = new ForkJoinPool(2);
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void testBotsPlayCompleteGamesThroughGameLoop() {
+    for (int players : new int[] {3, 5}) {
+      GameConfig config = GameConfig.standard(players).withSeed(players);
+      IsmctsBot bot = new IsmctsBot(config, SearchBudget.iterations(40), pool, 1L);
+      DdzRules rules = new DdzRules(config);
+      GameState state = createTestState(players);
+      GameLoop loop = new GameLoop(rules, state);
+      submitAndTick(loop, new SystemAction("START", null));
+
+      int turns = 0;
+      while (!rules.isTerminal(state)) {
+        assertTrue(++turns < 1000, "Game did not finish");
+        UUID actor =
+            state.getAwaitingLandlordSelection() != null
+                ? state.getAwaitingLandlordSelection()
+                : state.currentPlayerId();
+        PlayerAction action = bot.decide(state, actor);
+        loop.submit(action);
+        MoveResult result = loop.tick();
+        assertTrue(result.isAccepted(), players + " players: " + action + " -> " + result);
+      }
+      assertEquals(1, state.players().stream().filter(p -> state.handOf(p).isEmpty()).count());
+    }
+  }
+
+  @Test
+  void testTakesImmediateWin() {
+    GameState state = create3PlayerGameInPlay(0);
+    UUID landlord = state.currentPlayerId();
+    dealHand(state, landlord, "3H", "3D");
+    dealHand(state, state.players().get(1), "5H", "6H", "7H", "8H", "9H");
+    dealHand(state, state.players().get(2), "5D", "6D", "7D", "8D", "9D");
+    IsmctsBot bot = new IsmctsBot(GameConfig.standard(3), SearchBudget.iterations(200), pool, 2L);
+
+    PlayerAction action = bot.decide(state, landlord);
+
+    assertEquals("PLAY", action.type());
+    assertEquals(new Hand(cards("3H", "3D")), new Hand(played(action)));
+  }
+
+  @Test
+  void testPassesWhenNothingBeatsTheLead() {
+    GameState state = create3PlayerGameInPlay(0);
+    UUID leader = state.players().get(0);
+    UUID next = state.players().get(1);
+    dealHand(state, leader, "5H", "6H", "7H");
+    dealHand(state, next, "3H", "4D");
+    state.setCurrentLead(new PlayedHand(ComboType.SINGLE, cards("BJ")));
+    state.setCurrentLeadPlayer(leader);
+    state.setCurrentPlayerIndex(1);
+    IsmctsBot bot = new IsmctsBot(GameConfig.standard(3), SearchBudget.iterations(50), pool, 3L);
+
+    PlayerAction action = bot.decide(state, next);
+
+    assertEquals("PLAY", action.type());
+    assertNull(action.payload());
+    assertThrows(IllegalStateException.class, () -> bot.decide(state, leader));
+  }
+
+  @Test
+  void testSameSeedMakesSameDecisions() {
+    GameState state = create3PlayerGameInPlay(0);
+    UUID landlord = state.currentPlayerId();
+    dealHand(state, landlord, "3H", "4D", "5S", "6C", "7H", "9D", "9S", "KH", "2C");
+    dealHand(state, state.players().get(1), "3D", "4H", "8S", "TC", "JH", "QD", "AS");
+    dealHand(state, state.players().get(2), "5D", "6H", "8H", "TD", "JS", "QC", "AH", "LJ");
+    GameConfig config = GameConfig.standard(3);
+
+    PlayerAction first =
+        new IsmctsBot(config, SearchBudget.iterations(300), pool, 9L).decide(state, landlord);
+    PlayerAction second =
+        new IsmctsBot(config, SearchBudget.iterations(300), pool, 9L).decide(state, landlord);
+
+    assertEquals(first.payload(), second.payload());
+  }
+
+  @Test
+  void testDeterminizationRedealsOnlyUnseenCards() {
+    GameState state = create3PlayerGameInPlay(0);
+    UUID me = state.players().get(0);
+    dealHand(state, me, "3H", "3D", "QS");
+    dealHand(state, state.players().get(1), "5H", "5H", "6H", "7H");
+    dealHand(state, state.players().get(2), "8D", "9D");
+    Position observed = Position.observe(state, me, new MoveGenerator(GameConfig.standard(3)));
+
+    Random random = new Random(5);
+    for (int i = 0; i < 20; i++) {
+      Position p = observed.determinize(random);
+      assertEquals(state.handOf(me), p.hand(0));
+      assertEquals(4, p.hand(1).size());
+      assertEquals(2, p.hand(2).size());
+      Hand others = new Hand(p.hand(1));
+      others.addAll(p.hand(2));
+      assertEquals(new Hand(cards("5H", "5H", "6H", "7H", "8D", "9D")), others);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Card> played(PlayerAction action) {
+    return (List<Card>) action.payload();
+  }
+}
@@ -0,0 +1,108 @@
+package com.yourco.ddz.engine.cards;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the count-based hand representation. */
+class HandTest {
+
+  private static Card c(Card.Suit suit, Card.Rank rank) {
+    return new Card(suit, rank);
+  }
+
+  @Test
+  void testCardIndexIsDenseAndRankOrdered() {
+    List<Card> all = new ArrayList<>();
+    for (int i = 0; i < Card.DISTINCT; i++) {
+      Card card = Card.of(i);
+      assertEquals(i, card.index());
+      all.add(card);
+    }
+    for (int i = 1; i < all.size(); i++) {
+      assertTrue(all.get(i - 1).rank().ordinal() <= all.get(i).rank().ordinal());
+    }
+    assertEquals(-1, c(Card.Suit.SPADES, Card.Rank.BIG_JOKER).index());
+    assertEquals(-1, c(Card.Suit.JOKER, Card.Rank.THREE).index());
+  }
+
+  @Test
+  void testIteratesInRankOrder() {
+    Hand hand = new Hand();
+    hand.add(c(Card.Suit.JOKER, Card.Rank.BIG_JOKER));
+    hand.add(c(Card.Suit.HEARTS, Card.Rank.KING));
+    hand.add(c(Card.Suit.CLUBS, Card.Rank.THREE));
+    hand.add(c(Card.Suit.SPADES, Card.Rank.TWO));
+
+    List<Card.Rank> ranks = hand.stream().map(Card::rank).toList();
+    assertEquals(
+        List.of(Card.Rank.THREE, Card.Rank.KING, Card.Rank.TWO, Card.Rank.BIG_JOKER), ranks);
+    assertEquals(Card.Rank.KING, hand.get(1).rank());
+    assertEquals(4, hand.size());
+  }
+
+  @Test
+  void testMultiDeckCounts() {
+    Card sevenSpades = c(Card.Suit.SPADES, Card.Rank.SEVEN);
+    Hand hand = new Hand(List.of(sevenSpades, sevenSpades, c(Card.Suit.HEARTS, Card.Rank.SEVEN)));
+
+    assertEquals(2, hand.count(sevenSpades));
+    assertEquals(3, hand.count(Card.Rank.SEVEN));
+    assertEquals(3, hand.size());
+    assertEquals(List.of(sevenSpades, sevenSpades), hand.subList(1, 3));
+
+    assertTrue(hand.remove(sevenSpades));
+    assertEquals(1, hand.count(sevenSpades));
+    assertEquals(2, hand.count(Card.Rank.SEVEN));
+  }
+
+  @Test
+  void testRemoveAllRemovesEveryCopy() {
+    Card sevenSpades = c(Card.Suit.SPADES, Card.Rank.SEVEN);
+    Card eightClubs = c(Card.Suit.CLUBS, Card.Rank.EIGHT);
+    Hand hand = new Hand(List.of(sevenSpades, sevenSpades, eightClubs));
+
+    assertTrue(hand.containsAll(List.of(sevenSpades, eightClubs)));
+    assertTrue(hand.removeAll(List.of(sevenSpades)));
+    assertEquals(List.of(eightClubs), List.copyOf(hand));
+    assertFalse(hand.contains(sevenSpades));
+  }
+
+  @Test
+  void testContainsEachAndRemoveEachCountCopies() {
+    Card sevenSpades = c(Card.Suit.SPADES, Card.Rank.SEVEN);
+    Card eightClubs = c(Card.Suit.CLUBS, Card.Rank.EIGHT);
+    Hand hand = new Hand(List.of(sevenSpades, eightClubs));
+
+    assertTrue(hand.containsEach(List.of(sevenSpades, eightClubs)));
+    assertFalse(hand.containsEach(List.of(sevenSpades, sevenSpades)));
+
+    // A failed removal leaves the hand as it was
+    assertFalse(hand.removeEach(List.of(sevenSpades, eightClubs, sevenSpades)));
+    assertEquals(List.of(sevenSpades, eightClubs), List.copyOf(hand));
+    assertEquals(1, hand.count(Card.Rank.SEVEN));
+
+    hand.add(sevenSpades);
+    assertTrue(hand.removeEach(List.of(sevenSpades, sevenSpades)));
+    assertEquals(List.of(eightClubs), List.copyOf(hand));
+    assertEquals(0, hand.count(Card.Rank.SEVEN));
+  }
+
+  @Test
+  void testClear() {
+    Hand hand = new Hand(List.of(c(Card.Suit.CLUBS, Card.Rank.THREE)));
+    hand.clear();
+    assertTrue(hand.isEmpty());
+    assertEquals(0, hand.count(Card.Rank.THREE));
+    assertFalse(hand.iterator().hasNext());
+  }
+
+  @Test
+  void testRejectsInvalidCard() {
+    Hand hand = new Hand();
+    assertThrows(
+        IllegalArgumentException.class, () -> hand.add(c(Card.Suit.HEARTS, Card.Rank.BIG_JOKER)));
+  }
+}
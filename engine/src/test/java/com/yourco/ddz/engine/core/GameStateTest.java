@@ -0,0 +1,97 @@
+package com.yourco.ddz.engine.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+
+/** Tests for GameState's per-seat player data. */
+class GameStateTest {
+
+  private final UUID a = UUID.randomUUID();
+  private final UUID b = UUID.randomUUID();
+  private final UUID c = UUID.randomUUID();
+  private final UUID stranger = UUID.randomUUID();
+
+  @Test
+  void testSeatsFollowJoinOrderAndGrow() {
+    GameState state = new GameState("g", List.of(a));
+    List<UUID> joined = new ArrayList<>(List.of(a));
+    for (int i = 0; i < 11; i++) {
+      UUID p = UUID.randomUUID();
+      state.addPlayer(p, "P" + i);
+      joined.add(p);
+    }
+    state.addPlayer(a, "again"); // already seated
+
+    assertEquals(joined, state.players());
+    for (int seat = 0; seat < joined.size(); seat++) {
+      UUID p = joined.get(seat);
+      assertEquals(seat, state.seatOf(p));
+      assertNotNull(state.handOf(p));
+      assertTrue(state.isPlayerConnected(p));
+    }
+    assertEquals("P10", state.getPlayerName(joined.get(11)));
+    assertEquals("Player", state.getPlayerName(a)); // never named
+    assertEquals(-1, state.seatOf(stranger));
+    assertNull(state.handOf(stranger));
+  }
+
+  @Test
+  void testBids() {
+    GameState state = new GameState("g", List.of(a, b, c));
+    assertEquals(0, state.getHighestBid());
+    assertTrue(state.getHighestBidders().isEmpty());
+
+    state.setPlayerBid(c, 2);
+    state.setPlayerBid(a, 0);
+    assertFalse(state.hasEveryoneBid());
+    state.setPlayerBid(b, 2);
+    state.setPlayerBid(b, 2); // a repeated bid still counts once
+
+    assertTrue(state.hasEveryoneBid());
+    assertEquals(2, state.getHighestBid());
+    assertEquals(List.of(b, c), state.getHighestBidders());
+    assertEquals(List.of(a, b, c), List.copyOf(state.getAllBids().keySet()));
+    assertEquals(0, state.getPlayerBid(a));
+    assertEquals(0, state.getPlayerBid(stranger));
+
+    state.clearBiddingState();
+    assertFalse(state.hasEveryoneBid());
+    assertTrue(state.getAllBids().isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> state.setPlayerBid(stranger, 1));
+  }
+
+  @Test
+  void testScores() {
+    GameState state = new GameState("g", List.of(a, b, c));
+    assertTrue(state.getScores().isEmpty());
+
+    state.addScore(b, 4);
+    state.addScore(b, -1);
+    state.setScore(a, 7);
+
+    assertEquals(Map.of(a, 7, b, 3), state.getScores());
+    assertThrows(IllegalArgumentException.class, () -> state.addScore(stranger, 1));
+
+    state.resetForNewGame();
+    assertTrue(state.getScores().isEmpty());
+  }
+
+  @Test
+  void testConnections() {
+    GameState state = new GameState("g", List.of(a, b));
+    assertTrue(state.allPlayersConnected());
+
+    state.setPlayerConnected(b, false);
+    state.setPlayerConnected(stranger, true); // spectators have no seat: ignored
+
+    assertFalse(state.allPlayersConnected());
+    assertFalse(state.isPlayerConnected(b));
+    assertFalse(state.isPlayerConnected(stranger));
+    assertEquals(Map.of(a, true, b, false), state.getPlayerConnectionStatus());
+
+    state.setPlayerConnected(b, true);
+    assertTrue(state.allPlayersConnected());
+  }
+}
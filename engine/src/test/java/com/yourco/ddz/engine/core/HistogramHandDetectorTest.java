@@ -0,0 +1,99 @@
+package com.yourco.ddz.engine.core;
+
+import static com.yourco.ddz.engine.core.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.yourco.ddz.engine.cards.Card;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+
+/** Checks that the single-pass detector agrees with the pattern-chain detector. */
+class HistogramHandDetectorTest {
+
+  private final HandDetector reference = HandDetector.defaultDdz();
+  private final HistogramHandDetector detector = new HistogramHandDetector();
+
+  private void assertSameAsReference(List<Card> cards) {
+    var expected = reference.detect(cards).map(PlayedHand::type);
+    var actual = detector.detect(cards).map(PlayedHand::type);
+    assertEquals(expected, actual, "Detection differs for " + cards);
+  }
+
+  @Test
+  void testEveryComboType() {
+    assertEquals(ComboType.SINGLE, HistogramHandDetector.classify(cards("3H")));
+    assertEquals(ComboType.PAIR, HistogramHandDetector.classify(cards("3H", "3D")));
+    assertEquals(ComboType.TRIPLE, HistogramHandDetector.classify(cards("3H", "3D", "3S")));
+    assertEquals(
+        ComboType.TRIPLE_WITH_SINGLE,
+        HistogramHandDetector.classify(cards("3H", "3D", "3S", "4C")));
+    assertEquals(
+        ComboType.TRIPLE_WITH_PAIR,
+        HistogramHandDetector.classify(cards("3H", "3D", "3S", "4C", "4D")));
+    assertEquals(
+        ComboType.SEQUENCE,
+        HistogramHandDetector.classify(cards("TH", "JD", "QS", "KC", "AD", "2H")));
+    assertEquals(
+        ComboType.PAIR_SEQUENCE,
+        HistogramHandDetector.classify(cards("3H", "3D", "4S", "4C", "5D", "5H")));
+    assertEquals(
+        ComboType.AIRPLANE,
+        HistogramHandDetector.classify(cards("3H", "3D", "3S", "4C", "4D", "4H")));
+    assertEquals(
+        ComboType.AIRPLANE_WITH_SINGLES,
+        HistogramHandDetector.classify(cards("3H", "3D", "3S", "4C", "4D", "4H", "7S", "9S")));
+    assertEquals(
+        ComboType.AIRPLANE_WITH_PAIRS,
+        HistogramHandDetector.classify(
+            cards("3H", "3D", "3S", "4C", "4D", "4H", "7S", "7H", "9S", "9D")));
+    assertEquals(ComboType.BOMB, HistogramHandDetector.classify(cards("7H", "7D", "7S", "7C")));
+    assertEquals(
+        ComboType.BOMB_WITH_SINGLES,
+        HistogramHandDetector.classify(cards("7H", "7D", "7S", "7C", "3H", "5D")));
+    assertEquals(
+        ComboType.BOMB_WITH_PAIRS,
+        HistogramHandDetector.classify(cards("7H", "7D", "7S", "7C", "3H", "3D", "5D", "5S")));
+    assertEquals(ComboType.ROCKET, HistogramHandDetector.classify(cards("LJ", "BJ")));
+  }
+
+  @Test
+  void testInvalidPlays() {
+    assertNull(HistogramHandDetector.classify(List.of()));
+    assertNull(HistogramHandDetector.classify(cards("3H", "4D")));
+    assertNull(HistogramHandDetector.classify(cards("LJ", "LJ")));
+    assertNull(HistogramHandDetector.classify(cards("QS", "KC", "AD", "2H", "LJ")));
+    assertNull(HistogramHandDetector.classify(cards("3H", "4D", "5S", "6C", "8D")));
+  }
+
+  @Test
+  void testMatchesReferenceOnRandomMultiDeckPlays() {
+    List<Card> pool = new ArrayList<>();
+    for (int d = 0; d < 3; d++) {
+      for (Card.Rank r : Card.Rank.values()) {
+        if (r == Card.Rank.LITTLE_JOKER || r == Card.Rank.BIG_JOKER) {
+          pool.add(new Card(Card.Suit.JOKER, r));
+        } else {
+          for (Card.Suit s : Card.Suit.values()) {
+            if (s != Card.Suit.JOKER) pool.add(new Card(s, r));
+          }
+        }
+      }
+    }
+
+    // Draw from a narrow window of ranks so most samples land near a real combo
+    Random random = new Random(42);
+    int ranks = Card.Rank.values().length;
+    for (int i = 0; i < 3000; i++) {
+      int lo = random.nextInt(ranks);
+      int hi = Math.min(ranks - 1, lo + random.nextInt(6));
+      List<Card> window = new ArrayList<>();
+      for (Card c : pool) {
+        int o = c.rank().ordinal();
+        if (o >= lo && o <= hi) window.add(c);
+      }
+      Collections.shuffle(window, random);
+      int size = 1 + random.nextInt(Math.min(window.size(), 16));
+      assertSameAsReference(window.subList(0, size));
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.yourco.ddz.engine.core;
+
+import static com.yourco.ddz.engine.core.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Dealer;
+import com.yourco.ddz.engine.cards.Hand;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+
+/** Checks the move generator against brute-force enumeration with the detector and comparator. */
+class MoveGeneratorTest {
+
+  private static final int RANKS = Card.Rank.values().length;
+
+  private final SimplePlayComparator comparator = new SimplePlayComparator();
+
+  @Test
+  void testLeadingEnumeratesEveryComboShape() {
+    MoveGenerator generator = new MoveGenerator(GameConfig.standard(3));
+    Hand hand = new Hand(cards("3H", "3D", "3S", "4C", "4D", "4H", "5S", "5H", "LJ", "BJ"));
+
+    Set<ComboType> types = new HashSet<>();
+    generator.legalPlays(hand, null).forEach(p -> types.add(p.type()));
+
+    assertTrue(types.contains(ComboType.AIRPLANE));
+    assertTrue(types.contains(ComboType.AIRPLANE_WITH_SINGLES));
+    assertTrue(types.contains(ComboType.TRIPLE_WITH_PAIR));
+    assertTrue(types.contains(ComboType.PAIR_SEQUENCE));
+    assertTrue(types.contains(ComboType.ROCKET));
+    assertFalse(types.contains(ComboType.BOMB));
+  }
+
+  @Test
+  void testFirstBeatingPlayIsCheapest() {
+    MoveGenerator generator = new MoveGenerator(GameConfig.standard(3));
+    Hand hand = new Hand(cards("5H", "9D", "KS", "7C", "7D", "7H", "7S", "LJ", "BJ"));
+    PlayedHand lead = new PlayedHand(ComboType.SINGLE, cards("8H"));
+
+    PlayedHand first = generator.legalPlays(hand, lead).findFirst().orElseThrow();
+    assertEquals(ComboType.SINGLE, first.type());
+    assertEquals(cards("9D"), first.cards());
+
+    PlayedHand rocket = new PlayedHand(ComboType.ROCKET, cards("LJ", "BJ"));
+    assertFalse(generator.canBeat(hand, rocket));
+  }
+
+  @Test
+  void testPlaysTakenOneAtATimeMatchFullEnumeration() {
+    MoveGenerator generator = new MoveGenerator(GameConfig.standard(3));
+    Hand hand =
+        new Hand(
+            cards(
+                "3H", "3D", "3S", "4C", "4D", "4H", "5S", "5H", "5D", "6C", "7D", "8H", "9S", "TC",
+                "JD", "QH", "KS", "AC", "2D"));
+    PlayedHand lead =
+        new PlayedHand(
+            ComboType.AIRPLANE_WITH_SINGLES, cards("3C", "3H", "3D", "4S", "4H", "4D", "9C", "TD"));
+
+    for (PlayedHand against : Arrays.asList(null, lead)) {
+      List<PlayedHand> all = generator.legalPlays(hand, against).toList();
+      Iterator<PlayedHand> stepped = generator.legalPlays(hand, against).iterator();
+      for (PlayedHand play : all) {
+        assertEquals(play, stepped.next());
+      }
+      assertFalse(stepped.hasNext());
+    }
+    assertEquals(
+        ComboType.AIRPLANE_WITH_SINGLES, generator.legalPlays(hand, lead).findFirst().get().type());
+  }
+
+  @Test
+  void testSingleKickersExcludedForFivePlayers() {
+    MoveGenerator generator = new MoveGenerator(GameConfig.standard(5));
+    Hand hand = new Hand(cards("3H", "3D", "3S", "4C", "4D", "4H", "5S", "6H", "8C", "8D"));
+
+    generator
+        .legalPlays(hand, null)
+        .forEach(
+            p -> {
+              assertNotEquals(ComboType.TRIPLE_WITH_SINGLE, p.type());
+              assertNotEquals(ComboType.AIRPLANE_WITH_SINGLES, p.type());
+              assertNotEquals(ComboType.BOMB_WITH_SINGLES, p.type());
+            });
+  }
+
+  @Test
+  void testMatchesBruteForceOnRandomMultiDeckHands() {
+    Random random = new Random(7);
+    Dealer dealer = new Dealer(3);
+    for (int i = 0; i < 300; i++) {
+      int players = random.nextBoolean() ? 3 : 5;
+      MoveGenerator generator = new MoveGenerator(GameConfig.standard(players));
+
+      dealer.shuffle(random);
+      Hand hand = new Hand();
+      dealer.deal(0, 8 + random.nextInt(5), hand);
+
+      // Lead with a random valid play from another slice of the shuffled decks
+      PlayedHand lead = null;
+      if (random.nextInt(4) > 0) {
+        List<Card> other = new ArrayList<>();
+        dealer.deal(20, 40, other);
+        List<PlayedHand> candidates = bruteForce(new Hand(other), null, players);
+        lead = candidates.get(random.nextInt(candidates.size()));
+      }
+
+      Set<String> expected = new TreeSet<>();
+      for (PlayedHand p : bruteForce(hand, lead, players)) {
+        expected.add(key(p));
+      }
+      List<PlayedHand> generated = generator.legalPlays(hand, lead).toList();
+      Set<String> actual = new TreeSet<>();
+      for (PlayedHand p : generated) {
+        assertEquals(p.type(), HistogramHandDetector.classify(p.cards()), "Mislabelled " + p);
+        assertTrue(owns(hand, p.cards()), "Not in hand: " + p);
+        assertTrue(actual.add(key(p)), "Duplicate " + p);
+      }
+      assertEquals(expected, actual, "Hand " + hand + " vs lead " + lead);
+    }
+  }
+
+  /** Every rank multiset of the hand that DdzRules would accept, minus surplus-kicker airplanes. */
+  private List<PlayedHand> bruteForce(Hand hand, PlayedHand lead, int players) {
+    int[] counts = new int[RANKS];
+    for (Card.Rank r : Card.Rank.values()) {
+      counts[r.ordinal()] = hand.count(r);
+    }
+    List<PlayedHand> plays = new ArrayList<>();
+    int[] take = new int[RANKS];
+    while (next(take, counts)) {
+      List<Card> cards = new ArrayList<>();
+      for (Card c : hand) {
+        long taken = cards.stream().filter(x -> x.rank() == c.rank()).count();
+        if (taken < take[c.rank().ordinal()]) cards.add(c);
+      }
+      ComboType type = HistogramHandDetector.classify(cards);
+      if (type == null || !canonical(type, take, cards.size())) continue;
+      if (players >= 5
+          && (type == ComboType.TRIPLE_WITH_SINGLE
+              || type == ComboType.AIRPLANE_WITH_SINGLES
+              || type == ComboType.BOMB_WITH_SINGLES)) {
+        continue;
+      }
+      PlayedHand play = new PlayedHand(type, cards);
+      if (lead != null) {
+        try {
+          if (comparator.compare(play, lead) <= 0) continue;
+        } catch (IllegalArgumentException notComparable) {
+          continue;
+        }
+      }
+      plays.add(play);
+    }
+    return plays;
+  }
+
+  /** Odometer over per-rank take counts; false once every combination has been visited. */
+  private static boolean next(int[] take, int[] counts) {
+    for (int r = 0; r < RANKS; r++) {
+      if (take[r] < counts[r]) {
+        take[r]++;
+        return true;
+      }
+      take[r] = 0;
+    }
+    return false;
+  }
+
+  private static boolean canonical(ComboType type, int[] take, int n) {
+    int triples = 0;
+    for (int c : take) {
+      if (c == 3) triples++;
+    }
+    return switch (type) {
+      case AIRPLANE_WITH_SINGLES -> n == triples * 4;
+      case AIRPLANE_WITH_PAIRS -> n == triples * 5;
+      default -> true;
+    };
+  }
+
+  private static String key(PlayedHand p) {
+    int[] counts = new int[RANKS];
+    for (Card c : p.cards()) {
+      counts[c.rank().ordinal()]++;
+    }
+    return p.type() + Arrays.toString(counts);
+  }
+
+  private static boolean owns(Hand hand, List<Card> cards) {
+    Map<Card, Integer> needed = new HashMap<>();
+    for (Card c : cards) {
+      needed.merge(c, 1, Integer::sum);
+    }
+    return needed.entrySet().stream().allMatch(e -> hand.count(e.getKey()) >= e.getValue());
+  }
+}
@@ -3,6 +3,11 @@ package com.yourco.ddz.engine.core;
 import static com.yourco.ddz.engine.core.TestUtils.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.cards.Dealer;
+import com.yourco.ddz.engine.cards.Hand;
+import java.util.*;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -190,4 +195,126 @@ class SimplePlayComparatorTest {
     int result = comparator.compare(triple1, triple2);
     assertEquals(0, result, "Equal triples should return 0");
   }
+
+  @Test
+  void testMalformedHandsStillThrowWhenRanked() {
+    PlayedHand noTriple =
+        new PlayedHand(ComboType.TRIPLE_WITH_SINGLE, cards("3H", "4D", "5S", "6C"));
+    PlayedHand triple = detectHand("7H", "7D", "7S", "3C");
+
+    assertThrows(NoSuchElementException.class, () -> comparator.compare(noTriple, triple));
+    assertTrue(comparator.compare(detectHand("8H", "8D", "8S", "8C"), noTriple) > 0);
+  }
+
+  // ============= STRENGTH KEY EQUIVALENCE =============
+
+  @Test
+  void testStrengthKeysMatchCardCountingOnGeneratedPlays() {
+    Random random = new Random(23);
+    Dealer dealer = new Dealer(2);
+    PlayDetector histogram = new HistogramHandDetector();
+    MoveGenerator generator = new MoveGenerator(GameConfig.standard(3));
+    for (int i = 0; i < 40; i++) {
+      dealer.shuffle(random);
+      Hand hand = new Hand();
+      dealer.deal(0, 10 + random.nextInt(4), hand);
+      List<PlayedHand> plays = generator.legalPlays(hand, null).toList();
+
+      for (PlayedHand p : plays) {
+        long expected = PlayStrength.of(p.type(), p.cards());
+        assertEquals(expected, p.strength(), "Generated key for " + p);
+        assertEquals(expected, detector.detect(p.cards()).orElseThrow().strength(), "Chain " + p);
+        assertEquals(expected, histogram.detect(p.cards()).orElseThrow().strength(), "Hist " + p);
+      }
+      for (PlayedHand a : plays) {
+        for (PlayedHand b : plays) {
+          assertEquals(byCounting(a, b), byKey(a, b), a + " vs " + b);
+        }
+      }
+    }
+  }
+
+  private String byKey(PlayedHand a, PlayedHand b) {
+    try {
+      return Integer.toString(comparator.compare(a, b));
+    } catch (RuntimeException e) {
+      return e.getClass().getSimpleName();
+    }
+  }
+
+  private static String byCounting(PlayedHand a, PlayedHand b) {
+    try {
+      return Integer.toString(CountingComparator.compare(a, b));
+    } catch (RuntimeException e) {
+      return e.getClass().getSimpleName();
+    }
+  }
+
+  /** The comparator as it was before strength keys: recounts the cards on every comparison. */
+  private static final class CountingComparator {
+    static int compare(PlayedHand a, PlayedHand b) {
+      if (a.type() == ComboType.ROCKET && b.type() == ComboType.ROCKET) return 0;
+      if (a.type() == ComboType.ROCKET) return 1;
+      if (b.type() == ComboType.ROCKET) return -1;
+      boolean aIsBomb = isBomb(a.type());
+      boolean bIsBomb = isBomb(b.type());
+      if (aIsBomb && bIsBomb) {
+        int aSize = bombSize(a);
+        int bSize = bombSize(b);
+        if (aSize != bSize) return Integer.compare(aSize, bSize);
+        return Integer.compare(primaryRank(a), primaryRank(b));
+      }
+      if (aIsBomb) return 1;
+      if (bIsBomb) return -1;
+      if (a.type() != b.type() || a.cards().size() != b.cards().size()) {
+        throw new IllegalArgumentException("Hands are not comparable");
+      }
+      return Integer.compare(primaryRank(a), primaryRank(b));
+    }
+
+    private static boolean isBomb(ComboType type) {
+      return type == ComboType.BOMB
+          || type == ComboType.BOMB_WITH_SINGLES
+          || type == ComboType.BOMB_WITH_PAIRS;
+    }
+
+    private static Map<Card.Rank, Long> counts(PlayedHand hand) {
+      return hand.cards().stream()
+          .collect(Collectors.groupingBy(Card::rank, Collectors.counting()));
+    }
+
+    private static int bombSize(PlayedHand hand) {
+      if (hand.type() == ComboType.BOMB) return hand.cards().size();
+      return counts(hand).values().stream()
+          .filter(c -> c >= 4)
+          .mapToInt(Long::intValue)
+          .findFirst()
+          .orElseThrow();
+    }
+
+    private static int primaryRank(PlayedHand hand) {
+      var ranks = counts(hand).entrySet().stream();
+      return switch (hand.type()) {
+        case TRIPLE_WITH_SINGLE, TRIPLE_WITH_PAIR ->
+            ranks
+                .filter(e -> e.getValue() == 3)
+                .mapToInt(e -> e.getKey().ordinal())
+                .findFirst()
+                .orElseThrow();
+        case AIRPLANE, AIRPLANE_WITH_SINGLES, AIRPLANE_WITH_PAIRS ->
+            ranks
+                .filter(e -> e.getValue() == 3)
+                .mapToInt(e -> e.getKey().ordinal())
+                .max()
+                .orElseThrow();
+        case BOMB_WITH_SINGLES, BOMB_WITH_PAIRS ->
+            ranks
+                .filter(e -> e.getValue() >= 4)
+                .mapToInt(e -> e.getKey().ordinal())
+                .findFirst()
+                .orElseThrow();
+        default -> ranks.mapToInt(e -> e.getKey().ordinal()).max().orElseThrow();
+      };
+    }
+  }
 }
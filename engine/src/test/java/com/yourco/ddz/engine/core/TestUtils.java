@@ -138,14 +138,14 @@ public class TestUtils {
   }
 
   /**
-   * Submit action and tick loop in one call.
+   * Submit action and tick loop in one call, throwing if the action is rejected.
    *
    * @param loop game loop
    * @param action action to submit
    */
   public static void submitAndTick(GameLoop loop, GameAction action) {
     loop.submit(action);
-    loop.tick();
+    loop.tick().orThrow();
   }
 
   /**
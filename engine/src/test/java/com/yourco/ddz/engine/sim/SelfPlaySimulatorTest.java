@@ -0,0 +1,40 @@
+package com.yourco.ddz.engine.sim;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.yourco.ddz.engine.core.GameConfig;
+import org.junit.jupiter.api.Test;
+
+/** Short self-play soak runs; long runs go through the :engine:simulate task. */
+class SelfPlaySimulatorTest {
+
+  @Test
+  void testThreePlayerRandomGamesHaveNoViolations() {
+    SimulationReport report =
+        new SelfPlaySimulator(GameConfig.standard(3), Bot.RANDOM, 4).run(500, 1L);
+
+    assertEquals(500, report.games());
+    assertEquals(0, report.violations(), report.toString());
+    assertTrue(report.moves() > 0);
+  }
+
+  @Test
+  void testGreedyGamesForEveryStandardPreset() {
+    for (int players = 3; players <= 12; players++) {
+      SimulationReport report =
+          new SelfPlaySimulator(GameConfig.standard(players), Bot.GREEDY, 2).run(50, players);
+      assertEquals(0, report.violations(), players + " players: " + report);
+    }
+  }
+
+  @Test
+  void testSameSeedPlaysSameGamesOnAnyThreadCount() {
+    GameConfig config = GameConfig.standard(5);
+    SimulationReport serial = new SelfPlaySimulator(config, Bot.RANDOM, 1).run(600, 42L);
+    SimulationReport parallel = new SelfPlaySimulator(config, Bot.RANDOM, 4).run(600, 42L);
+
+    assertEquals(serial.moves(), parallel.moves());
+    assertEquals(serial.landlordWins(), parallel.landlordWins());
+    assertEquals(serial.maxAbsScore(), parallel.maxAbsScore());
+  }
+}
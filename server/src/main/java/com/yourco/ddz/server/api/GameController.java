@@ -1,8 +1,10 @@
 package com.yourco.ddz.server.api;
 
 import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.engine.core.MoveResult;
 import com.yourco.ddz.engine.core.SystemAction;
 import com.yourco.ddz.server.api.dto.*;
+import com.yourco.ddz.server.core.GameInstance;
 import com.yourco.ddz.server.core.GameRegistry;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -50,19 +52,25 @@ public class GameController {
             request.playerCount(), request.creatorName(), creatorId, request.userId());
     String joinCode = registry.getJoinCode(instance.gameId());
 
-    var response =
-        GameInfo.from(
-            instance.getState(),
-            joinCode,
-            creatorId.toString(),
-            instance.getMaxBid(),
-            instance.maxPlayers());
-
-    // Broadcast to any connected WebSocket clients (usually none for new games, but just in case)
-    wsHandler.broadcastStateUpdate(
-        instance.gameId(), instance, "Game created by " + request.creatorName());
-
-    return ResponseEntity.ok(response);
+    return instance
+        .actor()
+        .call(
+            () -> {
+              var response =
+                  GameInfo.from(
+                      instance.getState(),
+                      joinCode,
+                      creatorId.toString(),
+                      instance.getMaxBid(),
+                      instance.maxPlayers());
+
+              // Broadcast to any connected WebSocket clients (usually none for new games, but
+              // just in case)
+              wsHandler.broadcastStateUpdate(
+                  instance.gameId(), instance, "Game created by " + request.creatorName());
+
+              return ResponseEntity.ok(response);
+            });
   }
 
   @PostMapping("/games/{gameId}/join")
@@ -74,6 +82,12 @@ public class GameController {
       return ResponseEntity.notFound().build();
     }
 
+    // Checked and applied on the game's actor, so two joins cannot both take the last seat
+    return registry.call(instance, game -> join(gameId, game, request));
+  }
+
+  /** Runs on the game's actor. */
+  private ResponseEntity<?> join(String gameId, GameInstance instance, JoinGameRequest request) {
     if (instance.isFull()) {
       return ResponseEntity.badRequest().body("Game is full");
     }
@@ -84,6 +98,7 @@ public class GameController {
 
     // Track userId -> playerId mapping for reconnection
     registry.addUserMapping(gameId, request.userId(), playerId);
+    registry.updateGame(gameId);
 
     String joinCode = registry.getJoinCode(gameId);
     var response =
@@ -116,6 +131,11 @@ public class GameController {
       return ResponseEntity.notFound().build();
     }
 
+    return registry.call(instance, game -> start(gameId, game));
+  }
+
+  /** Runs on the game's actor. */
+  private ResponseEntity<?> start(String gameId, GameInstance instance) {
     int currentPlayers = instance.getState().players().size();
     int requiredPlayers = instance.maxPlayers();
 
@@ -142,7 +162,10 @@ public class GameController {
     // Start or restart the game
     boolean isRestart = instance.getState().phase() == GameState.Phase.TERMINATED;
     instance.loop().submit(new SystemAction("START", null));
-    instance.loop().tick();
+    if (instance.loop().tick() instanceof MoveResult.Rejected rejected) {
+      return ResponseEntity.badRequest().body(rejected.message());
+    }
+    registry.updateGame(gameId);
 
     String joinCode = registry.getJoinCode(gameId);
     var response =
@@ -181,14 +204,19 @@ public class GameController {
       return ResponseEntity.badRequest().body("Invalid playerId");
     }
 
-    if (!instance.getState().players().contains(playerUUID)) {
-      return ResponseEntity.badRequest().body("Player not in this game");
-    }
-
-    var response =
-        GameStateResponse.from(
-            instance.getState(), playerUUID, instance.getMaxBid(), instance.maxPlayers());
-    return ResponseEntity.ok(response);
+    return instance
+        .actor()
+        .call(
+            () -> {
+              if (!instance.getState().players().contains(playerUUID)) {
+                return ResponseEntity.badRequest().body("Player not in this game");
+              }
+
+              var response =
+                  GameStateResponse.from(
+                      instance.getState(), playerUUID, instance.getMaxBid(), instance.maxPlayers());
+              return ResponseEntity.ok(response);
+            });
   }
 
   @GetMapping("/games/by-code/{joinCode}")
@@ -199,9 +227,7 @@ public class GameController {
       return ResponseEntity.notFound().build();
     }
 
-    var response =
-        GameInfo.from(instance.getState(), joinCode, instance.getMaxBid(), instance.maxPlayers());
-    return ResponseEntity.ok(response);
+    return gameInfo(instance, joinCode);
   }
 
   @GetMapping("/users/{userId}/active-game")
@@ -221,8 +247,20 @@ public class GameController {
     }
 
     String joinCode = registry.getJoinCode(gameId);
-    var response =
-        GameInfo.from(instance.getState(), joinCode, instance.getMaxBid(), instance.maxPlayers());
-    return ResponseEntity.ok(response);
+    return gameInfo(instance, joinCode);
+  }
+
+  /** Game summary read on the game's actor. */
+  private ResponseEntity<GameInfo> gameInfo(GameInstance instance, String joinCode) {
+    return instance
+        .actor()
+        .call(
+            () ->
+                ResponseEntity.ok(
+                    GameInfo.from(
+                        instance.getState(),
+                        joinCode,
+                        instance.getMaxBid(),
+                        instance.maxPlayers())));
   }
 }
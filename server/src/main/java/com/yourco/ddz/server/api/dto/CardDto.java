@@ -8,6 +8,6 @@ public record CardDto(String suit, String rank) {
   }
 
   public Card toCard() {
-    return new Card(Card.Suit.valueOf(suit), Card.Rank.valueOf(rank));
+    return Card.of(Card.Suit.valueOf(suit), Card.Rank.valueOf(rank));
   }
 }
@@ -49,7 +49,9 @@ public record GameStateResponse(
         state.gameId(),
         state.phase().name(),
         state.currentPlayerId() != null ? state.currentPlayerId().toString() : null,
-        state.handOf(requestingPlayerId).stream().map(CardDto::from).toList(),
+        requestingPlayerId != null
+            ? state.handOf(requestingPlayerId).stream().map(CardDto::from).toList()
+            : List.of(),
         state.players().stream().map(p -> PlayerInfo.from(state, p)).toList(),
         maxPlayers,
         PlayedHandDto.from(state.getCurrentLead()),
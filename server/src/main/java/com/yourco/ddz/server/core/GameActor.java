@@ -0,0 +1,114 @@
+package com.yourco.ddz.server.core;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mailbox for one game. Tasks run one at a time, in the order they were sent, on a shared executor;
+ * the game's {@link com.yourco.ddz.engine.core.GameLoop} and state are only touched from inside
+ * them, so no locks are needed and an idle game holds no thread.
+ */
+public final class GameActor {
+  private static final Logger log = LoggerFactory.getLogger(GameActor.class);
+
+  // Tasks run before handing the thread back, so a busy game cannot starve the others
+  private static final int MAX_BATCH = 64;
+
+  private final Executor executor;
+  private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private volatile Thread runner;
+
+  public GameActor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /** Queue a task and return immediately. Exceptions it throws are logged. */
+  public void tell(Runnable task) {
+    mailbox.add(task);
+    schedule();
+  }
+
+  /** Queue a task and return a future for its result. */
+  public <T> CompletableFuture<T> ask(Supplier<T> task) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    tell(
+        () -> {
+          try {
+            result.complete(task.get());
+          } catch (Throwable t) {
+            result.completeExceptionally(t);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Run a task on this actor and wait for its result, rethrowing what it throws. Runs the task
+   * directly when already called from this actor.
+   */
+  public <T> T call(Supplier<T> task) {
+    if (isCurrent()) {
+      return task.get();
+    }
+    try {
+      return ask(task).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      if (e.getCause() instanceof Error err) {
+        throw err;
+      }
+      throw e;
+    }
+  }
+
+  /** Whether the calling thread is currently running this actor's tasks. */
+  public boolean isCurrent() {
+    return runner == Thread.currentThread();
+  }
+
+  private void schedule() {
+    if (!scheduled.compareAndSet(false, true)) {
+      return; // already running or about to; it will see the new task
+    }
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      // Executor shutting down: finish the work here rather than lose it
+      drain();
+    }
+  }
+
+  private void drain() {
+    runner = Thread.currentThread();
+    try {
+      for (int i = 0; i < MAX_BATCH; i++) {
+        Runnable task = mailbox.poll();
+        if (task == null) {
+          break;
+        }
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          log.error("Game task failed", e);
+        }
+      }
+    } finally {
+      runner = null;
+      scheduled.set(false);
+    }
+    if (!mailbox.isEmpty()) {
+      schedule();
+    }
+  }
+}
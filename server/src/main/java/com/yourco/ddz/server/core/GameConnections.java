@@ -0,0 +1,15 @@
+package com.yourco.ddz.server.core;
+
+/**
+ * What the WebSocket layer knows about a game's clients, as far as {@link GameEvictor} needs it: a
+ * game with connected clients stays in memory, and a game that is unloaded has its per-game
+ * connection state dropped.
+ */
+public interface GameConnections {
+
+  /** Whether any client is connected to the game. */
+  boolean isConnected(String gameId);
+
+  /** The game was unloaded from memory; forget anything kept for it. */
+  void unloaded(String gameId);
+}
@@ -0,0 +1,185 @@
+package com.yourco.ddz.server.core;
+
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.server.service.WriteBehindQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Unloads games nobody is using, so the registry does not grow for as long as the server runs.
+ * Every {@code ddz.eviction.interval-seconds} it looks at each game in memory and unloads it when
+ * it has been TERMINATED for {@code finished-minutes}, or unchanged for {@code idle-minutes}, and
+ * no client is connected. A game is saved before it is unloaded and is loaded back from the
+ * database when it is next asked for (see {@link GameRegistry#get}).
+ *
+ * <p>Metrics: {@code ddz.games.loaded} games in memory, {@code ddz.games.players} their seated
+ * players, {@code ddz.games.join.codes} join codes in use, {@code ddz.games.evicted} games
+ * unloaded, by reason, and {@code ddz.games.reloaded} games loaded back from the database.
+ */
+@Component
+public class GameEvictor {
+  private static final Logger log = LoggerFactory.getLogger(GameEvictor.class);
+
+  private final GameRegistry registry;
+  private final GameConnections connections;
+  private final WriteBehindQueue writeBehind;
+  private final Duration idleTimeout;
+  private final Duration finishedTimeout;
+  private final Clock clock;
+
+  private final Counter evictedIdle;
+  private final Counter evictedFinished;
+  private ScheduledExecutorService scheduler;
+
+  @Autowired
+  public GameEvictor(
+      GameRegistry registry,
+      GameConnections connections,
+      WriteBehindQueue writeBehind,
+      MeterRegistry meters,
+      @Value("${ddz.eviction.interval-seconds:60}") long intervalSeconds,
+      @Value("${ddz.eviction.idle-minutes:30}") long idleMinutes,
+      @Value("${ddz.eviction.finished-minutes:5}") long finishedMinutes) {
+    this(
+        registry,
+        connections,
+        writeBehind,
+        meters,
+        Duration.ofMinutes(idleMinutes),
+        Duration.ofMinutes(finishedMinutes),
+        Clock.systemUTC());
+    if (intervalSeconds > 0) {
+      scheduler =
+          Executors.newSingleThreadScheduledExecutor(
+              Thread.ofPlatform().name("game-evictor").daemon(true).factory());
+      scheduler.scheduleWithFixedDelay(
+          this::sweepSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  GameEvictor(
+      GameRegistry registry,
+      GameConnections connections,
+      WriteBehindQueue writeBehind,
+      MeterRegistry meters,
+      Duration idleTimeout,
+      Duration finishedTimeout,
+      Clock clock) {
+    this.registry = registry;
+    this.connections = connections;
+    this.writeBehind = writeBehind;
+    this.idleTimeout = idleTimeout;
+    this.finishedTimeout = finishedTimeout;
+    this.clock = clock;
+
+    Gauge.builder("ddz.games.loaded", registry, r -> r.getAllGames().size())
+        .description("Games held in memory")
+        .register(meters);
+    Gauge.builder("ddz.games.players", registry, GameEvictor::seatedPlayers)
+        .description("Players seated in the games held in memory")
+        .register(meters);
+    Gauge.builder("ddz.games.join.codes", registry, GameRegistry::joinCodeCount)
+        .description("Join codes in use")
+        .register(meters);
+    FunctionCounter.builder("ddz.games.reloaded", registry, GameRegistry::loadedFromDatabaseCount)
+        .description("Games loaded back into memory from the database")
+        .register(meters);
+    this.evictedIdle = evictedCounter(meters, "idle");
+    this.evictedFinished = evictedCounter(meters, "finished");
+  }
+
+  /**
+   * Unload every game that is due.
+   *
+   * @return The number of games unloaded
+   */
+  public int sweep() {
+    Instant now = clock.instant();
+    int evicted = 0;
+    for (GameInstance game : List.copyOf(registry.getAllGames())) {
+      try {
+        Counter reason = game.actor().call(() -> evictIfDue(game, now));
+        if (reason != null) {
+          reason.increment();
+          connections.unloaded(game.gameId());
+          evicted++;
+        }
+      } catch (RuntimeException e) {
+        log.warn("Could not unload game {}, keeping it in memory", game.gameId(), e);
+      }
+    }
+    if (evicted > 0) {
+      log.info("Unloaded {} games, {} still in memory", evicted, registry.getAllGames().size());
+    }
+    return evicted;
+  }
+
+  /** Runs on the game's actor; unloads the game if it is due and returns why, else null. */
+  private Counter evictIfDue(GameInstance game, Instant now) {
+    // Already unloaded, and perhaps loaded back as another instance this one must not unload
+    if (!registry.isLoaded(game)) {
+      return null;
+    }
+    GameState state = game.getState();
+    Counter reason;
+    if (state.phase() == GameState.Phase.TERMINATED
+        && state.updatedAt().plus(finishedTimeout).isBefore(now)) {
+      reason = evictedFinished;
+    } else if (state.updatedAt().plus(idleTimeout).isBefore(now)) {
+      reason = evictedIdle;
+    } else {
+      return null;
+    }
+    // A connected client still uses it, and queued writes must land before a reload could read
+    if (connections.isConnected(game.gameId()) || writeBehind.isPending(game.gameId())) {
+      return null;
+    }
+    return registry.unload(game.gameId()) != null ? reason : null;
+  }
+
+  private void sweepSafely() {
+    try {
+      sweep();
+    } catch (RuntimeException e) {
+      log.error("Game eviction sweep failed", e);
+    }
+  }
+
+  /** Runs on the metrics thread; reads roster sizes without going through the actors. */
+  private static double seatedPlayers(GameRegistry registry) {
+    int players = 0;
+    for (GameInstance game : registry.getAllGames()) {
+      players += game.getState().players().size();
+    }
+    return players;
+  }
+
+  private static Counter evictedCounter(MeterRegistry meters, String reason) {
+    return Counter.builder("ddz.games.evicted")
+        .description("Games unloaded from memory")
+        .tag("reason", reason)
+        .register(meters);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.yourco.ddz.server.core;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Threads shared by every {@link GameActor}. A game only occupies a thread while it has tasks, so a
+ * small pool serves many tables. With {@code spring.threads.virtual.enabled} each task batch runs
+ * on its own virtual thread instead, so a game blocked on a slow socket or the database does not
+ * hold up the others.
+ */
+@Component
+public class GameExecutor {
+  private static final Logger log = LoggerFactory.getLogger(GameExecutor.class);
+
+  private final ExecutorService executor;
+
+  public GameExecutor(
+      @Value("${ddz.actors.threads:0}") int threads,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    if (virtualThreads) {
+      this.executor =
+          Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-actor-", 1).factory());
+      log.info("Game actors run on virtual threads");
+      return;
+    }
+    int size = threads > 0 ? threads : Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    AtomicInteger count = new AtomicInteger();
+    ThreadFactory factory =
+        r -> {
+          Thread t = new Thread(r, "game-actor-" + count.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        };
+    this.executor = Executors.newFixedThreadPool(size, factory);
+    log.info("Game actors run on {} threads", size);
+  }
+
+  public Executor executor() {
+    return executor;
+  }
+
+  /** Let running game tasks finish; tasks sent afterwards run on the sending thread. */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("Game actor threads still busy after shutdown timeout");
+    }
+  }
+}
@@ -6,8 +6,13 @@ import com.yourco.ddz.engine.core.GameState;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
-public record GameInstance(String gameId, GameLoop loop, int maxPlayers) {
+/**
+ * A live game. Its loop and state belong to {@link #actor()}: read or change them only from a task
+ * sent to the actor.
+ */
+public record GameInstance(String gameId, GameLoop loop, int maxPlayers, GameActor actor) {
 
   /**
    * Creates a new game instance in LOBBY phase with initial creator.
@@ -16,22 +21,41 @@ public record GameInstance(String gameId, GameLoop loop, int maxPlayers) {
    * @param playerCount number of players for this game
    * @param creatorName name of the game creator
    * @param creatorId UUID of the creator
+   * @param executor executor the game's actor runs on
    * @return new game instance in LOBBY phase
    */
   public static GameInstance create(
-      String gameId, int playerCount, String creatorName, UUID creatorId) {
+      String gameId, int playerCount, String creatorName, UUID creatorId, Executor executor) {
     // Start with just the creator in the lobby
     List<UUID> players = new ArrayList<>();
     players.add(creatorId);
 
     var state = new GameState(gameId, players);
     state.setPlayerName(creatorId, creatorName);
+    state.setEventListener(Slf4jGameEventListener.INSTANCE);
 
     // Create rules for the target player count
     var rules = DdzRules.standard(playerCount);
     var loop = new GameLoop(rules, state);
 
-    return new GameInstance(gameId, loop, playerCount);
+    return new GameInstance(gameId, loop, playerCount, new GameActor(executor));
+  }
+
+  /**
+   * Wraps a game state loaded from storage. Journaled actions recorded after the snapshot are
+   * replayed by the caller through {@link #loop()}.
+   *
+   * @param gameId unique game identifier
+   * @param state restored game state
+   * @param playerCount number of players for this game
+   * @param executor executor the game's actor runs on
+   * @return game instance around the restored state
+   */
+  public static GameInstance restore(
+      String gameId, GameState state, int playerCount, Executor executor) {
+    state.setEventListener(Slf4jGameEventListener.INSTANCE);
+    var loop = new GameLoop(DdzRules.standard(playerCount), state);
+    return new GameInstance(gameId, loop, playerCount, new GameActor(executor));
   }
 
   public GameState getState() {
@@ -0,0 +1,140 @@
+package com.yourco.ddz.server.core;
+
+import com.yourco.ddz.server.service.GamePersistenceService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the games that were in play before a restart back into memory once the server is up, so
+ * tables survive a deploy or crash. Games not completed and active within {@code
+ * ddz.recovery.max-age-hours} are loaded on {@code ddz.recovery.threads} threads (0 means one per
+ * CPU), most recently active first, while the server already takes requests: a client asking for a
+ * game before its turn comes loads it straight away through {@link GameRegistry#get}, and the two
+ * share one load.
+ *
+ * <p>While {@link GameEvictor} runs, the window is also capped at {@code
+ * ddz.eviction.idle-minutes}: an older game would only be unloaded again by the first sweep, so it
+ * is left to load on demand like any other evicted game.
+ */
+@Component
+public class GameRecovery {
+  private static final Logger log = LoggerFactory.getLogger(GameRecovery.class);
+
+  private final GameRegistry registry;
+  private final GamePersistenceService persistenceService;
+  private final boolean enabled;
+  private final int threads;
+  private final Duration maxAge;
+
+  public GameRecovery(
+      GameRegistry registry,
+      GamePersistenceService persistenceService,
+      @Value("${ddz.recovery.enabled:true}") boolean enabled,
+      @Value("${ddz.recovery.threads:0}") int threads,
+      @Value("${ddz.recovery.max-age-hours:24}") long maxAgeHours,
+      @Value("${ddz.eviction.interval-seconds:60}") long evictionIntervalSeconds,
+      @Value("${ddz.eviction.idle-minutes:30}") long idleMinutes) {
+    this(
+        registry,
+        persistenceService,
+        enabled,
+        threads,
+        window(maxAgeHours, evictionIntervalSeconds, idleMinutes));
+  }
+
+  GameRecovery(
+      GameRegistry registry,
+      GamePersistenceService persistenceService,
+      boolean enabled,
+      int threads,
+      Duration maxAge) {
+    this.registry = registry;
+    this.persistenceService = persistenceService;
+    this.enabled = enabled;
+    this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.maxAge = maxAge;
+  }
+
+  /** How far back to recover: max-age, but no further than eviction would keep a game loaded. */
+  static Duration window(long maxAgeHours, long evictionIntervalSeconds, long idleMinutes) {
+    Duration maxAge = Duration.ofHours(maxAgeHours);
+    if (evictionIntervalSeconds <= 0) {
+      return maxAge;
+    }
+    Duration idle = Duration.ofMinutes(idleMinutes);
+    return idle.compareTo(maxAge) < 0 ? idle : maxAge;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onReady() {
+    if (enabled) {
+      recover();
+    }
+  }
+
+  /**
+   * Start loading the recoverable games in the background.
+   *
+   * @return Completes with the number of games loaded
+   */
+  public CompletableFuture<Integer> recover() {
+    long start = System.nanoTime();
+    List<String> gameIds;
+    try {
+      gameIds = persistenceService.findUncompletedGameIds(Instant.now().minus(maxAge));
+    } catch (RuntimeException e) {
+      log.error("Could not list games to recover; they will be loaded when requested", e);
+      return CompletableFuture.completedFuture(0);
+    }
+    if (gameIds.isEmpty()) {
+      return CompletableFuture.completedFuture(0);
+    }
+    log.info(
+        "Recovering {} games active in the last {} minutes on {} threads",
+        gameIds.size(),
+        maxAge.toMinutes(),
+        threads);
+
+    ExecutorService pool =
+        Executors.newFixedThreadPool(
+            Math.min(threads, gameIds.size()),
+            Thread.ofPlatform().name("game-recovery-", 1).daemon(true).factory());
+    AtomicInteger loaded = new AtomicInteger();
+    CompletableFuture<?>[] loads =
+        gameIds.stream()
+            .map(
+                gameId ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          // Failures are logged by the registry; the game stays loadable on demand
+                          if (registry.get(gameId) != null) {
+                            loaded.incrementAndGet();
+                          }
+                        },
+                        pool))
+            .toArray(CompletableFuture[]::new);
+    pool.shutdown();
+
+    return CompletableFuture.allOf(loads)
+        .thenApply(
+            done -> {
+              log.info(
+                  "Recovered {} of {} games in {} ms",
+                  loaded.get(),
+                  gameIds.size(),
+                  (System.nanoTime() - start) / 1_000_000);
+              return loaded.get();
+            });
+  }
+}
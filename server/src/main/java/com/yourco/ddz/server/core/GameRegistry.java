@@ -1,26 +1,50 @@
 package com.yourco.ddz.server.core;
 
 import com.yourco.ddz.server.service.GamePersistenceService;
+import com.yourco.ddz.server.service.WriteBehindQueue;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+/**
+ * The games held in memory. Games unloaded by {@link GameEvictor}, or left over from before a
+ * restart, are loaded back from the database the first time they are asked for.
+ *
+ * <p>A task that changes a game should go through {@link #tell} or {@link #call} rather than
+ * straight to the game's actor: if the game is unloaded while the task waits, the task then runs on
+ * the game loaded back, not on the unloaded copy nobody saves any more.
+ */
 @Component
 public class GameRegistry {
   private static final Logger log = LoggerFactory.getLogger(GameRegistry.class);
 
   private final Map<String, GameInstance> games = new ConcurrentHashMap<>();
-  private final Map<String, String> joinCodes = new ConcurrentHashMap<>(); // joinCode -> gameId
+  private final JoinCodeIndex joinCodes = new JoinCodeIndex();
   // Track userId -> playerId mapping for each game
   private final Map<String, Map<UUID, UUID>> gameUserMappings =
       new ConcurrentHashMap<>(); // gameId -> (userId -> playerId)
+  // Loads from the database in progress, so concurrent lookups share one
+  private final Map<String, CompletableFuture<GameInstance>> loading = new ConcurrentHashMap<>();
+  private final AtomicLong loadedFromDatabase = new AtomicLong();
 
   private final GamePersistenceService persistenceService;
+  private final WriteBehindQueue writeBehind;
+  private final GameExecutor gameExecutor;
 
-  public GameRegistry(GamePersistenceService persistenceService) {
+  public GameRegistry(
+      GamePersistenceService persistenceService,
+      WriteBehindQueue writeBehind,
+      GameExecutor gameExecutor) {
     this.persistenceService = persistenceService;
+    this.writeBehind = writeBehind;
+    this.gameExecutor = gameExecutor;
   }
 
   /**
@@ -34,21 +58,26 @@ public class GameRegistry {
    */
   public GameInstance createGame(int playerCount, String creatorName, UUID creatorId, UUID userId) {
     String gameId = "g-" + UUID.randomUUID();
-    String joinCode = generateUniqueJoinCode();
+    String joinCode = joinCodes.allocate(gameId);
 
-    var gameInstance = GameInstance.create(gameId, playerCount, creatorName, creatorId);
-
-    games.put(gameId, gameInstance);
-    joinCodes.put(joinCode, gameId);
+    var gameInstance =
+        GameInstance.create(gameId, playerCount, creatorName, creatorId, gameExecutor.executor());
 
     // Track userId -> playerId mapping
     Map<UUID, UUID> userMapping = new ConcurrentHashMap<>();
     userMapping.put(userId, creatorId);
-    gameUserMappings.put(gameId, userMapping);
 
-    // Persist to database
-    persistenceService.saveGame(gameInstance, userMapping);
-    persistenceService.addParticipant(gameId, userId, creatorId);
+    // Persist to database before the game is visible to anyone else
+    try {
+      persistenceService.saveGame(gameInstance, userMapping, joinCode);
+      persistenceService.addParticipant(gameId, userId, creatorId);
+    } catch (RuntimeException e) {
+      joinCodes.release(gameId);
+      throw e;
+    }
+
+    gameUserMappings.put(gameId, userMapping);
+    games.put(gameId, gameInstance);
 
     log.info(
         "Created game {} with join code {} for user {} (player {})",
@@ -68,13 +97,21 @@ public class GameRegistry {
    * @param playerId The player ID (session)
    */
   public void addUserMapping(String gameId, UUID userId, UUID playerId) {
-    gameUserMappings.computeIfAbsent(gameId, k -> new ConcurrentHashMap<>()).put(userId, playerId);
+    // Only games in memory keep their mappings here; a loaded game reads them back from the
+    // database
+    gameUserMappings.computeIfPresent(
+        gameId,
+        (id, mapping) -> {
+          mapping.put(userId, playerId);
+          return mapping;
+        });
     persistenceService.addParticipant(gameId, userId, playerId);
     log.debug("Added user mapping for game {}: userId={} -> playerId={}", gameId, userId, playerId);
   }
 
   /**
-   * Update game state in database after an action.
+   * Queue the game's changes to be written to the database after an action. Returns before the
+   * write happens; see {@link WriteBehindQueue}.
    *
    * @param gameId The game ID
    */
@@ -82,8 +119,8 @@ public class GameRegistry {
     GameInstance instance = games.get(gameId);
     if (instance != null) {
       Map<UUID, UUID> userMapping = gameUserMappings.getOrDefault(gameId, new HashMap<>());
-      persistenceService.saveGame(instance, userMapping);
-      log.debug("Updated game {} in database", gameId);
+      writeBehind.enqueue(instance, userMapping);
+      log.debug("Queued game {} for saving", gameId);
     }
   }
 
@@ -98,27 +135,159 @@ public class GameRegistry {
     return createGame(playerCount, creatorName, creatorId, UUID.randomUUID());
   }
 
+  /**
+   * Get a game, loading it from the database if it is not in memory.
+   *
+   * @param gameId The game ID
+   * @return The game, or null if it does not exist or could not be loaded
+   */
   public GameInstance get(String gameId) {
-    return games.get(gameId);
+    if (gameId == null) {
+      return null;
+    }
+    GameInstance instance = games.get(gameId);
+    return instance != null ? instance : loadFromDatabase(gameId);
   }
 
+  /**
+   * Get a game by its join code. A code not in use in memory is looked up among the stored games
+   * not yet completed, and that game is loaded back.
+   *
+   * @param joinCode The join code
+   * @return The game, or null if no game has the code or it could not be loaded
+   */
   public GameInstance getByJoinCode(String joinCode) {
-    String gameId = joinCodes.get(joinCode);
-    return gameId != null ? games.get(gameId) : null;
+    if (JoinCodeGenerator.decode(joinCode) < 0) {
+      return null;
+    }
+    String gameId = joinCodes.gameId(joinCode);
+    if (gameId != null) {
+      return get(gameId);
+    }
+    try {
+      gameId = persistenceService.findUncompletedGameIdByJoinCode(joinCode).orElse(null);
+    } catch (RuntimeException e) {
+      log.error("Failed to look up join code {} in the database", joinCode, e);
+      return null;
+    }
+    GameInstance instance = get(gameId);
+    // Another game may have taken the code while this one was loading, giving it a new one
+    return instance != null && joinCode.equals(joinCodes.code(gameId)) ? instance : null;
   }
 
   public String getJoinCode(String gameId) {
-    return joinCodes.entrySet().stream()
-        .filter(e -> e.getValue().equals(gameId))
-        .map(Map.Entry::getKey)
-        .findFirst()
-        .orElse(null);
+    return joinCodes.code(gameId);
+  }
+
+  /**
+   * Drop a game from memory. Its join code is released for reuse; the database keeps the game.
+   *
+   * @param gameId The game ID
+   * @return The removed game, or null if it was not in memory
+   */
+  public GameInstance remove(String gameId) {
+    GameInstance instance = games.remove(gameId);
+    gameUserMappings.remove(gameId);
+    String joinCode = joinCodes.release(gameId);
+    if (instance != null) {
+      log.info("Removed game {} from memory, releasing join code {}", gameId, joinCode);
+    }
+    return instance;
+  }
+
+  /**
+   * Queue a task on a game's actor. If the game has been unloaded by the time the task runs, the
+   * task runs on the game loaded back from the database instead.
+   *
+   * @param game The game, as looked up before the task was queued
+   * @param task The task, given the game it should act on
+   */
+  public void tell(GameInstance game, Consumer<GameInstance> task) {
+    game.actor()
+        .tell(
+            () -> {
+              if (isLoaded(game)) {
+                task.accept(game);
+                return;
+              }
+              GameInstance current = get(game.gameId());
+              if (current != null) {
+                tell(current, task);
+              } else {
+                log.warn("Game {} was unloaded and could not be loaded back", game.gameId());
+              }
+            });
+  }
+
+  /**
+   * Run a task on a game's actor and wait for its result, like {@link GameActor#call}. If the game
+   * has been unloaded by the time the task runs, the task runs on the game loaded back instead.
+   *
+   * @param game The game, as looked up before the call
+   * @param task The task, given the game it should act on
+   * @throws IllegalStateException if the game was unloaded and could not be loaded back
+   */
+  public <T> T call(GameInstance game, Function<GameInstance, T> task) {
+    AtomicBoolean ran = new AtomicBoolean();
+    T result =
+        game.actor()
+            .call(
+                () -> {
+                  if (!isLoaded(game)) {
+                    return null;
+                  }
+                  ran.set(true);
+                  return task.apply(game);
+                });
+    if (ran.get()) {
+      return result;
+    }
+    GameInstance current = get(game.gameId());
+    if (current == null) {
+      throw new IllegalStateException(
+          "Game " + game.gameId() + " was unloaded and could not be loaded back");
+    }
+    return call(current, task);
   }
 
+  /** Whether this instance is the one in memory for its game, i.e. it has not been unloaded. */
+  public boolean isLoaded(GameInstance game) {
+    return games.get(game.gameId()) == game;
+  }
+
+  /** The games in memory. */
   public Collection<GameInstance> getAllGames() {
     return games.values();
   }
 
+  /** Number of join codes in use. */
+  public int joinCodeCount() {
+    return joinCodes.size();
+  }
+
+  /** Number of games loaded back from the database since startup. */
+  public long loadedFromDatabaseCount() {
+    return loadedFromDatabase.get();
+  }
+
+  /**
+   * Save a game and drop it from memory; {@link #get} loads it again when it is next asked for.
+   * Must run on the game's actor.
+   *
+   * @param gameId The game ID
+   * @return The unloaded game, or null if it was not in memory
+   */
+  public GameInstance unload(String gameId) {
+    GameInstance instance = games.get(gameId);
+    if (instance == null) {
+      return null;
+    }
+    persistenceService.saveGame(instance, gameUserMappings.getOrDefault(gameId, Map.of()));
+    remove(gameId);
+    persistenceService.forget(gameId);
+    return instance;
+  }
+
   /**
    * Pause a game due to player disconnect.
    *
@@ -149,11 +318,59 @@ public class GameRegistry {
     return persistenceService.getActiveGameForUser(userId);
   }
 
-  private String generateUniqueJoinCode() {
-    String code;
-    do {
-      code = JoinCodeGenerator.generate();
-    } while (joinCodes.containsKey(code));
-    return code;
+  private GameInstance loadFromDatabase(String gameId) {
+    CompletableFuture<GameInstance> mine = new CompletableFuture<>();
+    CompletableFuture<GameInstance> other = loading.putIfAbsent(gameId, mine);
+    if (other != null) {
+      return other.join();
+    }
+    try {
+      // Put in memory before the load is released, so a later lookup finds one or the other
+      GameInstance instance = games.get(gameId);
+      if (instance == null) {
+        instance = load(gameId);
+      }
+      mine.complete(instance);
+      return instance;
+    } finally {
+      loading.remove(gameId, mine);
+    }
+  }
+
+  private GameInstance load(String gameId) {
+    try {
+      Optional<GameInstance> stored = persistenceService.loadGame(gameId, gameExecutor.executor());
+      if (stored.isEmpty()) {
+        return null;
+      }
+      Map<UUID, UUID> userMapping =
+          new ConcurrentHashMap<>(persistenceService.getUserMappings(gameId));
+      String joinCode = persistenceService.getJoinCode(gameId).orElse(null);
+
+      // Keep the game's old code unless another game has taken it meanwhile
+      if (joinCode == null || !joinCodes.reserve(gameId, joinCode)) {
+        joinCode = joinCodes.allocate(gameId);
+        storeJoinCode(gameId, joinCode);
+      }
+      gameUserMappings.put(gameId, userMapping);
+      games.put(gameId, stored.get());
+      loadedFromDatabase.incrementAndGet();
+
+      log.info("Loaded game {} into memory from the database, join code {}", gameId, joinCode);
+      return stored.get();
+    } catch (RuntimeException e) {
+      log.error("Failed to load game {} from the database", gameId, e);
+      return null;
+    }
+  }
+
+  /** Store a game's new join code, so looking it up by that code finds it once it is unloaded. */
+  private void storeJoinCode(String gameId, String joinCode) {
+    try {
+      persistenceService.updateJoinCode(gameId, joinCode);
+    } catch (RuntimeException e) {
+      // Still playable by ID and by the new code while in memory; the next load tries again
+      log.warn("Could not store join code {} for game {}", joinCode, gameId, e);
+    }
   }
 }
@@ -2,17 +2,58 @@ package com.yourco.ddz.server.core;
 
 import java.security.SecureRandom;
 
-/** Utility class to generate human-friendly 4-letter join codes. */
+/**
+ * Utility class to generate human-friendly 4-letter join codes. Codes map one-to-one onto the
+ * indices {@code 0..CODE_SPACE-1}, so a set of codes can be kept as a bit set.
+ */
 public class JoinCodeGenerator {
   private static final String ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // No I, O, 0, 1
   private static final int CODE_LENGTH = 4;
   private static final SecureRandom random = new SecureRandom();
 
+  /** Number of distinct codes. */
+  public static final int CODE_SPACE = pow(ALPHABET.length(), CODE_LENGTH);
+
   public static String generate() {
-    StringBuilder code = new StringBuilder(CODE_LENGTH);
+    return encode(randomIndex());
+  }
+
+  /** A uniformly random code index. */
+  public static int randomIndex() {
+    return random.nextInt(CODE_SPACE);
+  }
+
+  /** The code at an index in {@code 0..CODE_SPACE-1}. */
+  public static String encode(int index) {
+    char[] code = new char[CODE_LENGTH];
+    for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+      code[i] = ALPHABET.charAt(index % ALPHABET.length());
+      index /= ALPHABET.length();
+    }
+    return new String(code);
+  }
+
+  /** The index of a code, or -1 if it is not one. */
+  public static int decode(String code) {
+    if (code == null || code.length() != CODE_LENGTH) {
+      return -1;
+    }
+    int index = 0;
     for (int i = 0; i < CODE_LENGTH; i++) {
-      code.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+      int digit = ALPHABET.indexOf(code.charAt(i));
+      if (digit < 0) {
+        return -1;
+      }
+      index = index * ALPHABET.length() + digit;
+    }
+    return index;
+  }
+
+  private static int pow(int base, int exponent) {
+    int result = 1;
+    for (int i = 0; i < exponent; i++) {
+      result *= base;
     }
-    return code.toString();
+    return result;
   }
 }
@@ -0,0 +1,91 @@
+package com.yourco.ddz.server.core;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Join codes of the games in the registry, indexed both ways. Lookups in either direction are a map
+ * read. Allocation never retries: it takes a random code, or the next free one after it when that
+ * is taken, so it stays cheap however full the {@link JoinCodeGenerator} space gets. A code is
+ * freed for reuse when its game is released.
+ */
+final class JoinCodeIndex {
+  private final Map<String, String> gameByCode = new ConcurrentHashMap<>();
+  private final Map<String, String> codeByGame = new ConcurrentHashMap<>();
+  private final BitSet used = new BitSet(JoinCodeGenerator.CODE_SPACE); // guarded by this
+  private final IntSupplier randomIndex;
+
+  JoinCodeIndex() {
+    this(JoinCodeGenerator::randomIndex);
+  }
+
+  JoinCodeIndex(IntSupplier randomIndex) {
+    this.randomIndex = randomIndex;
+  }
+
+  /**
+   * Give a game a free code.
+   *
+   * @throws IllegalStateException if every code is in use
+   */
+  synchronized String allocate(String gameId) {
+    int index = used.nextClearBit(randomIndex.getAsInt());
+    if (index >= JoinCodeGenerator.CODE_SPACE) {
+      index = used.nextClearBit(0); // wrap around
+    }
+    if (index >= JoinCodeGenerator.CODE_SPACE) {
+      throw new IllegalStateException("All join codes are in use");
+    }
+    String code = JoinCodeGenerator.encode(index);
+    add(index, code, gameId);
+    return code;
+  }
+
+  /**
+   * Give a game a specific code, e.g. the one it had before a restart.
+   *
+   * @return false if the code is malformed or taken by another game
+   */
+  synchronized boolean reserve(String gameId, String code) {
+    int index = JoinCodeGenerator.decode(code);
+    if (index < 0 || (used.get(index) && !gameId.equals(gameByCode.get(code)))) {
+      return false;
+    }
+    add(index, code, gameId);
+    return true;
+  }
+
+  /** Free a game's code; returns it, or null if the game had none. */
+  synchronized String release(String gameId) {
+    String code = codeByGame.remove(gameId);
+    if (code != null) {
+      gameByCode.remove(code);
+      used.clear(JoinCodeGenerator.decode(code));
+    }
+    return code;
+  }
+
+  String gameId(String code) {
+    return code != null ? gameByCode.get(code) : null;
+  }
+
+  String code(String gameId) {
+    return codeByGame.get(gameId);
+  }
+
+  int size() {
+    return codeByGame.size();
+  }
+
+  private void add(int index, String code, String gameId) {
+    String previous = codeByGame.put(gameId, code);
+    if (previous != null && !previous.equals(code)) {
+      gameByCode.remove(previous);
+      used.clear(JoinCodeGenerator.decode(previous));
+    }
+    used.set(index);
+    gameByCode.put(code, gameId);
+  }
+}
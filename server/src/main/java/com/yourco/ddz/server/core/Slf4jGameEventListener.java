@@ -0,0 +1,100 @@
+package com.yourco.ddz.server.core;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.GameEventListener;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.engine.core.PlayedHand;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Routes engine rule events to SLF4J. Per-move events are logged at DEBUG and phase changes at
+ * INFO, so production (INFO) only pays for a handful of lines per game.
+ */
+public final class Slf4jGameEventListener implements GameEventListener {
+  private static final Logger log = LoggerFactory.getLogger(Slf4jGameEventListener.class);
+
+  public static final Slf4jGameEventListener INSTANCE = new Slf4jGameEventListener();
+
+  private Slf4jGameEventListener() {}
+
+  @Override
+  public void onRestart(GameState s) {
+    log.info("Game {} restarting", s.gameId());
+  }
+
+  @Override
+  public void onDeal(GameState s, List<Card> bottom) {
+    log.debug("Game {} dealt {} players, bottom: {}", s.gameId(), s.players().size(), bottom);
+  }
+
+  @Override
+  public void onBid(GameState s, UUID playerId, int value) {
+    log.debug("Game {}: {} bid {}", s.gameId(), s.getPlayerName(playerId), value);
+  }
+
+  @Override
+  public void onBiddingResolved(GameState s, UUID primaryLandlord, List<UUID> highestBidders) {
+    log.info(
+        "Game {}: primary landlord {} (highest bid {}, {} tied)",
+        s.gameId(),
+        s.getPlayerName(primaryLandlord),
+        s.getHighestBid(),
+        highestBidders.size());
+  }
+
+  @Override
+  public void onLandlordSelected(GameState s, UUID selector, UUID selected) {
+    log.debug(
+        "Game {}: {} selected {} as landlord",
+        s.gameId(),
+        s.getPlayerName(selector),
+        s.getPlayerName(selected));
+  }
+
+  @Override
+  public void onBottomCardsGiven(GameState s, UUID landlord, List<Card> cards) {
+    log.debug("Game {}: {} received bottom {}", s.gameId(), s.getPlayerName(landlord), cards);
+  }
+
+  @Override
+  public void onPlayStarted(GameState s, List<UUID> landlords) {
+    log.info("Game {} entering PLAY with {} landlord(s)", s.gameId(), landlords.size());
+  }
+
+  @Override
+  public void onPlay(GameState s, UUID playerId, PlayedHand hand) {
+    log.debug("Game {}: {} played {}", s.gameId(), s.getPlayerName(playerId), hand);
+  }
+
+  @Override
+  public void onPass(GameState s, UUID playerId) {
+    log.debug("Game {}: {} passed", s.gameId(), s.getPlayerName(playerId));
+  }
+
+  @Override
+  public void onRoundOver(GameState s, UUID nextLeader) {
+    log.debug("Game {}: round over, {} leads", s.gameId(), s.getPlayerName(nextLeader));
+  }
+
+  @Override
+  public void onGameOver(GameState s, UUID winner, boolean landlordWon) {
+    log.info(
+        "Game {} over: {} went out, {} win",
+        s.gameId(),
+        s.getPlayerName(winner),
+        landlordWon ? "landlords" : "farmers");
+  }
+
+  @Override
+  public void onScored(GameState s, ScoreBreakdown b) {
+    log.info("Game {} scored: {}", s.gameId(), b);
+  }
+
+  @Override
+  public void onWarning(GameState s, String message) {
+    log.warn("Game {}: {}", s.gameId(), message);
+  }
+}
@@ -13,7 +13,8 @@ public class Game {
   @Column(name = "game_id", length = 50)
   private String gameId;
 
-  @Column(name = "join_code", unique = true, nullable = false, length = 4)
+  // Unique among loaded games only; reused once a game is unloaded
+  @Column(name = "join_code", nullable = false, length = 4)
   private String joinCode;
 
   @Column(name = "max_players", nullable = false)
@@ -29,6 +30,10 @@ public class Game {
   @Column(name = "game_state_json", columnDefinition = "jsonb", nullable = false)
   private JsonNode gameStateJson;
 
+  // Sequence of the last journaled action included in gameStateJson
+  @Column(name = "snapshot_seq", nullable = false)
+  private long snapshotSeq;
+
   @Column(name = "created_at", nullable = false)
   private Instant createdAt;
 
@@ -93,6 +98,14 @@ public class Game {
     this.gameStateJson = gameStateJson;
   }
 
+  public long getSnapshotSeq() {
+    return snapshotSeq;
+  }
+
+  public void setSnapshotSeq(long snapshotSeq) {
+    this.snapshotSeq = snapshotSeq;
+  }
+
   public Instant getCreatedAt() {
     return createdAt;
   }
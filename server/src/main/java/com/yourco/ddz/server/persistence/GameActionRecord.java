@@ -0,0 +1,113 @@
+package com.yourco.ddz.server.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * One applied action in a game's journal. Rows are only ever inserted, so the entity always reports
+ * itself as new and saving it never issues a SELECT first.
+ */
+@Entity
+@Table(name = "game_actions")
+@IdClass(GameActionRecord.Key.class)
+public class GameActionRecord implements Persistable<GameActionRecord.Key> {
+  @Id
+  @Column(name = "game_id", length = 50)
+  private String gameId;
+
+  @Id
+  @Column(name = "seq")
+  private long seq;
+
+  @Column(name = "action_type", nullable = false, length = 20)
+  private String actionType;
+
+  @Column(name = "player_id")
+  private UUID playerId;
+
+  @Type(JsonBinaryType.class)
+  @Column(name = "payload", columnDefinition = "jsonb")
+  private JsonNode payload;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  public GameActionRecord() {
+    this.createdAt = Instant.now();
+  }
+
+  public GameActionRecord(
+      String gameId, long seq, String actionType, UUID playerId, JsonNode payload) {
+    this();
+    this.gameId = gameId;
+    this.seq = seq;
+    this.actionType = actionType;
+    this.playerId = playerId;
+    this.payload = payload;
+  }
+
+  @Override
+  public Key getId() {
+    return new Key(gameId, seq);
+  }
+
+  @Override
+  public boolean isNew() {
+    return true;
+  }
+
+  // Getters
+  public String getGameId() {
+    return gameId;
+  }
+
+  public long getSeq() {
+    return seq;
+  }
+
+  public String getActionType() {
+    return actionType;
+  }
+
+  public UUID getPlayerId() {
+    return playerId;
+  }
+
+  public JsonNode getPayload() {
+    return payload;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  /** Composite primary key: (game_id, seq). */
+  public static class Key implements Serializable {
+    private String gameId;
+    private long seq;
+
+    public Key() {}
+
+    public Key(String gameId, long seq) {
+      this.gameId = gameId;
+      this.seq = seq;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key k && seq == k.seq && Objects.equals(gameId, k.gameId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(gameId, seq);
+    }
+  }
+}
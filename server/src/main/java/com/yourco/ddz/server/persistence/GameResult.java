@@ -20,6 +20,10 @@ public class GameResult {
   @Column(name = "player_id", nullable = false)
   private UUID playerId;
 
+  // 1 for the first game played at the table, 2 for the rematch after it, and so on
+  @Column(name = "round", nullable = false)
+  private int round = 1;
+
   @Column(name = "final_score", nullable = false)
   private int finalScore;
 
@@ -62,6 +66,14 @@ public class GameResult {
     this.playerId = playerId;
   }
 
+  public int getRound() {
+    return round;
+  }
+
+  public void setRound(int round) {
+    this.round = round;
+  }
+
   public int getFinalScore() {
     return finalScore;
   }
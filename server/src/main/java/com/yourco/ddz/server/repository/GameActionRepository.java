@@ -0,0 +1,12 @@
+package com.yourco.ddz.server.repository;
+
+import com.yourco.ddz.server.persistence.GameActionRecord;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameActionRepository
+    extends JpaRepository<GameActionRecord, GameActionRecord.Key> {
+  List<GameActionRecord> findByGameIdAndSeqGreaterThanOrderBySeq(String gameId, long seq);
+}
@@ -1,11 +1,23 @@
 package com.yourco.ddz.server.repository;
 
 import com.yourco.ddz.server.persistence.Game;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, String> {
-  Optional<Game> findByJoinCode(String joinCode);
+  // The row only changes with a snapshot, so journaled actions count as activity too
+  @Query(
+      "SELECT g.gameId FROM Game g WHERE g.completedAt IS NULL AND (g.updatedAt > :since"
+          + " OR EXISTS (SELECT a.seq FROM GameActionRecord a WHERE a.gameId = g.gameId"
+          + " AND a.createdAt > :since)) ORDER BY g.updatedAt DESC")
+  List<String> findUncompletedGameIdsActiveSince(Instant since);
+
+  @Query(
+      "SELECT g.gameId FROM Game g WHERE g.completedAt IS NULL AND g.joinCode = :joinCode"
+          + " ORDER BY g.updatedAt DESC")
+  List<String> findUncompletedGameIdsByJoinCode(String joinCode);
 }
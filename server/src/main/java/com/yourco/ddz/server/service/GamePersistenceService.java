@@ -2,24 +2,45 @@ package com.yourco.ddz.server.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.Bid;
+import com.yourco.ddz.engine.core.ComboType;
+import com.yourco.ddz.engine.core.GameAction;
 import com.yourco.ddz.engine.core.GameState;
 import com.yourco.ddz.engine.core.PlayedHand;
+import com.yourco.ddz.engine.core.PlayerAction;
+import com.yourco.ddz.engine.core.SystemAction;
 import com.yourco.ddz.server.core.GameInstance;
+import com.yourco.ddz.server.core.JoinCodeGenerator;
 import com.yourco.ddz.server.persistence.Game;
+import com.yourco.ddz.server.persistence.GameActionRecord;
 import com.yourco.ddz.server.persistence.GameParticipant;
 import com.yourco.ddz.server.persistence.GameResult;
+import com.yourco.ddz.server.repository.GameActionRepository;
 import com.yourco.ddz.server.repository.GameParticipantRepository;
 import com.yourco.ddz.server.repository.GameRepository;
 import com.yourco.ddz.server.repository.GameResultRepository;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Stores games as an append-only action journal ({@code game_actions}) plus periodic full snapshots
+ * ({@code games.game_state_json}). Every applied action becomes one small journal row; the snapshot
+ * is rewritten only when the phase or the roster changes, or after {@code
+ * ddz.persistence.snapshot-interval} actions. A game is recovered by loading its snapshot and
+ * replaying the journal entries written after it.
+ */
 @Service
 public class GamePersistenceService {
   private static final Logger log = LoggerFactory.getLogger(GamePersistenceService.class);
@@ -27,59 +48,321 @@ public class GamePersistenceService {
   private final GameRepository gameRepository;
   private final GameParticipantRepository participantRepository;
   private final GameResultRepository resultRepository;
+  private final GameActionRepository actionRepository;
   private final ObjectMapper objectMapper;
+  private final int snapshotInterval;
+
+  // What has been written so far for each game saved or loaded by this server
+  private final Map<String, Journal> journals = new ConcurrentHashMap<>();
 
   public GamePersistenceService(
       GameRepository gameRepository,
       GameParticipantRepository participantRepository,
       GameResultRepository resultRepository,
-      ObjectMapper objectMapper) {
+      GameActionRepository actionRepository,
+      ObjectMapper objectMapper,
+      @Value("${ddz.persistence.snapshot-interval:25}") int snapshotInterval) {
+    if (snapshotInterval < 1) {
+      throw new IllegalArgumentException("Snapshot interval must be at least 1");
+    }
     this.gameRepository = gameRepository;
     this.participantRepository = participantRepository;
     this.resultRepository = resultRepository;
+    this.actionRepository = actionRepository;
     this.objectMapper = objectMapper;
+    this.snapshotInterval = snapshotInterval;
   }
 
   /**
-   * Save or update a game instance to the database. This is called after every game action.
+   * Persist the changes to a game since it was last saved, on the calling thread. New actions are
+   * appended to the journal, and a full snapshot is written only when one is due. Game actions go
+   * through {@link WriteBehindQueue} instead.
    *
    * @param instance The game instance to persist
    * @param userIdToPlayerIdMap Map of userId to playerId for tracking participants
    */
   @Transactional
   public void saveGame(GameInstance instance, Map<UUID, UUID> userIdToPlayerIdMap) {
+    saveGame(instance, userIdToPlayerIdMap, null);
+  }
+
+  /**
+   * Save a game synchronously, storing its join code with the snapshot this writes.
+   *
+   * @param instance The game instance to persist
+   * @param userIdToPlayerIdMap Map of userId to playerId for tracking participants
+   * @param joinCode The game's join code from GameRegistry
+   */
+  @Transactional
+  public void saveGame(
+      GameInstance instance, Map<UUID, UUID> userIdToPlayerIdMap, String joinCode) {
+    GameWrite write = capture(instance, userIdToPlayerIdMap);
+    if (write != null) {
+      if (joinCode != null && write.snapshot() != null) {
+        write =
+            new GameWrite(write.gameId(), write.actions(), write.snapshot().withJoinCode(joinCode));
+      }
+      write(List.of(write));
+    }
+  }
+
+  /**
+   * Capture what a game needs written since the last capture: the actions not yet journaled and,
+   * when one is due, a snapshot. Must run on the game's actor; the result no longer refers to the
+   * live state.
+   *
+   * @param instance The game instance to capture
+   * @param userIdToPlayerIdMap Map of userId to playerId for tracking participants
+   * @return The pending write, or null if nothing changed
+   */
+  public GameWrite capture(GameInstance instance, Map<UUID, UUID> userIdToPlayerIdMap) {
     String gameId = instance.gameId();
     GameState state = instance.getState();
+    Journal journal = journals.computeIfAbsent(gameId, k -> new Journal());
+
+    synchronized (journal) {
+      boolean snapshotDue = journal.phase == null;
+
+      // A restart clears the action log; the new game's actions are journaled from its start
+      Deque<GameAction> actions = state.actionLog();
+      if (actions.size() < journal.logged
+          || (journal.logged > 0 && actions.peekFirst() != journal.first)) {
+        journal.logged = 0;
+        snapshotDue = true;
+      }
+
+      List<GameActionRecord> records = new ArrayList<>();
+      actions.stream()
+          .skip(journal.logged)
+          .forEach(a -> records.add(toRecord(gameId, ++journal.seq, a)));
+      journal.logged = actions.size();
+      journal.first = actions.peekFirst();
+
+      snapshotDue |=
+          state.phase() != journal.phase
+              || state.players().size() != journal.playerCount
+              || journal.seq - journal.snapshotSeq >= snapshotInterval;
+      if (!snapshotDue) {
+        return records.isEmpty() ? null : new GameWrite(gameId, records, null);
+      }
+
+      journal.snapshotSeq = journal.seq;
+      journal.phase = state.phase();
+      journal.playerCount = state.players().size();
+      var snapshot =
+          new GameWrite.Snapshot(
+              state.phase(),
+              serializeGameState(state),
+              journal.seq,
+              instance.maxPlayers(),
+              Map.copyOf(state.getScores()),
+              List.copyOf(state.getLandlordIds()),
+              Map.copyOf(userIdToPlayerIdMap),
+              null);
+      return new GameWrite(gameId, records, snapshot);
+    }
+  }
+
+  /**
+   * Write captured changes for one or more games in a single transaction.
+   *
+   * @param writes Captured writes, at most one per game
+   */
+  @Transactional
+  public void write(Collection<GameWrite> writes) {
+    List<GameActionRecord> records = new ArrayList<>();
+    for (GameWrite write : writes) {
+      records.addAll(write.actions());
+    }
+    if (!records.isEmpty()) {
+      actionRepository.saveAll(records);
+    }
+    for (GameWrite write : writes) {
+      if (write.snapshot() != null) {
+        saveSnapshot(write.gameId(), write.snapshot());
+      }
+      log.debug(
+          "Saved game {} - {} journaled actions, snapshot: {}",
+          write.gameId(),
+          write.actions().size(),
+          write.snapshot() != null);
+    }
+  }
+
+  /**
+   * Make the next capture of a game include a snapshot. Used after a failed write: the snapshot
+   * covers the journal rows that were lost with it.
+   *
+   * @param gameId The game ID
+   */
+  public void forceSnapshot(String gameId) {
+    Journal journal = journals.get(gameId);
+    if (journal != null) {
+      synchronized (journal) {
+        journal.phase = null;
+      }
+    }
+  }
+
+  /**
+   * Drop what this server remembers about a game's writes, once the game has been saved and
+   * unloaded from memory. Loading it again starts from what is stored.
+   *
+   * @param gameId The game ID
+   */
+  public void forget(String gameId) {
+    journals.remove(gameId);
+  }
+
+  /**
+   * Find the games that were still being played recently, most recently snapshotted first.
+   *
+   * @param since Only games whose row was written, or that journaled an action, after this
+   * @return IDs of games not completed and active since then
+   */
+  @Transactional(readOnly = true)
+  public List<String> findUncompletedGameIds(Instant since) {
+    return gameRepository.findUncompletedGameIdsActiveSince(since);
+  }
+
+  /**
+   * Look up a stored game's join code.
+   *
+   * @param gameId The game ID
+   * @return The join code, or empty if the game is not stored
+   */
+  @Transactional(readOnly = true)
+  public Optional<String> getJoinCode(String gameId) {
+    return gameRepository.findById(gameId).map(Game::getJoinCode);
+  }
+
+  /**
+   * Find the stored game not yet completed that has a join code. Codes are only unique among the
+   * games in memory, so when several stored games share one, the most recently active wins.
+   *
+   * @param joinCode The join code
+   * @return The game ID, or empty if no game still being played has the code
+   */
+  @Transactional(readOnly = true)
+  public Optional<String> findUncompletedGameIdByJoinCode(String joinCode) {
+    return gameRepository.findUncompletedGameIdsByJoinCode(joinCode).stream().findFirst();
+  }
+
+  /**
+   * Change a stored game's join code, e.g. after its old one was given to another game.
+   *
+   * @param gameId The game ID
+   * @param joinCode The new join code
+   */
+  @Transactional
+  public void updateJoinCode(String gameId, String joinCode) {
+    Optional<Game> gameOpt = gameRepository.findById(gameId);
+    if (gameOpt.isPresent()) {
+      Game game = gameOpt.get();
+      game.setJoinCode(joinCode);
+      gameRepository.save(game);
+      log.info("Game {} now has join code {}", gameId, joinCode);
+    } else {
+      log.warn("Attempted to set the join code of non-existent game {}", gameId);
+    }
+  }
 
-    log.debug(
-        "Saving game {} - Phase: {}, Players: {}", gameId, state.phase(), state.players().size());
+  /**
+   * Load a stored game's participants.
+   *
+   * @param gameId The game ID
+   * @return Map of userId to playerId
+   */
+  @Transactional(readOnly = true)
+  public Map<UUID, UUID> getUserMappings(String gameId) {
+    Map<UUID, UUID> mappings = new HashMap<>();
+    for (GameParticipant p : participantRepository.findByGameId(gameId)) {
+      mappings.put(p.getUserId(), p.getPlayerId());
+    }
+    return mappings;
+  }
+
+  /**
+   * Recover a game from the database: restore its latest snapshot and replay the journaled actions
+   * written after it. Players are marked disconnected until they reconnect.
+   *
+   * @param gameId The game ID to load
+   * @param executor Executor the recovered game's actor runs on
+   * @return The recovered game instance, or empty if the game is not stored
+   */
+  @Transactional(readOnly = true)
+  public Optional<GameInstance> loadGame(String gameId, Executor executor) {
+    Optional<Game> stored = gameRepository.findById(gameId);
+    if (stored.isEmpty()) {
+      return Optional.empty();
+    }
+    Game game = stored.get();
+
+    GameState state = deserializeGameState(game.getGameStateJson());
+    GameInstance instance = GameInstance.restore(gameId, state, game.getMaxPlayers(), executor);
+    instance.getRules().resume(state);
+
+    List<GameActionRecord> tail =
+        actionRepository.findByGameIdAndSeqGreaterThanOrderBySeq(gameId, game.getSnapshotSeq());
+    for (GameActionRecord record : tail) {
+      instance.loop().submit(toAction(record));
+    }
+    instance.loop().tick().orThrow();
+
+    Journal journal = new Journal();
+    journal.seq = tail.isEmpty() ? game.getSnapshotSeq() : tail.get(tail.size() - 1).getSeq();
+    journal.snapshotSeq = game.getSnapshotSeq();
+    journal.logged = state.actionLog().size();
+    journal.first = state.actionLog().peekFirst();
+    journal.phase = state.phase();
+    journal.playerCount = state.players().size();
+    journals.put(gameId, journal);
+
+    log.info(
+        "Loaded game {} from snapshot at action {} plus {} journaled actions",
+        gameId,
+        game.getSnapshotSeq(),
+        tail.size());
+    return Optional.of(instance);
+  }
+
+  /** Rewrite the full game row with a snapshot. */
+  private void saveSnapshot(String gameId, GameWrite.Snapshot snapshot) {
+    log.debug("Saving snapshot of game {} - Phase: {}", gameId, snapshot.phase());
 
     // Find or create game entity
     Game game = gameRepository.findById(gameId).orElse(new Game());
 
     if (game.getGameId() == null) {
       game.setGameId(gameId);
-      // Generate unique join code (this should come from GameRegistry in reality)
-      game.setJoinCode(generateJoinCode(gameId));
-      game.setMaxPlayers(instance.maxPlayers());
+      // Games created through GameRegistry bring their code; anything else gets a random one
+      game.setJoinCode(
+          snapshot.joinCode() != null ? snapshot.joinCode() : JoinCodeGenerator.generate());
+      game.setMaxPlayers(snapshot.maxPlayers());
       log.info("Created new game record for gameId: {}", gameId);
+    } else if (snapshot.joinCode() != null) {
+      game.setJoinCode(snapshot.joinCode());
     }
 
     // Update game state
-    game.setCurrentPhase(state.phase().name());
-    game.setGameStateJson(serializeGameState(state));
+    game.setCurrentPhase(snapshot.phase().name());
+    game.setGameStateJson(snapshot.json());
+    game.setSnapshotSeq(snapshot.seq());
 
     // Mark as completed if terminated
-    if (state.phase() == GameState.Phase.TERMINATED && game.getCompletedAt() == null) {
+    if (snapshot.phase() == GameState.Phase.TERMINATED && game.getCompletedAt() == null) {
       game.setCompletedAt(Instant.now());
       log.info("Game {} marked as completed", gameId);
 
       // Save final scores to game_results table
-      saveFinalScores(gameId, state, userIdToPlayerIdMap);
+      saveFinalScores(gameId, snapshot);
+    } else if (snapshot.phase() != GameState.Phase.TERMINATED && game.getCompletedAt() != null) {
+      // A rematch: the game is being played again, so it is recoverable and will be scored again
+      game.setCompletedAt(null);
+      log.info("Game {} restarted after completing", gameId);
     }
 
     gameRepository.save(game);
-    log.debug("Game {} saved successfully", gameId);
   }
 
   /**
@@ -171,8 +454,8 @@ public class GamePersistenceService {
   }
 
   /**
-   * Serialize GameState to JSON for storage in the database. Note: This does NOT include scores, as
-   * scores are only saved to game_results when the game reaches TERMINATED phase.
+   * Serialize GameState to JSON for storage in the database. Scores only exist once a game is
+   * scored; the game_results table remains the record of final results.
    *
    * @param state The game state to serialize
    * @return JsonNode representation of the game state
@@ -186,6 +469,12 @@ public class GamePersistenceService {
     json.put("currentPlayerIndex", state.currentPlayerIndex());
     json.put("updatedAt", state.updatedAt().toString());
 
+    // Seed for the current deal; with the action log it reproduces the game
+    if (state.rngSeed() != null) {
+      json.put("rngAlgorithm", state.rngAlgorithm());
+      json.put("rngSeed", state.rngSeed());
+    }
+
     // Players (list of UUIDs)
     json.set("players", objectMapper.valueToTree(state.players()));
 
@@ -228,18 +517,189 @@ public class GamePersistenceService {
     }
     json.put("passesInRow", state.passesInRow());
 
+    // Landlord selection (multi-landlord draft)
+    if (state.getAwaitingLandlordSelection() != null) {
+      json.put("awaitingLandlordSelection", state.getAwaitingLandlordSelection().toString());
+    }
+    json.set("selectedLandlords", objectMapper.valueToTree(state.getSelectedLandlords()));
+
     // Bomb/rocket counters
     json.put("bombsPlayed", state.getBombsPlayed());
     json.put("rocketsPlayed", state.getRocketsPlayed());
     json.put("landlordPlayed", state.getLandlordPlayed());
     json.put("farmersPlayed", state.getFarmersPlayed());
 
-    // NOTE: Scores are NOT stored here during active play
-    // They are only saved to game_results table when phase becomes TERMINATED
+    // Scores of a finished game, so a recovered game shows the same result
+    if (!state.getScores().isEmpty()) {
+      ObjectNode scoresNode = objectMapper.createObjectNode();
+      state.getScores().forEach((playerId, score) -> scoresNode.put(playerId.toString(), score));
+      json.set("scores", scoresNode);
+    }
 
     return json;
   }
 
+  /**
+   * Rebuild a GameState from a snapshot written by {@link #serializeGameState}. The action log
+   * starts empty; it only holds actions replayed or applied after the snapshot.
+   *
+   * @param json The stored snapshot
+   * @return The restored game state
+   */
+  private GameState deserializeGameState(JsonNode json) {
+    List<UUID> players = deserializeUuids(json.get("players"));
+    GameState state = new GameState(json.get("gameId").asText(), players);
+
+    // Player metadata; nobody is connected to a game that was just loaded
+    json.get("playerNames")
+        .fields()
+        .forEachRemaining(
+            e -> state.setPlayerName(UUID.fromString(e.getKey()), e.getValue().asText()));
+    for (UUID playerId : players) {
+      state.setPlayerConnected(playerId, false);
+    }
+
+    // Hands
+    json.get("hands")
+        .fields()
+        .forEachRemaining(
+            e -> state.handOf(UUID.fromString(e.getKey())).addAll(deserializeCards(e.getValue())));
+
+    // Landlord info
+    List<UUID> landlordIds = deserializeUuids(json.get("landlordIds"));
+    if (!landlordIds.isEmpty()) {
+      state.setLandlordIds(landlordIds);
+    } else if (json.hasNonNull("landlordId")) {
+      state.setLandlordId(UUID.fromString(json.get("landlordId").asText()));
+    }
+
+    // Bidding state
+    if (json.has("playerBids")) {
+      json.get("playerBids")
+          .fields()
+          .forEachRemaining(
+              e -> state.setPlayerBid(UUID.fromString(e.getKey()), e.getValue().asInt()));
+    }
+    if (json.has("awaitingLandlordSelection")) {
+      state.setAwaitingLandlordSelection(
+          UUID.fromString(json.get("awaitingLandlordSelection").asText()));
+    }
+    deserializeUuids(json.get("selectedLandlords")).forEach(state::addSelectedLandlord);
+
+    // Bottom cards
+    if (json.has("bottom")) {
+      state.setBottom(deserializeCards(json.get("bottom")));
+    }
+
+    // Current lead
+    if (json.has("currentLead")) {
+      JsonNode lead = json.get("currentLead");
+      state.setCurrentLead(
+          new PlayedHand(
+              ComboType.valueOf(lead.get("comboType").asText()),
+              deserializeCards(lead.get("cards"))));
+    }
+    if (json.has("currentLeadPlayer")) {
+      state.setCurrentLeadPlayer(UUID.fromString(json.get("currentLeadPlayer").asText()));
+    }
+    state.setPassesInRow(json.path("passesInRow").asInt());
+
+    // Bomb/rocket counters
+    state.setBombsPlayed(json.path("bombsPlayed").asInt());
+    state.setRocketsPlayed(json.path("rocketsPlayed").asInt());
+    state.setLandlordPlayed(json.path("landlordPlayed").asBoolean());
+    state.setFarmersPlayed(json.path("farmersPlayed").asBoolean());
+
+    if (json.has("scores")) {
+      json.get("scores")
+          .fields()
+          .forEachRemaining(e -> state.setScore(UUID.fromString(e.getKey()), e.getValue().asInt()));
+    }
+
+    if (json.has("rngSeed")) {
+      state.seedRandom(json.get("rngAlgorithm").asText(), json.get("rngSeed").asLong());
+    }
+
+    state.setPhase(GameState.Phase.valueOf(json.get("phase").asText()));
+    state.setCurrentPlayerIndex(json.get("currentPlayerIndex").asInt());
+    return state;
+  }
+
+  private List<UUID> deserializeUuids(JsonNode array) {
+    List<UUID> ids = new ArrayList<>();
+    if (array != null) {
+      array.forEach(id -> ids.add(UUID.fromString(id.asText())));
+    }
+    return ids;
+  }
+
+  private List<Card> deserializeCards(JsonNode array) {
+    List<Card> cards = new ArrayList<>(array.size());
+    array.forEach(
+        card ->
+            cards.add(
+                Card.of(
+                    Card.Suit.valueOf(card.get("suit").asText()),
+                    Card.Rank.valueOf(card.get("rank").asText()))));
+    return cards;
+  }
+
+  /**
+   * Journal row for an applied action. Payloads are kept small: a bid is its value, a play is an
+   * array of card indices (null for a pass) and a landlord pick is the chosen player's ID.
+   */
+  private GameActionRecord toRecord(String gameId, long seq, GameAction action) {
+    String type =
+        switch (action) {
+          case PlayerAction pa -> pa.type();
+          case SystemAction sa -> sa.type();
+        };
+    Object payload =
+        switch (action) {
+          case PlayerAction pa -> pa.payload();
+          case SystemAction sa -> sa.payload();
+        };
+    JsonNode payloadNode =
+        switch (payload) {
+          case null -> null;
+          case Bid bid -> IntNode.valueOf(bid.getValue());
+          case UUID playerId -> TextNode.valueOf(playerId.toString());
+          case List<?> cards -> {
+            ArrayNode indices = objectMapper.createArrayNode();
+            cards.forEach(card -> indices.add(((Card) card).index()));
+            yield indices;
+          }
+          default ->
+              throw new IllegalArgumentException(
+                  "Cannot journal " + type + " payload " + payload.getClass());
+        };
+    return new GameActionRecord(gameId, seq, type, action.playerId(), payloadNode);
+  }
+
+  /** Inverse of {@link #toRecord}. Rows without a player are system actions. */
+  private GameAction toAction(GameActionRecord record) {
+    if (record.getPlayerId() == null) {
+      return new SystemAction(record.getActionType(), null);
+    }
+    JsonNode payload = record.getPayload();
+    Object value =
+        payload == null || payload.isNull()
+            ? null
+            : switch (record.getActionType()) {
+              case "BID" -> new Bid(payload.asInt());
+              case "SELECT_LANDLORD" -> UUID.fromString(payload.asText());
+              case "PLAY" -> {
+                List<Card> cards = new ArrayList<>(payload.size());
+                payload.forEach(index -> cards.add(Card.of(index.asInt())));
+                yield cards;
+              }
+              default ->
+                  throw new IllegalStateException(
+                      "Unknown journaled action type: " + record.getActionType());
+            };
+    return new PlayerAction(record.getPlayerId(), record.getActionType(), value);
+  }
+
   /**
    * Serialize a list of cards to JSON array.
    *
@@ -273,24 +733,29 @@ public class GamePersistenceService {
   }
 
   /**
-   * Save final scores to the game_results table. Only called when game reaches TERMINATED phase.
+   * Save final scores to the game_results table, as a new round each time the game reaches
+   * TERMINATED.
    *
    * @param gameId The game ID
-   * @param state The final game state
-   * @param userIdToPlayerIdMap Map of userId to playerId
+   * @param snapshot Snapshot of the finished game
    */
-  private void saveFinalScores(
-      String gameId, GameState state, Map<UUID, UUID> userIdToPlayerIdMap) {
-    Map<UUID, Integer> scores = state.getScores();
+  private void saveFinalScores(String gameId, GameWrite.Snapshot snapshot) {
+    Map<UUID, Integer> scores = snapshot.scores();
 
     if (scores.isEmpty()) {
       log.warn("Game {} completed but no scores available", gameId);
       return;
     }
 
+    // Each completion is a new round; earlier rounds keep their rows
+    List<GameResult> earlier = resultRepository.findByGameId(gameId);
+    int round = earlier.stream().mapToInt(GameResult::getRound).max().orElse(0) + 1;
+
     // Invert the map to get playerId -> userId
     Map<UUID, UUID> playerIdToUserIdMap = new HashMap<>();
-    userIdToPlayerIdMap.forEach((userId, playerId) -> playerIdToUserIdMap.put(playerId, userId));
+    snapshot
+        .userIdToPlayerId()
+        .forEach((userId, playerId) -> playerIdToUserIdMap.put(playerId, userId));
 
     for (Map.Entry<UUID, Integer> entry : scores.entrySet()) {
       UUID playerId = entry.getKey();
@@ -305,39 +770,32 @@ public class GamePersistenceService {
         continue;
       }
 
-      // Check if result already exists
-      Optional<GameResult> existing =
-          resultRepository.findByGameId(gameId).stream()
-              .filter(gr -> gr.getUserId().equals(userId))
-              .findFirst();
-
-      if (existing.isPresent()) {
-        log.debug("Score already saved for userId {} in game {}", userId, gameId);
-        continue;
-      }
-
       GameResult result = new GameResult();
       result.setGameId(gameId);
       result.setUserId(userId);
       result.setPlayerId(playerId);
+      result.setRound(round);
       result.setFinalScore(finalScore);
-      result.setWasLandlord(state.isLandlord(playerId));
+      result.setWasLandlord(snapshot.landlordIds().contains(playerId));
 
       resultRepository.save(result);
       log.info(
-          "Saved final score for userId {} in game {}: {} (landlord: {})",
+          "Saved final score for userId {} in game {} round {}: {} (landlord: {})",
           userId,
           gameId,
+          round,
           finalScore,
           result.isWasLandlord());
     }
   }
 
-  /**
-   * Generate a simple join code from gameId. In reality, this should use GameRegistry's join code.
-   */
-  private String generateJoinCode(String gameId) {
-    // This is a placeholder - the real join code should come from GameRegistry
-    return gameId.substring(0, Math.min(4, gameId.length())).toUpperCase();
+  /** Per-game write position: what the journal and the last snapshot already cover. */
+  private static final class Journal {
+    long seq; // last journaled sequence number
+    long snapshotSeq; // sequence covered by the last snapshot
+    int logged; // entries of the state's action log already journaled
+    GameAction first; // first entry of that log, to notice when a restart clears it
+    GameState.Phase phase; // phase at the last snapshot; null before the first one
+    int playerCount; // roster size at the last snapshot
   }
 }
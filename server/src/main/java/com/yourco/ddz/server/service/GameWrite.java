@@ -0,0 +1,47 @@
+package com.yourco.ddz.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.server.persistence.GameActionRecord;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Changes to one game captured by {@link GamePersistenceService#capture}, detached from the live
+ * game state so they can be written on another thread.
+ *
+ * @param gameId the game ID
+ * @param actions journal rows to append, oldest first
+ * @param snapshot full snapshot to store, or null if none is due
+ */
+public record GameWrite(String gameId, List<GameActionRecord> actions, Snapshot snapshot) {
+
+  /**
+   * A full snapshot of a game, with what is needed to record final results once it is over.
+   *
+   * @param phase phase of the game
+   * @param json serialized game state
+   * @param seq last journaled action the snapshot includes
+   * @param maxPlayers table size
+   * @param scores scores at the time of the snapshot
+   * @param landlordIds landlords at the time of the snapshot
+   * @param userIdToPlayerId userId to playerId mapping of the participants
+   * @param joinCode join code to store with this snapshot, or null to keep the stored one
+   */
+  public record Snapshot(
+      GameState.Phase phase,
+      JsonNode json,
+      long seq,
+      int maxPlayers,
+      Map<UUID, Integer> scores,
+      List<UUID> landlordIds,
+      Map<UUID, UUID> userIdToPlayerId,
+      String joinCode) {
+
+    Snapshot withJoinCode(String joinCode) {
+      return new Snapshot(
+          phase, json, seq, maxPlayers, scores, landlordIds, userIdToPlayerId, joinCode);
+    }
+  }
+}
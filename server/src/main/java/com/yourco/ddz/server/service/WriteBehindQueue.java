@@ -0,0 +1,207 @@
+package com.yourco.ddz.server.service;
+
+import com.yourco.ddz.server.core.GameInstance;
+import jakarta.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes game changes to the database behind the game instead of on the thread that applied the
+ * action, so a move is broadcast without waiting for Postgres.
+ *
+ * <p>A game marked dirty is queued once; further changes before it is written coalesce into the
+ * same save, which captures everything new at that point. A single writer thread drains up to
+ * {@code batch-size} games at a time and writes them in one transaction, so each game's writes stay
+ * in order. When {@code max-pending} games are already waiting, the caller saves its game itself,
+ * which slows producers down to the database's pace. Pending games are flushed on shutdown.
+ */
+@Service
+public class WriteBehindQueue {
+  private static final Logger log = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+  private static final long OFFER_TIMEOUT_MS = 50;
+  private static final long POLL_TIMEOUT_MS = 200;
+  private static final long RETRY_DELAY_MS = 1_000;
+  private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+
+  private final GamePersistenceService persistenceService;
+  private final int batchSize;
+
+  // Games waiting to be written, in the order they first became dirty
+  private final BlockingQueue<String> order;
+  private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+  // Games taken off the queue whose write has not finished yet
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Set<String> writing = ConcurrentHashMap.newKeySet();
+
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  public WriteBehindQueue(
+      GamePersistenceService persistenceService,
+      @Value("${ddz.persistence.write-behind.batch-size:32}") int batchSize,
+      @Value("${ddz.persistence.write-behind.max-pending:10000}") int maxPending,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    if (batchSize < 1 || maxPending < 1) {
+      throw new IllegalArgumentException("Batch size and max pending must be at least 1");
+    }
+    this.persistenceService = persistenceService;
+    this.batchSize = batchSize;
+    this.order = new LinkedBlockingQueue<>(maxPending);
+    Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+    this.writer = builder.name("game-write-behind").start(this::run);
+  }
+
+  /**
+   * Mark a game as changed. Returns without touching the database unless the queue is full.
+   *
+   * @param instance The game instance to persist
+   * @param userIdToPlayerIdMap Map of userId to playerId for tracking participants
+   */
+  public void enqueue(GameInstance instance, Map<UUID, UUID> userIdToPlayerIdMap) {
+    String gameId = instance.gameId();
+    if (pending.putIfAbsent(gameId, new Pending(instance, userIdToPlayerIdMap)) != null) {
+      return; // already queued; the queued save will pick this change up
+    }
+    boolean queued = false;
+    if (running) {
+      try {
+        queued = order.offer(gameId, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (!queued) {
+      // Backpressure: full (or shutting down), so save on the caller's thread
+      log.warn(
+          "Write-behind queue {}, saving game {} synchronously",
+          running ? "full" : "stopped",
+          gameId);
+      writeBatch(List.of(gameId));
+    }
+  }
+
+  /** Number of games waiting to be written. */
+  public int pendingCount() {
+    return pending.size();
+  }
+
+  /** Whether a game has changes waiting to be written or being written. */
+  public boolean isPending(String gameId) {
+    return pending.containsKey(gameId) || writing.contains(gameId);
+  }
+
+  /** Block until every game queued before this call has been written, or the timeout expires. */
+  public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!pending.isEmpty() || inFlight.get() > 0) {
+      if (System.nanoTime() > deadline) {
+        return false;
+      }
+      Thread.sleep(5);
+    }
+    return true;
+  }
+
+  /** Stop accepting queued work, write everything still pending and stop the writer. */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    writer.join(SHUTDOWN_TIMEOUT_MS);
+    if (writer.isAlive()) {
+      log.error("Write-behind writer did not finish within {} ms", SHUTDOWN_TIMEOUT_MS);
+    }
+    log.info("Write-behind queue stopped, {} games left unwritten", pending.size());
+  }
+
+  private void run() {
+    List<String> ids = new ArrayList<>(batchSize);
+    while (running || !order.isEmpty()) {
+      try {
+        String first = order.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        ids.add(first);
+        order.drainTo(ids, batchSize - 1);
+        if (!writeBatch(ids) && running) {
+          Thread.sleep(RETRY_DELAY_MS);
+        }
+      } catch (InterruptedException e) {
+        // Nothing interrupts the writer on purpose; keep draining until stopped
+      } catch (RuntimeException e) {
+        log.error("Write-behind writer failed", e);
+      } finally {
+        ids.clear();
+      }
+    }
+  }
+
+  /**
+   * Capture and write the given pending games; returns false if any of them failed. A game whose
+   * capture fails is queued again on its own, the others are still written.
+   */
+  private boolean writeBatch(List<String> ids) {
+    List<Pending> batch = new ArrayList<>(ids.size());
+    List<GameWrite> writes = new ArrayList<>(ids.size());
+    boolean captured = true;
+    inFlight.addAndGet(ids.size());
+    writing.addAll(ids);
+    try {
+      for (String id : ids) {
+        // Removed before capturing: a change after this point queues another save
+        Pending p = pending.remove(id);
+        if (p == null) {
+          continue;
+        }
+        GameWrite write;
+        try {
+          write =
+              p.instance()
+                  .actor()
+                  .call(() -> persistenceService.capture(p.instance(), p.userIdToPlayerIdMap()));
+        } catch (RuntimeException e) {
+          log.error("Failed to capture game {}, retrying with a snapshot", id, e);
+          requeue(p);
+          captured = false;
+          continue;
+        }
+        batch.add(p);
+        if (write != null) {
+          writes.add(write);
+        }
+      }
+      if (!writes.isEmpty()) {
+        persistenceService.write(writes);
+      }
+      return captured;
+    } catch (RuntimeException e) {
+      // The lost journal rows are covered by a fresh snapshot on the next save
+      log.error("Failed to write {} games, retrying with snapshots", batch.size(), e);
+      batch.forEach(this::requeue);
+      return false;
+    } finally {
+      ids.forEach(writing::remove);
+      inFlight.addAndGet(-ids.size());
+    }
+  }
+
+  /** Queue a game whose save failed again, with a full snapshot so nothing it captured is lost. */
+  private void requeue(Pending p) {
+    String gameId = p.instance().gameId();
+    persistenceService.forceSnapshot(gameId);
+    if (running && pending.putIfAbsent(gameId, p) == null && !order.offer(gameId)) {
+      pending.remove(gameId);
+    }
+  }
+
+  private record Pending(GameInstance instance, Map<UUID, UUID> userIdToPlayerIdMap) {}
+}
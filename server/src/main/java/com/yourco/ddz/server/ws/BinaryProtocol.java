@@ -0,0 +1,313 @@
+package com.yourco.ddz.server.ws;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.ComboType;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.server.api.dto.CardDto;
+import com.yourco.ddz.server.api.dto.GameStateResponse;
+import com.yourco.ddz.server.api.dto.PlayedHandDto;
+import com.yourco.ddz.server.api.dto.PlayerInfo;
+import com.yourco.ddz.server.ws.dto.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Frames for the {@value #NAME} WebSocket sub-protocol, the binary alternative to the JSON
+ * messages. Sessions that negotiate it get the same snapshot/delta stream as {@code
+ * ?protocol=delta} JSON clients.
+ *
+ * <p>Each frame starts with a type byte. Integers are unsigned LEB128 varints (scores zigzag),
+ * strings are a varint of length + 1 (0 for null) followed by UTF-8, player ids are 16 bytes, and a
+ * card is its {@link Card#index()} in one byte. Players are referred to by seat, their position in
+ * the snapshot's player list; 0xFF means none. Scores travel only in the player entries.
+ *
+ * <pre>
+ * STATE  0x01 version message gameId phase:u8 playerCount:u8 players currentPlayer:seat
+ *             lead bombs rockets currentBet multiplier maxBid landlords:seats awaiting:seat hand
+ * DELTA  0x02 version message fieldMask fields-in-mask-order... handFlag:u8 [hand]
+ * ERROR  0x03 error code
+ *
+ * BID    0x10 value:u8          PASS   0x12
+ * PLAY   0x11 cards             SELECT 0x13 playerId
+ * RESYNC 0x14
+ *
+ * players = count player*    player = id name cardCount flags:u8(1 landlord, 2 connected) score bid:u8
+ * cards   = count card:u8*   lead = comboType:u8 cards, or 0xFF
+ * </pre>
+ *
+ * A DELTA's field mask uses the bit positions of {@link #DELTA_FIELDS}; {@code players} replaces
+ * the roster, and {@code playerUpdates} is a count of (seat, player) pairs.
+ */
+final class BinaryProtocol {
+  static final String NAME = "ddz.bin.v1";
+
+  static final byte STATE = 0x01;
+  static final byte DELTA = 0x02;
+  static final byte ERROR = 0x03;
+  static final byte BID = 0x10;
+  static final byte PLAY = 0x11;
+  static final byte PASS = 0x12;
+  static final byte SELECT_LANDLORD = 0x13;
+  static final byte RESYNC = 0x14;
+
+  private static final int NONE = 0xFF;
+
+  /** DeltaTracker change names, in field-mask bit order. */
+  static final List<String> DELTA_FIELDS =
+      List.of(
+          "gameId",
+          "phase",
+          "currentPlayer",
+          "playerCount",
+          "currentLead",
+          "bombsPlayed",
+          "rocketsPlayed",
+          "currentBet",
+          "multiplier",
+          "maxBid",
+          "landlordIds",
+          "awaitingLandlordSelection",
+          "players",
+          "playerUpdates");
+
+  private BinaryProtocol() {}
+
+  /** A full snapshot, the binary GAME_UPDATE. */
+  static byte[] state(GameStateResponse s, String message, long version) {
+    Out out = new Out(256);
+    List<String> seats = s.players().stream().map(PlayerInfo::id).toList();
+    out.u8(STATE).varint(version).str(message).str(s.gameId());
+    out.u8(GameState.Phase.valueOf(s.phase()).ordinal()).u8(s.playerCount());
+    players(out, s.players());
+    out.u8(seat(seats, s.currentPlayer()));
+    lead(out, s.currentLead());
+    out.varint(s.bombsPlayed()).varint(s.rocketsPlayed()).varint(s.currentBet());
+    out.varint(s.multiplier()).varint(s.maxBid());
+    seatList(out, seats, s.landlordIds());
+    out.u8(seat(seats, s.awaitingLandlordSelection()));
+    cards(out, s.myHand());
+    return out.toByteArray();
+  }
+
+  /**
+   * The shared part of a binary GAME_DELTA; finish it per recipient with {@link #withHand}.
+   *
+   * @param roster the game's players in seat order
+   */
+  @SuppressWarnings("unchecked")
+  static byte[] delta(DeltaTracker.Delta delta, String message, List<UUID> roster) {
+    Out out = new Out(64);
+    List<String> seats = roster.stream().map(UUID::toString).toList();
+    Map<String, Object> changes = delta.changes();
+    long mask = 0;
+    for (int bit = 0; bit < DELTA_FIELDS.size(); bit++) {
+      if (changes.containsKey(DELTA_FIELDS.get(bit))) {
+        mask |= 1L << bit;
+      }
+    }
+    out.u8(DELTA).varint(delta.version()).str(message).varint(mask);
+    for (String field : DELTA_FIELDS) {
+      if (!changes.containsKey(field)) {
+        continue;
+      }
+      Object value = changes.get(field);
+      switch (field) {
+        case "gameId" -> out.str((String) value);
+        case "phase" -> out.u8(GameState.Phase.valueOf((String) value).ordinal());
+        case "playerCount" -> out.u8((Integer) value);
+        case "currentPlayer", "awaitingLandlordSelection" -> out.u8(seat(seats, (String) value));
+        case "currentLead" -> lead(out, (PlayedHandDto) value);
+        case "landlordIds" -> seatList(out, seats, (List<String>) value);
+        case "players" -> players(out, (List<PlayerInfo>) value);
+        case "playerUpdates" -> {
+          List<PlayerInfo> updates = (List<PlayerInfo>) value;
+          out.varint(updates.size());
+          for (PlayerInfo p : updates) {
+            out.u8(seat(seats, p.id()));
+            player(out, p);
+          }
+        }
+        default -> out.varint((Integer) value);
+      }
+    }
+    return out.toByteArray();
+  }
+
+  /** A shared DELTA finished for one recipient: its hand if it changed, else a 0 flag. */
+  static byte[] withHand(byte[] shared, List<CardDto> hand) {
+    Out out = new Out(shared.length + 2 + (hand != null ? hand.size() : 0));
+    out.bytes(shared);
+    if (hand == null) {
+      out.u8(0);
+    } else {
+      out.u8(1);
+      cards(out, hand);
+    }
+    return out.toByteArray();
+  }
+
+  static byte[] error(String error, String code) {
+    return new Out(64).u8(ERROR).str(error).str(code).toByteArray();
+  }
+
+  /** Decode a client frame into the message the JSON path would have parsed. */
+  static GameActionMessage decode(ByteBuffer in) {
+    try {
+      byte type = in.get();
+      GameActionMessage message =
+          switch (type) {
+            case BID -> {
+              BidMessage bid = new BidMessage();
+              bid.setBidValue(Byte.toUnsignedInt(in.get()));
+              yield bid;
+            }
+            case PLAY -> {
+              long count = readVarint(in);
+              if (count > in.remaining()) {
+                throw new BufferUnderflowException();
+              }
+              List<CardDto> cards = new ArrayList<>((int) count);
+              for (int i = 0; i < count; i++) {
+                int index = Byte.toUnsignedInt(in.get());
+                if (index >= Card.DISTINCT) {
+                  throw new IllegalArgumentException("Not a card index: " + index);
+                }
+                cards.add(CardDto.from(Card.of(index)));
+              }
+              PlayMessage play = new PlayMessage();
+              play.setCards(cards);
+              yield play;
+            }
+            case PASS -> new PassMessage();
+            case SELECT_LANDLORD -> {
+              SelectLandlordMessage select = new SelectLandlordMessage();
+              select.setSelectedPlayerId(new UUID(in.getLong(), in.getLong()));
+              yield select;
+            }
+            case RESYNC -> new ResyncMessage();
+            default -> throw new IllegalArgumentException("Unknown binary message type: " + type);
+          };
+      if (in.hasRemaining()) {
+        throw new IllegalArgumentException("Trailing bytes in binary message");
+      }
+      return message;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated binary message");
+    }
+  }
+
+  private static void players(Out out, List<PlayerInfo> players) {
+    out.varint(players.size());
+    for (PlayerInfo p : players) {
+      player(out, p);
+    }
+  }
+
+  private static void player(Out out, PlayerInfo p) {
+    out.uuid(UUID.fromString(p.id())).str(p.name()).varint(p.cardCount());
+    out.u8((p.isLandlord() ? 1 : 0) | (p.isConnected() ? 2 : 0));
+    out.varint((p.score() << 1) ^ (p.score() >> 31)); // zigzag: scores go negative
+    out.u8(p.bid());
+  }
+
+  private static void lead(Out out, PlayedHandDto lead) {
+    if (lead == null) {
+      out.u8(NONE);
+    } else {
+      out.u8(ComboType.valueOf(lead.comboType()).ordinal());
+      cards(out, lead.cards());
+    }
+  }
+
+  private static void cards(Out out, List<CardDto> cards) {
+    out.varint(cards.size());
+    for (CardDto c : cards) {
+      out.u8(c.toCard().index());
+    }
+  }
+
+  private static void seatList(Out out, List<String> seats, List<String> ids) {
+    out.varint(ids.size());
+    for (String id : ids) {
+      out.u8(seat(seats, id));
+    }
+  }
+
+  private static int seat(List<String> seats, String playerId) {
+    int seat = playerId != null ? seats.indexOf(playerId) : -1;
+    return seat >= 0 ? seat : NONE;
+  }
+
+  static long readVarint(ByteBuffer in) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Varint too long");
+  }
+
+  /** Growable output buffer with the protocol's primitive writers. */
+  private static final class Out {
+    private byte[] buf;
+    private int size;
+
+    Out(int capacity) {
+      buf = new byte[capacity];
+    }
+
+    Out u8(int b) {
+      ensure(1);
+      buf[size++] = (byte) b;
+      return this;
+    }
+
+    Out varint(long v) {
+      while ((v & ~0x7FL) != 0) {
+        u8((int) ((v & 0x7F) | 0x80));
+        v >>>= 7;
+      }
+      return u8((int) v);
+    }
+
+    Out str(String s) {
+      if (s == null) {
+        return u8(0);
+      }
+      byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+      varint(utf8.length + 1L);
+      return bytes(utf8);
+    }
+
+    Out uuid(UUID id) {
+      ensure(16);
+      ByteBuffer.wrap(buf, size, 16)
+          .putLong(id.getMostSignificantBits())
+          .putLong(id.getLeastSignificantBits());
+      size += 16;
+      return this;
+    }
+
+    Out bytes(byte[] b) {
+      ensure(b.length);
+      System.arraycopy(b, 0, buf, size, b.length);
+      size += b.length;
+      return this;
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buf, size);
+    }
+
+    private void ensure(int n) {
+      if (size + n > buf.length) {
+        buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + n));
+      }
+    }
+  }
+}
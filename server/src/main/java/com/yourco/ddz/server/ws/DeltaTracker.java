@@ -0,0 +1,100 @@
+package com.yourco.ddz.server.ws;
+
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.server.api.dto.CardDto;
+import com.yourco.ddz.server.api.dto.GameStateResponse;
+import com.yourco.ddz.server.api.dto.PlayerInfo;
+import java.util.*;
+
+/**
+ * State version of one game and the last view sent to delta-protocol clients. Every broadcast moves
+ * the game to the next version; {@link #diff} reports what changed since the previous version. A
+ * version no delta client was sent ({@link #advance}) drops that view, so the next diff carries the
+ * whole state: a client that joined in between holds a snapshot newer than the dropped view, and a
+ * field that has since changed back to its old value would otherwise be left out. Only used from
+ * the game's actor.
+ */
+final class DeltaTracker {
+  private long version;
+  private GameStateResponse lastView;
+  private final Map<UUID, List<Card>> lastHands = new HashMap<>();
+
+  /** What changed in the public view, plus each player's hand if it changed. */
+  record Delta(long version, Map<String, Object> changes, Map<UUID, List<CardDto>> hands) {}
+
+  long version() {
+    return version;
+  }
+
+  /** Move to the next version without diffing; the next diff starts from nothing. */
+  long advance() {
+    lastView = null;
+    lastHands.clear();
+    return ++version;
+  }
+
+  /** Move to the next version and return what changed since the last diff. */
+  Delta diff(GameState state, int maxBid, int maxPlayers) {
+    GameStateResponse view = GameStateResponse.from(state, null, maxBid, maxPlayers);
+    Map<String, Object> changes = fields(view);
+    if (lastView != null) {
+      Map<String, Object> before = fields(lastView);
+      changes.entrySet().removeIf(e -> Objects.equals(e.getValue(), before.get(e.getKey())));
+    }
+    diffPlayers(changes, lastView == null ? null : lastView.players(), view.players());
+    lastView = view;
+
+    Map<UUID, List<CardDto>> hands = new HashMap<>();
+    for (UUID playerId : state.players()) {
+      List<Card> hand = state.handOf(playerId);
+      if (!hand.equals(lastHands.get(playerId))) {
+        lastHands.put(playerId, List.copyOf(hand));
+        hands.put(playerId, hand.stream().map(CardDto::from).toList());
+      }
+    }
+    lastHands.keySet().retainAll(state.players());
+
+    return new Delta(++version, changes, hands);
+  }
+
+  /** The view's shared fields by JSON name; players and the hand are diffed separately. */
+  private static Map<String, Object> fields(GameStateResponse v) {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("gameId", v.gameId());
+    fields.put("phase", v.phase());
+    fields.put("currentPlayer", v.currentPlayer());
+    fields.put("playerCount", v.playerCount());
+    fields.put("currentLead", v.currentLead());
+    fields.put("scores", v.scores());
+    fields.put("bombsPlayed", v.bombsPlayed());
+    fields.put("rocketsPlayed", v.rocketsPlayed());
+    fields.put("currentBet", v.currentBet());
+    fields.put("multiplier", v.multiplier());
+    fields.put("maxBid", v.maxBid());
+    fields.put("landlordIds", v.landlordIds());
+    fields.put("awaitingLandlordSelection", v.awaitingLandlordSelection());
+    return fields;
+  }
+
+  private static void diffPlayers(
+      Map<String, Object> changes, List<PlayerInfo> before, List<PlayerInfo> after) {
+    if (before == null || !ids(before).equals(ids(after))) {
+      changes.put("players", after);
+      return;
+    }
+    List<PlayerInfo> updates = new ArrayList<>();
+    for (int i = 0; i < after.size(); i++) {
+      if (!after.get(i).equals(before.get(i))) {
+        updates.add(after.get(i));
+      }
+    }
+    if (!updates.isEmpty()) {
+      changes.put("playerUpdates", updates);
+    }
+  }
+
+  private static List<String> ids(List<PlayerInfo> players) {
+    return players.stream().map(PlayerInfo::id).toList();
+  }
+}
@@ -1,9 +1,12 @@
 package com.yourco.ddz.server.ws;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.yourco.ddz.engine.cards.Card;
 import com.yourco.ddz.engine.core.*;
+import com.yourco.ddz.server.api.dto.CardDto;
 import com.yourco.ddz.server.api.dto.GameStateResponse;
+import com.yourco.ddz.server.core.GameConnections;
 import com.yourco.ddz.server.core.GameInstance;
 import com.yourco.ddz.server.core.GameRegistry;
 import com.yourco.ddz.server.ws.dto.*;
@@ -11,18 +14,22 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 @Component
-public class GameWebSocketHandler extends TextWebSocketHandler {
+public class GameWebSocketHandler extends AbstractWebSocketHandler
+    implements SubProtocolCapable, GameConnections {
   private static final Logger log = LoggerFactory.getLogger(GameWebSocketHandler.class);
 
   private final GameRegistry registry;
   private final ObjectMapper objectMapper;
+  private final SendQueues sendQueues;
+  private final MessageTracer tracer;
 
   // Track sessions per game: gameId -> List of sessions
   private final Map<String, List<WebSocketSession>> gameSessions = new ConcurrentHashMap<>();
@@ -33,9 +40,38 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
   // Track test mode per game
   private final Map<String, Boolean> gameTestMode = new ConcurrentHashMap<>();
 
-  public GameWebSocketHandler(GameRegistry r, ObjectMapper om) {
+  // Sessions that connected with ?protocol=delta and get GAME_DELTA instead of full updates
+  private final Set<String> deltaSessions = ConcurrentHashMap.newKeySet();
+
+  // State version per game with connected sessions; only touched on the game's actor
+  private final Map<String, DeltaTracker> deltaTrackers = new ConcurrentHashMap<>();
+
+  // Outbound queue per session: sessionId -> queue
+  private final Map<String, SessionSendQueue> outbound = new ConcurrentHashMap<>();
+
+  public GameWebSocketHandler(
+      GameRegistry r, ObjectMapper om, SendQueues sq, MessageTracer tracer) {
     this.registry = r;
     this.objectMapper = om;
+    this.sendQueues = sq;
+    this.tracer = tracer;
+  }
+
+  @Override
+  public boolean isConnected(String gameId) {
+    return gameSessions.containsKey(gameId);
+  }
+
+  @Override
+  public void unloaded(String gameId) {
+    gameTestMode.remove(gameId);
+    deltaTrackers.remove(gameId);
+  }
+
+  /** Clients that ask for the binary sub-protocol get it; everyone else speaks JSON. */
+  @Override
+  public List<String> getSubProtocols() {
+    return List.of(BinaryProtocol.NAME);
   }
 
   @Override
@@ -54,17 +90,18 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     }
 
     // Add session to game
-    gameSessions.computeIfAbsent(gameId, k -> new ArrayList<>()).add(session);
+    outbound.put(session.getId(), sendQueues.open(session));
+    gameSessions.computeIfAbsent(gameId, k -> new CopyOnWriteArrayList<>()).add(session);
 
     // Extract playerId from query params
     UUID playerId = extractPlayerId(session);
     if (playerId != null) {
       sessionPlayerIds.put(session.getId(), playerId);
+    }
 
-      // Mark player as connected in game state
-      synchronized (game.loop()) {
-        game.loop().state().setPlayerConnected(playerId, true);
-      }
+    // Binary clients always use the snapshot + delta stream
+    if (isBinary(session) || "delta".equals(extractQueryParam(session, "protocol"))) {
+      deltaSessions.add(session.getId());
     }
 
     // Check for test mode parameter
@@ -72,64 +109,118 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     if (testMode) {
       gameTestMode.put(gameId, true);
       log.info("Test mode enabled for game {}", gameId);
-
-      // In test mode, mark ALL players as connected (allows single user to control all)
-      synchronized (game.loop()) {
-        for (UUID pid : game.loop().state().players()) {
-          game.loop().state().setPlayerConnected(pid, true);
-        }
-      }
-      log.info("Marked all players as connected for test mode in game {}", gameId);
     }
 
     log.info(
         "WebSocket connected - gameId: {}, playerId: {}, testMode: {}", gameId, playerId, testMode);
 
+    registry.tell(game, current -> onConnected(session, current, gameId, playerId, testMode));
+  }
+
+  /** Runs on the game's actor once a session has connected. */
+  private void onConnected(
+      WebSocketSession session, GameInstance game, String gameId, UUID playerId, boolean testMode) {
+    GameState state = game.loop().state();
+
+    // Mark player as connected in game state
+    if (playerId != null) {
+      state.setPlayerConnected(playerId, true);
+    }
+
+    // In test mode, mark ALL players as connected (allows single user to control all)
+    if (testMode) {
+      for (UUID pid : state.players()) {
+        state.setPlayerConnected(pid, true);
+      }
+      log.info("Marked all players as connected for test mode in game {}", gameId);
+    }
+
     // Check if all players are now connected and resume game if needed
     if (playerId != null && !testMode) {
       checkAndResumeGame(game, gameId);
     }
 
     // Send current game state to the newly connected client
-    if (playerId != null) {
-      GameStateResponse stateResponse =
-          GameStateResponse.from(
-              game.loop().state(), playerId, game.getMaxBid(), game.maxPlayers());
-      sendMessage(session, new GameUpdateMessage(stateResponse, "Connected to game " + gameId));
-    } else {
-      sendMessage(session, new GameUpdateMessage(null, "Connected to game " + gameId));
+    sendSnapshot(session, game, playerId, "Connected to game " + gameId);
+  }
+
+  /** Send a full GAME_UPDATE at the game's current version. Runs on the game's actor. */
+  private void sendSnapshot(
+      WebSocketSession session, GameInstance game, UUID playerId, String message) {
+    long version = tracker(game.gameId()).version();
+    GameState state = game.loop().state();
+    if (isBinary(session)) {
+      GameStateResponse view =
+          GameStateResponse.from(state, playerId, game.getMaxBid(), game.maxPlayers());
+      sendBinary(session, BinaryProtocol.state(view, message, version));
+      return;
     }
+    GameStateResponse stateResponse =
+        playerId != null
+            ? GameStateResponse.from(state, playerId, game.getMaxBid(), game.maxPlayers())
+            : null;
+    sendMessage(session, new GameUpdateMessage(stateResponse, message, version));
+  }
+
+  private DeltaTracker tracker(String gameId) {
+    return deltaTrackers.computeIfAbsent(gameId, k -> new DeltaTracker());
   }
 
   /**
-   * Check if all players are connected and resume game if it was paused.
+   * Check if all players are connected and resume game if it was paused. Runs on the game's actor.
    *
    * @param game The game instance
    * @param gameId The game ID
    */
   private void checkAndResumeGame(GameInstance game, String gameId) {
-    synchronized (game.loop()) {
-      GameState state = game.loop().state();
-
-      // Check if all players are connected
-      boolean allConnected =
-          state.players().stream().allMatch(playerId -> state.isPlayerConnected(playerId));
+    GameState state = game.loop().state();
 
-      if (allConnected) {
-        // Resume the game
-        registry.resumeGame(gameId);
-        registry.updateGame(gameId); // Persist the resumed state
+    if (state.allPlayersConnected()) {
+      // Resume the game
+      registry.resumeGame(gameId);
+      registry.updateGame(gameId); // Persist the resumed state
 
-        log.info("All players reconnected - resuming game {}", gameId);
+      log.info("All players reconnected - resuming game {}", gameId);
 
-        // Broadcast resume to all players
-        broadcastStateUpdate(gameId, game, "All players connected - game resumed");
-      }
+      // Broadcast resume to all players
+      broadcastStateUpdate(gameId, game, "All players connected - game resumed");
     }
   }
 
   @Override
   protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+    if (tracer.active()) {
+      tracer.json(
+          extractGameId(session),
+          "in",
+          session.getId(),
+          sessionPlayerIds.get(session.getId()),
+          message.getPayload());
+    }
+    handleAction(
+        session, () -> objectMapper.readValue(message.getPayload(), GameActionMessage.class));
+  }
+
+  @Override
+  protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message)
+      throws Exception {
+    if (tracer.active()) {
+      tracer.binary(
+          extractGameId(session),
+          "in",
+          session.getId(),
+          sessionPlayerIds.get(session.getId()),
+          message.getPayload());
+    }
+    handleAction(session, () -> BinaryProtocol.decode(message.getPayload()));
+  }
+
+  /** Parses a client message; throws IllegalArgumentException or IOException if malformed. */
+  private interface MessageParser {
+    GameActionMessage parse() throws IOException;
+  }
+
+  private void handleAction(WebSocketSession session, MessageParser parser) throws Exception {
     String gameId = extractGameId(session);
     UUID playerId = sessionPlayerIds.get(session.getId());
 
@@ -144,24 +235,53 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
       return;
     }
 
+    // Parse incoming message
+    GameAction action;
     try {
-      // Parse incoming message
-      GameActionMessage actionMsg =
-          objectMapper.readValue(message.getPayload(), GameActionMessage.class);
+      GameActionMessage actionMsg = parser.parse();
+
+      // A delta client that missed a version asks for a fresh snapshot
+      if (actionMsg instanceof ResyncMessage) {
+        game.actor().tell(() -> sendSnapshot(session, game, playerId, "Resynchronized"));
+        return;
+      }
 
       // Override playerId from message with session playerId if available
       if (playerId != null) {
         actionMsg.setPlayerId(playerId);
       }
 
-      // Convert to game action and submit
-      GameAction action = convertToAction(actionMsg);
-      synchronized (game.loop()) {
-        game.loop().submit(action);
-        game.loop().tick();
+      // Convert to game action
+      action = convertToAction(actionMsg);
+    } catch (IllegalArgumentException | IOException e) {
+      log.warn("Invalid action from player {}: {}", playerId, e.getMessage());
+      game.actor().tell(() -> sendError(session, e.getMessage()));
+      return;
+    }
+
+    // The game's actor applies the action; this thread goes back to Tomcat straight away
+    registry.tell(game, current -> applyAction(session, current, gameId, playerId, action));
+  }
+
+  /** Runs on the game's actor: apply one player action, then persist and broadcast. */
+  private void applyAction(
+      WebSocketSession session,
+      GameInstance game,
+      String gameId,
+      UUID playerId,
+      GameAction action) {
+    try {
+      game.loop().submit(action);
+      MoveResult result = game.loop().tick();
+
+      // Illegal moves are routine (stale clients, double clicks); answer without logging noise
+      if (result instanceof MoveResult.Rejected rejected) {
+        log.debug("Rejected action from player {}: {}", playerId, rejected.message());
+        sendError(session, rejected.message(), rejected.code().name());
+        return;
       }
 
-      // Persist game state after every action
+      // Queue the change for the database; the broadcast does not wait for the write
       registry.updateGame(gameId);
 
       // Broadcast state update to all players in this game
@@ -180,13 +300,23 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
   public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
     String gameId = extractGameId(session);
     UUID playerId = sessionPlayerIds.remove(session.getId());
+    deltaSessions.remove(session.getId());
+    SessionSendQueue queue = outbound.remove(session.getId());
+    if (queue != null) {
+      queue.close();
+    }
 
     if (gameId != null) {
-      List<WebSocketSession> sessions = gameSessions.get(gameId);
-      if (sessions != null) {
-        sessions.remove(session);
-        if (sessions.isEmpty()) {
-          gameSessions.remove(gameId);
+      gameSessions.computeIfPresent(
+          gameId,
+          (id, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+          });
+      if (!gameSessions.containsKey(gameId)) {
+        GameInstance game = registry.get(gameId);
+        if (game != null) {
+          game.actor().tell(() -> dropTrackerIfIdle(gameId));
         }
       }
 
@@ -197,21 +327,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
       if (playerId != null && !isTestMode) {
         GameInstance game = registry.get(gameId);
         if (game != null) {
-          synchronized (game.loop()) {
-            game.loop().state().setPlayerConnected(playerId, false);
-          }
-
-          log.info("Player {} disconnected from game {}", playerId, gameId);
-
-          // Pause the game when any player disconnects
-          registry.pauseGame(gameId);
-          registry.updateGame(gameId); // Persist the paused state
-
-          // Broadcast disconnect to all remaining players
-          broadcastStateUpdate(
-              gameId,
-              game,
-              game.loop().state().getPlayerName(playerId) + " disconnected - game paused");
+          registry.tell(game, current -> onDisconnected(current, gameId, playerId));
         }
       } else if (playerId != null && isTestMode) {
         log.info(
@@ -223,6 +339,28 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         "WebSocket disconnected - gameId: {}, playerId: {}, status: {}", gameId, playerId, status);
   }
 
+  /** Runs on the game's actor; a session may have joined since the last one closed. */
+  private void dropTrackerIfIdle(String gameId) {
+    if (!gameSessions.containsKey(gameId)) {
+      deltaTrackers.remove(gameId);
+    }
+  }
+
+  /** Runs on the game's actor when a player's session has closed. */
+  private void onDisconnected(GameInstance game, String gameId, UUID playerId) {
+    game.loop().state().setPlayerConnected(playerId, false);
+
+    log.info("Player {} disconnected from game {}", playerId, gameId);
+
+    // Pause the game when any player disconnects
+    registry.pauseGame(gameId);
+    registry.updateGame(gameId); // Persist the paused state
+
+    // Broadcast disconnect to all remaining players
+    broadcastStateUpdate(
+        gameId, game, game.loop().state().getPlayerName(playerId) + " disconnected - game paused");
+  }
+
   private GameAction convertToAction(GameActionMessage msg) {
     UUID playerId = msg.getPlayerId();
     if (playerId == null) {
@@ -248,7 +386,10 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
 
   /**
    * Broadcast game state update to all WebSocket clients connected to this game. This is public so
-   * it can be called from REST controllers when game state changes.
+   * it can be called from REST controllers when game state changes. Must run on the game's actor.
+   *
+   * <p>Each broadcast is a new state version. Delta-protocol sessions get a GAME_DELTA with only
+   * what changed since the previous one; other sessions get the full state.
    */
   public void broadcastStateUpdate(String gameId, GameInstance game, String message) {
     List<WebSocketSession> sessions = gameSessions.get(gameId);
@@ -258,23 +399,63 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     }
 
     GameState state = game.loop().state();
-    log.info("Broadcasting state update to {} sessions for game {}", sessions.size(), gameId);
+    log.debug("Broadcasting state update to {} sessions for game {}", sessions.size(), gameId);
+
+    // Only diff when someone will read the delta
+    DeltaTracker tracker = tracker(gameId);
+    DeltaTracker.Delta delta = null;
+    for (WebSocketSession session : sessions) {
+      if (deltaSessions.contains(session.getId())) {
+        delta = tracker.diff(state, game.getMaxBid(), game.maxPlayers());
+        break;
+      }
+    }
+    long version = delta != null ? delta.version() : tracker.advance();
+
+    // Only the hand differs between recipients: each kind of message is serialized once, on
+    // first use, and each player's hand is spliced into a copy
+    SplicedJson deltaJson = null;
+    byte[] deltaBinary = null;
+    SplicedJson updateJson = null;
+    String spectatorJson = null;
 
-    for (WebSocketSession session : new ArrayList<>(sessions)) {
+    for (WebSocketSession session : sessions) {
       if (!session.isOpen()) {
         continue;
       }
 
       try {
         UUID playerId = sessionPlayerIds.get(session.getId());
-        if (playerId == null) {
+        if (delta != null && isBinary(session)) {
+          if (deltaBinary == null) {
+            deltaBinary = BinaryProtocol.delta(delta, message, state.players());
+          }
+          List<CardDto> hand = playerId != null ? delta.hands().get(playerId) : null;
+          sendBinary(session, BinaryProtocol.withHand(deltaBinary, hand));
+        } else if (delta != null && deltaSessions.contains(session.getId())) {
+          if (deltaJson == null) {
+            deltaJson = deltaJson(delta, message);
+          }
+          List<CardDto> hand = playerId != null ? delta.hands().get(playerId) : null;
+          sendJson(
+              session,
+              hand != null
+                  ? deltaJson.with("myHand", objectMapper.writeValueAsString(hand))
+                  : deltaJson.without());
+        } else if (playerId == null) {
           // If no player ID, just send minimal state
-          sendMessage(session, new GameUpdateMessage(null, message));
+          if (spectatorJson == null) {
+            spectatorJson =
+                objectMapper.writeValueAsString(new GameUpdateMessage(null, message, version));
+          }
+          sendJson(session, spectatorJson);
         } else {
           // Send personalized state (with player's hand)
-          GameStateResponse stateResponse =
-              GameStateResponse.from(state, playerId, game.getMaxBid(), game.maxPlayers());
-          sendMessage(session, new GameUpdateMessage(stateResponse, message));
+          if (updateJson == null) {
+            updateJson = updateJson(game, message, version);
+          }
+          List<CardDto> hand = state.handOf(playerId).stream().map(CardDto::from).toList();
+          sendJson(session, updateJson.with("myHand", objectMapper.writeValueAsString(hand)));
         }
       } catch (Exception e) {
         log.error("Error broadcasting to session {}", session.getId(), e);
@@ -282,21 +463,108 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     }
   }
 
+  /** A GAME_UPDATE without the hand, with {@code state} moved last so the hand can close it. */
+  private SplicedJson updateJson(GameInstance game, String message, long version)
+      throws IOException {
+    GameStateResponse publicState =
+        GameStateResponse.from(game.loop().state(), null, game.getMaxBid(), game.maxPlayers());
+    ObjectNode root =
+        objectMapper.valueToTree(new GameUpdateMessage(publicState, message, version));
+    ObjectNode stateNode = (ObjectNode) root.remove("state");
+    stateNode.remove("myHand");
+    root.set("state", stateNode);
+    return new SplicedJson(objectMapper.writeValueAsString(root), 2);
+  }
+
+  /** A GAME_DELTA without the hand, which is added at the top level. */
+  private SplicedJson deltaJson(DeltaTracker.Delta delta, String message) throws IOException {
+    return new SplicedJson(
+        objectMapper.writeValueAsString(
+            new GameDeltaMessage(delta.version(), message, delta.changes(), null)),
+        1);
+  }
+
   private void sendMessage(WebSocketSession session, Object message) {
     try {
-      String json = objectMapper.writeValueAsString(message);
-      log.info(
-          "📤 Sending WebSocket message to session {}: {}",
-          session.getId(),
-          json.substring(0, Math.min(500, json.length())));
-      session.sendMessage(new TextMessage(json));
+      sendJson(session, objectMapper.writeValueAsString(message));
     } catch (IOException e) {
-      log.error("Error sending message to session {}", session.getId(), e);
+      log.error("Error serializing message for session {}", session.getId(), e);
+    }
+  }
+
+  private void sendJson(WebSocketSession session, String json) {
+    if (tracer.active()) {
+      tracer.json(
+          extractGameId(session),
+          "out",
+          session.getId(),
+          sessionPlayerIds.get(session.getId()),
+          json);
+    }
+    send(session, new TextMessage(json));
+  }
+
+  private void sendBinary(WebSocketSession session, byte[] frame) {
+    if (tracer.active()) {
+      tracer.binary(
+          extractGameId(session),
+          "out",
+          session.getId(),
+          sessionPlayerIds.get(session.getId()),
+          frame);
+    }
+    send(session, new BinaryMessage(frame));
+  }
+
+  /** Queue a message on the session's send queue, applying the overflow policy if it is full. */
+  private void send(WebSocketSession session, WebSocketMessage<?> message) {
+    SessionSendQueue queue = outbound.get(session.getId());
+    if (queue == null) {
+      // Not (or no longer) registered, e.g. rejected during connect: write directly
+      try {
+        session.sendMessage(message);
+      } catch (IOException e) {
+        log.error("Error sending message to session {}", session.getId(), e);
+      }
+      return;
+    }
+    if (queue.offer(message)) {
+      return;
+    }
+    if (!session.isOpen() || outbound.get(session.getId()) != queue) {
+      return; // closed meanwhile
+    }
+    sendQueues.recordOverflow();
+    if (sendQueues.overflow() == SendQueues.Overflow.DISCONNECT) {
+      log.warn("Send queue full for session {}, disconnecting", session.getId());
+      queue.disconnect();
+      return;
+    }
+    // The backlog is stale anyway: replace it with one snapshot of the current state
+    log.warn("Send queue full for session {}, replacing backlog with a snapshot", session.getId());
+    queue.clear();
+    String gameId = extractGameId(session);
+    GameInstance game = gameId != null ? registry.get(gameId) : null;
+    if (game != null) {
+      UUID playerId = sessionPlayerIds.get(session.getId());
+      game.actor().tell(() -> sendSnapshot(session, game, playerId, "Resynchronized"));
     }
   }
 
   private void sendError(WebSocketSession session, String error) {
-    sendMessage(session, new ErrorMessage(error));
+    sendError(session, error, null);
+  }
+
+  private void sendError(WebSocketSession session, String error, String code) {
+    if (isBinary(session)) {
+      sendBinary(session, BinaryProtocol.error(error, code));
+    } else {
+      sendMessage(session, new ErrorMessage(error, code));
+    }
+  }
+
+  private static boolean isBinary(WebSocketSession session) {
+    return BinaryProtocol.NAME.equals(session.getAcceptedProtocol());
   }
 
   private String extractGameId(WebSocketSession session) {
@@ -328,19 +596,22 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
   }
 
   private boolean extractTestMode(WebSocketSession session) {
+    return "true".equalsIgnoreCase(extractQueryParam(session, "testMode"));
+  }
+
+  private String extractQueryParam(WebSocketSession session, String name) {
     URI uri = session.getUri();
-    if (uri == null) return false;
+    if (uri == null) return null;
 
     String query = uri.getQuery();
-    if (query == null) return false;
+    if (query == null) return null;
 
-    // Parse query string for testMode parameter
     for (String param : query.split("&")) {
       String[] kv = param.split("=");
-      if (kv.length == 2 && "testMode".equals(kv[0])) {
-        return "true".equalsIgnoreCase(kv[1]);
+      if (kv.length == 2 && name.equals(kv[0])) {
+        return kv[1];
       }
     }
-    return false;
+    return null;
   }
 }
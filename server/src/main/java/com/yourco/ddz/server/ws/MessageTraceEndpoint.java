@@ -0,0 +1,46 @@
+package com.yourco.ddz.server.ws;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for {@link MessageTracer}:
+ *
+ * <pre>
+ * GET    /actuator/messagetrace            games being traced
+ * POST   /actuator/messagetrace/{gameId}   start tracing; optional JSON body
+ *                                          {"maxPerSecond": 20, "minutes": 15}
+ * DELETE /actuator/messagetrace/{gameId}   stop tracing
+ * </pre>
+ */
+@Component
+@Endpoint(id = "messagetrace")
+public class MessageTraceEndpoint {
+  private final MessageTracer tracer;
+
+  public MessageTraceEndpoint(MessageTracer tracer) {
+    this.tracer = tracer;
+  }
+
+  @ReadOperation
+  public Map<String, MessageTracer.Status> traces() {
+    return tracer.traces();
+  }
+
+  @WriteOperation
+  public MessageTracer.Status enable(
+      @Selector String gameId, @Nullable Integer maxPerSecond, @Nullable Integer minutes) {
+    return tracer.enable(gameId, maxPerSecond, minutes);
+  }
+
+  @DeleteOperation
+  public boolean disable(@Selector String gameId) {
+    return tracer.disable(gameId);
+  }
+}
@@ -0,0 +1,225 @@
+package com.yourco.ddz.server.ws;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-game WebSocket message tracing, off by default. While a game is traced every message to or
+ * from its sessions is logged at INFO as one {@code key=value} line, up to a per-second budget;
+ * messages over budget are counted and reported when the next second starts. A trace expires on its
+ * own so a forgotten one does not log forever. Games are switched on and off through the {@code
+ * messagetrace} actuator endpoint ({@link MessageTraceEndpoint}). The configured budget and
+ * duration are also the most a caller may ask for, since traces log private hands.
+ *
+ * <p>Untraced games cost one map lookup per message, and nothing at all while no game is traced:
+ * callers check {@link #active()} before gathering anything to trace.
+ */
+@Component
+public class MessageTracer {
+  private static final Logger log = LoggerFactory.getLogger(MessageTracer.class);
+
+  private static final int MAX_PAYLOAD_CHARS = 500;
+  private static final int MAX_PAYLOAD_BYTES = 64;
+
+  /** Current state of one game's trace, as reported by the actuator endpoint. */
+  public record Status(int maxPerSecond, Instant expiresAt, long traced, long dropped) {}
+
+  private final int maxPerSecond;
+  private final long maxMillis;
+  private final LongSupplier clock;
+
+  private final Map<String, Trace> traces = new ConcurrentHashMap<>();
+  // Guards adding and removing traces, so active always matches whether any exist
+  private final Object lock = new Object();
+  private volatile boolean active;
+
+  @Autowired
+  public MessageTracer(
+      @Value("${ddz.websocket.trace.max-per-second:20}") int maxPerSecond,
+      @Value("${ddz.websocket.trace.duration-minutes:15}") int minutes) {
+    this(maxPerSecond, minutes * 60_000L, System::currentTimeMillis);
+  }
+
+  MessageTracer(int maxPerSecond, long maxMillis, LongSupplier clock) {
+    this.maxPerSecond = maxPerSecond;
+    this.maxMillis = maxMillis;
+    this.clock = clock;
+  }
+
+  /**
+   * Start (or restart) tracing a game. Null arguments take the configured values, and larger ones
+   * are capped at them.
+   */
+  public Status enable(String gameId, Integer maxPerSecond, Integer minutes) {
+    if ((maxPerSecond != null && maxPerSecond < 1) || (minutes != null && minutes < 1)) {
+      throw new IllegalArgumentException("maxPerSecond and minutes must be at least 1");
+    }
+    int budget =
+        maxPerSecond != null ? Math.min(maxPerSecond, this.maxPerSecond) : this.maxPerSecond;
+    long millis = minutes != null ? Math.min(minutes * 60_000L, maxMillis) : maxMillis;
+    Trace trace = new Trace(budget, clock.getAsLong() + millis);
+    synchronized (lock) {
+      traces.put(gameId, trace);
+      active = true;
+    }
+    log.info("Tracing WebSocket messages for game {} ({}/s)", gameId, budget);
+    return trace.status();
+  }
+
+  /** Stop tracing a game; false if it was not traced. */
+  public boolean disable(String gameId) {
+    Trace trace;
+    synchronized (lock) {
+      trace = traces.remove(gameId);
+      active = !traces.isEmpty();
+    }
+    if (trace != null) {
+      log.info(
+          "Stopped tracing game {} ({} traced, {} dropped)", gameId, trace.traced, trace.dropped);
+    }
+    return trace != null;
+  }
+
+  /** Games being traced, by id. */
+  public Map<String, Status> traces() {
+    Map<String, Status> result = new TreeMap<>();
+    traces.forEach(
+        (gameId, trace) -> {
+          synchronized (trace) {
+            result.put(gameId, trace.status());
+          }
+        });
+    return result;
+  }
+
+  /** Whether any game is traced; when false, nothing needs to be traced. */
+  boolean active() {
+    return active;
+  }
+
+  /** Trace a JSON message; returns whether it was logged. */
+  boolean json(String gameId, String direction, String sessionId, UUID playerId, String json) {
+    Trace trace = admit(gameId);
+    if (trace == null) {
+      return false;
+    }
+    log.info(
+        "ws-trace game={} dir={} session={} player={} format=json bytes={} payload={}",
+        gameId,
+        direction,
+        sessionId,
+        playerId,
+        json.getBytes(StandardCharsets.UTF_8).length,
+        json.length() > MAX_PAYLOAD_CHARS ? json.substring(0, MAX_PAYLOAD_CHARS) + "..." : json);
+    return true;
+  }
+
+  /** Trace a binary frame; returns whether it was logged. */
+  boolean binary(
+      String gameId, String direction, String sessionId, UUID playerId, ByteBuffer frame) {
+    Trace trace = admit(gameId);
+    if (trace == null) {
+      return false;
+    }
+    log.info(
+        "ws-trace game={} dir={} session={} player={} format=binary bytes={} payload={}",
+        gameId,
+        direction,
+        sessionId,
+        playerId,
+        frame.remaining(),
+        hex(frame.duplicate()));
+    return true;
+  }
+
+  boolean binary(String gameId, String direction, String sessionId, UUID playerId, byte[] frame) {
+    return binary(gameId, direction, sessionId, playerId, ByteBuffer.wrap(frame));
+  }
+
+  /** The game's trace if this message is within its budget, else null. */
+  private Trace admit(String gameId) {
+    Trace trace = gameId != null ? traces.get(gameId) : null;
+    if (trace == null) {
+      return null;
+    }
+    long now = clock.getAsLong();
+    if (now >= trace.expiresAt) {
+      boolean removed;
+      synchronized (lock) {
+        removed = traces.remove(gameId, trace);
+        active = !traces.isEmpty();
+      }
+      if (removed) {
+        log.info("Trace for game {} expired", gameId);
+      }
+      return null;
+    }
+    long dropped;
+    synchronized (trace) {
+      dropped = trace.roll(now);
+      if (trace.inWindow >= trace.maxPerSecond) {
+        trace.dropped++;
+        trace.droppedInWindow++;
+        return null;
+      }
+      trace.inWindow++;
+      trace.traced++;
+    }
+    if (dropped > 0) {
+      log.info("ws-trace game={} dropped={} (over {}/s)", gameId, dropped, trace.maxPerSecond);
+    }
+    return trace;
+  }
+
+  private static String hex(ByteBuffer frame) {
+    StringBuilder sb = new StringBuilder(2 * MAX_PAYLOAD_BYTES + 3);
+    int n = Math.min(frame.remaining(), MAX_PAYLOAD_BYTES);
+    for (int i = 0; i < n; i++) {
+      sb.append(String.format("%02x", frame.get()));
+    }
+    return frame.hasRemaining() ? sb.append("...").toString() : sb.toString();
+  }
+
+  /** Budget and counters for one traced game; guarded by its own monitor. */
+  private static final class Trace {
+    final int maxPerSecond;
+    final long expiresAt;
+    long windowStart;
+    int inWindow;
+    long droppedInWindow;
+    long traced;
+    long dropped;
+
+    Trace(int maxPerSecond, long expiresAt) {
+      this.maxPerSecond = maxPerSecond;
+      this.expiresAt = expiresAt;
+    }
+
+    /** Start a new one-second window if this one is over; returns the drops it had. */
+    long roll(long now) {
+      if (now - windowStart < 1000) {
+        return 0;
+      }
+      long dropped = droppedInWindow;
+      windowStart = now;
+      inWindow = 0;
+      droppedInWindow = 0;
+      return dropped;
+    }
+
+    Status status() {
+      return new Status(maxPerSecond, Instant.ofEpochMilli(expiresAt), traced, dropped);
+    }
+  }
+}
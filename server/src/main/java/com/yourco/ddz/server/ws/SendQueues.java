@@ -0,0 +1,141 @@
+package com.yourco.ddz.server.ws;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Creates the bounded {@link SessionSendQueue} for each WebSocket session, owns the threads that
+ * drain them and records their metrics:
+ *
+ * <ul>
+ *   <li>{@code ddz.websocket.send.queued}: messages waiting across all sessions
+ *   <li>{@code ddz.websocket.send.queue.depth}: a session's queue depth as each message is queued
+ *   <li>{@code ddz.websocket.send.latency}: time from queueing to written
+ *   <li>{@code ddz.websocket.send.overflows}: sessions that hit their limit, by policy
+ * </ul>
+ *
+ * <p>Drain tasks block on slow sockets, so they get their own threads (virtual ones with {@code
+ * spring.threads.virtual.enabled}) rather than the game actors'.
+ */
+@Component
+public class SendQueues {
+
+  /** What to do with a session whose queue is full. */
+  public enum Overflow {
+    /** Drop its backlog and send one fresh snapshot instead. */
+    SNAPSHOT,
+    /** Close the session; the client reconnects and gets a snapshot. */
+    DISCONNECT
+  }
+
+  private final int maxMessages;
+  private final long maxBytes;
+  private final Overflow overflow;
+  private final Executor executor;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final DistributionSummary depth;
+  private final Timer latency;
+  private final Counter overflows;
+
+  @Autowired
+  public SendQueues(
+      @Value("${ddz.websocket.send-queue.max-messages:64}") int maxMessages,
+      @Value("${ddz.websocket.send-queue.max-bytes:1048576}") long maxBytes,
+      @Value("${ddz.websocket.send-queue.overflow:snapshot}") String overflow,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+      MeterRegistry meters) {
+    this(
+        maxMessages,
+        maxBytes,
+        Overflow.valueOf(overflow.trim().toUpperCase(Locale.ROOT)),
+        virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-send-", 1).factory())
+            : Executors.newCachedThreadPool(
+                Thread.ofPlatform().name("ws-send-", 1).daemon(true).factory()),
+        meters);
+  }
+
+  SendQueues(
+      int maxMessages, long maxBytes, Overflow overflow, Executor executor, MeterRegistry meters) {
+    if (maxMessages < 1 || maxBytes < 1) {
+      throw new IllegalArgumentException("Send queue limits must be at least 1");
+    }
+    this.maxMessages = maxMessages;
+    this.maxBytes = maxBytes;
+    this.overflow = overflow;
+    this.executor = executor;
+    meters.gauge("ddz.websocket.send.queued", queued);
+    this.depth =
+        DistributionSummary.builder("ddz.websocket.send.queue.depth")
+            .description("Messages in a session's queue when one is added")
+            .register(meters);
+    this.latency =
+        Timer.builder("ddz.websocket.send.latency")
+            .description("Time from queueing a message to writing it to the socket")
+            .publishPercentiles(0.5, 0.99)
+            .register(meters);
+    this.overflows =
+        Counter.builder("ddz.websocket.send.overflows")
+            .tag("policy", overflow.name().toLowerCase(Locale.ROOT))
+            .register(meters);
+  }
+
+  SessionSendQueue open(WebSocketSession session) {
+    return new SessionSendQueue(session, this, executor);
+  }
+
+  Overflow overflow() {
+    return overflow;
+  }
+
+  int maxMessages() {
+    return maxMessages;
+  }
+
+  long maxBytes() {
+    return maxBytes;
+  }
+
+  void recordEnqueue(int sessionDepth) {
+    queued.incrementAndGet();
+    depth.record(sessionDepth);
+  }
+
+  void recordDequeue() {
+    queued.decrementAndGet();
+  }
+
+  void recordSent(long nanos) {
+    latency.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  void recordOverflow() {
+    overflows.increment();
+  }
+
+  /** Messages waiting across all sessions. */
+  public int queued() {
+    return queued.get();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor instanceof ExecutorService service) {
+      service.shutdownNow();
+    }
+  }
+}
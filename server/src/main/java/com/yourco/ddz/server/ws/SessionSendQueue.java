@@ -0,0 +1,131 @@
+package com.yourco.ddz.server.ws;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Outbound messages for one WebSocket session. {@link #offer} returns at once; the messages are
+ * written in order by a drain task on the send executor, one at a time, since a session does not
+ * allow concurrent sends. A slow client only backs up its own queue, and once that is over its
+ * limits {@code offer} refuses, leaving the overflow policy to {@link SendQueues}' caller.
+ */
+final class SessionSendQueue {
+  private static final Logger log = LoggerFactory.getLogger(SessionSendQueue.class);
+
+  private final WebSocketSession session;
+  private final SendQueues owner;
+  private final Executor executor;
+
+  private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final AtomicLong bytes = new AtomicLong();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private volatile boolean closed;
+
+  SessionSendQueue(WebSocketSession session, SendQueues owner, Executor executor) {
+    this.session = session;
+    this.owner = owner;
+    this.executor = executor;
+  }
+
+  /** Queue a message; false if the queue is full or closed, in which case nothing was queued. */
+  boolean offer(WebSocketMessage<?> message) {
+    if (closed) {
+      return false;
+    }
+    int size = message.getPayloadLength();
+    // An empty queue takes any one message, so an oversized snapshot cannot overflow forever
+    if (depth.get() > 0
+        && (depth.get() >= owner.maxMessages() || bytes.get() + size > owner.maxBytes())) {
+      return false;
+    }
+    queue.add(new Pending(message, System.nanoTime()));
+    owner.recordEnqueue(depth.incrementAndGet());
+    bytes.addAndGet(size);
+    schedule();
+    return true;
+  }
+
+  /** Drop everything not yet written. */
+  void clear() {
+    Pending p;
+    while ((p = queue.poll()) != null) {
+      forget(p);
+    }
+  }
+
+  /** Stop sending: drop the backlog and refuse further messages. */
+  void close() {
+    closed = true;
+    clear();
+  }
+
+  /** Drop the backlog and close the session; the client has fallen too far behind. */
+  void disconnect() {
+    close();
+    try {
+      session.close(CloseStatus.SESSION_NOT_RELIABLE);
+    } catch (IOException e) {
+      log.debug("Error closing session {}", session.getId(), e);
+    }
+  }
+
+  int depth() {
+    return depth.get();
+  }
+
+  private void schedule() {
+    if (!scheduled.compareAndSet(false, true)) {
+      return; // a drain is running or about to; it will see the new message
+    }
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      // Shutting down: nobody will read these
+      scheduled.set(false);
+      close();
+    }
+  }
+
+  private void drain() {
+    try {
+      Pending p;
+      while ((p = queue.poll()) != null) {
+        forget(p);
+        if (closed || !session.isOpen()) {
+          continue;
+        }
+        try {
+          session.sendMessage(p.message());
+          owner.recordSent(System.nanoTime() - p.queuedAt());
+        } catch (IOException | RuntimeException e) {
+          log.error("Error sending message to session {}", session.getId(), e);
+        }
+      }
+    } finally {
+      scheduled.set(false);
+    }
+    if (!queue.isEmpty()) {
+      schedule();
+    }
+  }
+
+  private void forget(Pending p) {
+    depth.decrementAndGet();
+    bytes.addAndGet(-p.message().getPayloadLength());
+    owner.recordDequeue();
+  }
+
+  private record Pending(WebSocketMessage<?> message, long queuedAt) {}
+}
@@ -0,0 +1,31 @@
+package com.yourco.ddz.server.ws;
+
+/**
+ * A JSON document serialized once and shared by every recipient of a broadcast, with room for one
+ * private field at the end of its innermost trailing object. Adding a recipient's field is string
+ * concatenation, so a broadcast costs one full serialization plus one small one per player.
+ */
+final class SplicedJson {
+  private final String head;
+  private final String tail;
+
+  /**
+   * @param json compact JSON whose last {@code depth} characters are the closing braces of the
+   *     object that takes the private field and of each object enclosing it; that object must
+   *     already have at least one field
+   */
+  SplicedJson(String json, int depth) {
+    this.head = json.substring(0, json.length() - depth);
+    this.tail = json.substring(json.length() - depth);
+  }
+
+  /** The shared document with {@code "name": valueJson} added. */
+  String with(String name, String valueJson) {
+    return head + ",\"" + name + "\":" + valueJson + tail;
+  }
+
+  /** The shared document as is. */
+  String without() {
+    return head + tail;
+  }
+}
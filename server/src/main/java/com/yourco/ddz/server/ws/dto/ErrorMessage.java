@@ -4,6 +4,7 @@ package com.yourco.ddz.server.ws.dto;
 public class ErrorMessage {
   private String type = "ERROR";
   private String error;
+  private String code; // MoveResult.Code for rejected moves, null otherwise
 
   public ErrorMessage() {}
 
@@ -11,6 +12,11 @@ public class ErrorMessage {
     this.error = error;
   }
 
+  public ErrorMessage(String error, String code) {
+    this.error = error;
+    this.code = code;
+  }
+
   public String getType() {
     return type;
   }
@@ -26,4 +32,12 @@ public class ErrorMessage {
   public void setError(String error) {
     this.error = error;
   }
+
+  public String getCode() {
+    return code;
+  }
+
+  public void setCode(String code) {
+    this.code = code;
+  }
 }
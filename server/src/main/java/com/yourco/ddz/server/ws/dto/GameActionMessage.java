@@ -14,7 +14,8 @@ import java.util.UUID;
   @JsonSubTypes.Type(value = BidMessage.class, name = "BID"),
   @JsonSubTypes.Type(value = PlayMessage.class, name = "PLAY"),
   @JsonSubTypes.Type(value = PassMessage.class, name = "PASS"),
-  @JsonSubTypes.Type(value = SelectLandlordMessage.class, name = "SELECT_LANDLORD")
+  @JsonSubTypes.Type(value = SelectLandlordMessage.class, name = "SELECT_LANDLORD"),
+  @JsonSubTypes.Type(value = ResyncMessage.class, name = "RESYNC")
 })
 public abstract class GameActionMessage {
   private UUID playerId;
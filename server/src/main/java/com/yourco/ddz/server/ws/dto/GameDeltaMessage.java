@@ -0,0 +1,76 @@
+package com.yourco.ddz.server.ws.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yourco.ddz.server.api.dto.CardDto;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebSocket message sent to delta-protocol clients instead of a full GAME_UPDATE.
+ *
+ * <p>{@code changes} holds only the GameStateResponse fields that changed, by name, to be assigned
+ * over the client's copy (a null value clears the field). {@code players} replaces the whole list
+ * when the roster changed; otherwise {@code playerUpdates} carries just the changed entries,
+ * matched by id. {@code myHand} is present only when the recipient's hand changed. Every field is a
+ * plain assignment, so applying a delta twice is harmless. A client whose last version is not
+ * {@code version - 1} has missed one and should send RESYNC.
+ */
+public class GameDeltaMessage {
+  private String type = "GAME_DELTA";
+  private long version;
+  private String message;
+  private Map<String, Object> changes;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private List<CardDto> myHand;
+
+  public GameDeltaMessage() {}
+
+  public GameDeltaMessage(
+      long version, String message, Map<String, Object> changes, List<CardDto> myHand) {
+    this.version = version;
+    this.message = message;
+    this.changes = changes;
+    this.myHand = myHand;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  public Map<String, Object> getChanges() {
+    return changes;
+  }
+
+  public void setChanges(Map<String, Object> changes) {
+    this.changes = changes;
+  }
+
+  public List<CardDto> getMyHand() {
+    return myHand;
+  }
+
+  public void setMyHand(List<CardDto> myHand) {
+    this.myHand = myHand;
+  }
+}
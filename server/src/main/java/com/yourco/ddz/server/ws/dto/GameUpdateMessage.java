@@ -7,6 +7,7 @@ public class GameUpdateMessage {
   private String type = "GAME_UPDATE";
   private GameStateResponse state;
   private String message; // Optional message (e.g., "Player X bid 3")
+  private long version; // State version this snapshot reflects; see GameDeltaMessage
 
   public GameUpdateMessage() {}
 
@@ -15,6 +16,11 @@ public class GameUpdateMessage {
     this.message = message;
   }
 
+  public GameUpdateMessage(GameStateResponse state, String message, long version) {
+    this(state, message);
+    this.version = version;
+  }
+
   public String getType() {
     return type;
   }
@@ -38,4 +44,12 @@ public class GameUpdateMessage {
   public void setMessage(String message) {
     this.message = message;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
 }
@@ -0,0 +1,15 @@
+package com.yourco.ddz.server.ws.dto;
+
+import java.util.UUID;
+
+/**
+ * WebSocket message asking for a full GAME_UPDATE snapshot, sent by a delta-protocol client that
+ * missed a version. Not a game action.
+ */
+public class ResyncMessage extends GameActionMessage {
+  public ResyncMessage() {}
+
+  public ResyncMessage(UUID playerId) {
+    super(playerId);
+  }
+}
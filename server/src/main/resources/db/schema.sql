@@ -19,11 +19,12 @@ CREATE INDEX IF NOT EXISTS idx_users_last_seen ON users(last_seen_at);
 -- Table: games
 CREATE TABLE IF NOT EXISTS games (
     game_id VARCHAR(50) PRIMARY KEY,
-    join_code VARCHAR(4) UNIQUE NOT NULL,
+    join_code VARCHAR(4) NOT NULL,
     max_players INTEGER NOT NULL,
     current_phase VARCHAR(20) NOT NULL,
     is_paused BOOLEAN NOT NULL DEFAULT false,
     game_state_json JSONB NOT NULL,
+    snapshot_seq BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     completed_at TIMESTAMP,
@@ -37,6 +38,27 @@ CREATE INDEX IF NOT EXISTS idx_games_phase ON games(current_phase);
 CREATE INDEX IF NOT EXISTS idx_games_updated ON games(updated_at);
 CREATE INDEX IF NOT EXISTS idx_games_not_completed ON games(completed_at) WHERE completed_at IS NULL;
 
+-- Databases created before the action journal
+ALTER TABLE games ADD COLUMN IF NOT EXISTS snapshot_seq BIGINT NOT NULL DEFAULT 0;
+
+-- Join codes are unique among the games loaded in memory only: a code is reused once its game
+-- has been unloaded, so stored rows may share one
+ALTER TABLE games DROP CONSTRAINT IF EXISTS games_join_code_key;
+
+-- Table: game_actions
+-- Append-only journal of applied actions. games.game_state_json is a snapshot taken after action
+-- games.snapshot_seq; a game is recovered by replaying the actions after it.
+CREATE TABLE IF NOT EXISTS game_actions (
+    game_id VARCHAR(50) NOT NULL REFERENCES games(game_id) ON DELETE CASCADE,
+    seq BIGINT NOT NULL,
+    action_type VARCHAR(20) NOT NULL,
+    player_id UUID,
+    payload JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (game_id, seq)
+);
+
 -- Table: game_participants
 CREATE TABLE IF NOT EXISTS game_participants (
     id BIGSERIAL PRIMARY KEY,
@@ -60,13 +82,19 @@ CREATE TABLE IF NOT EXISTS game_results (
     game_id VARCHAR(50) NOT NULL REFERENCES games(game_id),
     user_id UUID NOT NULL REFERENCES users(user_id),
     player_id UUID NOT NULL,
+    round INTEGER NOT NULL DEFAULT 1,
     final_score INTEGER NOT NULL,
     was_landlord BOOLEAN NOT NULL,
     completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
-    CONSTRAINT unique_user_game_result UNIQUE(game_id, user_id)
+    CONSTRAINT unique_user_game_round UNIQUE(game_id, user_id, round)
 );
 
+-- Databases created before rematches were recorded: one row per player and round, not per game
+ALTER TABLE game_results ADD COLUMN IF NOT EXISTS round INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE game_results DROP CONSTRAINT IF EXISTS unique_user_game_result;
+CREATE UNIQUE INDEX IF NOT EXISTS unique_user_game_round ON game_results(game_id, user_id, round);
+
 CREATE INDEX IF NOT EXISTS idx_game_results_user ON game_results(user_id);
 CREATE INDEX IF NOT EXISTS idx_game_results_game ON game_results(game_id);
 CREATE INDEX IF NOT EXISTS idx_game_results_completed ON game_results(completed_at);
@@ -0,0 +1,98 @@
+package com.yourco.ddz.server.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for GameActor. */
+class GameActorTest {
+
+  private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void testTasksRunOneAtATimeInOrder() throws InterruptedException {
+    GameActor actor = new GameActor(pool);
+    List<Integer> seen = new ArrayList<>(); // unsynchronized: only the actor touches it
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+
+    int senders = 4;
+    int perSender = 1000;
+    CountDownLatch done = new CountDownLatch(senders);
+    for (int s = 0; s < senders; s++) {
+      int sender = s;
+      pool.execute(
+          () -> {
+            for (int i = 0; i < perSender; i++) {
+              int value = sender * perSender + i;
+              actor.tell(
+                  () -> {
+                    if (running.incrementAndGet() > 1) overlaps.incrementAndGet();
+                    seen.add(value);
+                    running.decrementAndGet();
+                  });
+            }
+            done.countDown();
+          });
+    }
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    int total = actor.call(seen::size);
+
+    assertEquals(senders * perSender, total);
+    assertEquals(0, overlaps.get());
+    // Each sender's tasks ran in the order it sent them
+    int[] last = new int[senders];
+    Arrays.fill(last, -1);
+    for (int value : actor.call(() -> List.copyOf(seen))) {
+      int sender = value / perSender;
+      assertTrue(value > last[sender]);
+      last[sender] = value;
+    }
+  }
+
+  @Test
+  void testCallFromInsideTheActorRunsDirectly() {
+    GameActor actor = new GameActor(pool);
+    int result = actor.call(() -> actor.call(() -> 42));
+    assertEquals(42, result);
+    assertFalse(actor.isCurrent());
+  }
+
+  @Test
+  void testCallRethrowsTaskException() {
+    GameActor actor = new GameActor(pool);
+    IllegalStateException e =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                actor.call(
+                    () -> {
+                      throw new IllegalStateException("boom");
+                    }));
+    assertEquals("boom", e.getMessage());
+
+    // A failed task does not stop the actor
+    assertEquals("ok", actor.call(() -> "ok"));
+  }
+
+  @Test
+  void testRunsOnCallerOnceExecutorIsShutDown() {
+    pool.shutdown();
+    GameActor actor = new GameActor(pool);
+    assertEquals(Thread.currentThread(), actor.call(Thread::currentThread));
+  }
+}
@@ -0,0 +1,117 @@
+package com.yourco.ddz.server.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.server.service.GamePersistenceService;
+import com.yourco.ddz.server.service.WriteBehindQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/** Unit tests for GameEvictor. */
+class GameEvictorTest {
+
+  private GameRegistry registry;
+  private GameInstance game;
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+  @Mock private GamePersistenceService mockPersistenceService;
+  @Mock private WriteBehindQueue mockWriteBehind;
+  @Mock private GameExecutor mockGameExecutor;
+  @Mock private GameConnections mockConnections;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(mockGameExecutor.executor()).thenReturn(Runnable::run);
+    registry = new GameRegistry(mockPersistenceService, mockWriteBehind, mockGameExecutor);
+    game = registry.createGame(3, "Alice", UUID.randomUUID(), UUID.randomUUID());
+  }
+
+  /** An evictor whose clock is {@code minutes} ahead of the game's last change. */
+  private GameEvictor evictorAt(long minutes) {
+    return new GameEvictor(
+        registry,
+        mockConnections,
+        mockWriteBehind,
+        meters,
+        Duration.ofMinutes(30),
+        Duration.ofMinutes(5),
+        Clock.offset(Clock.systemUTC(), Duration.ofMinutes(minutes)));
+  }
+
+  private double evicted(String reason) {
+    return meters.counter("ddz.games.evicted", "reason", reason).count();
+  }
+
+  @Test
+  void testIdleGameIsSavedAndUnloaded() {
+    String joinCode = registry.getJoinCode(game.gameId());
+
+    assertEquals(1, evictorAt(31).sweep());
+
+    verify(mockPersistenceService).saveGame(same(game), any());
+    verify(mockPersistenceService).forget(game.gameId());
+    verify(mockConnections).unloaded(game.gameId());
+    assertTrue(registry.getAllGames().isEmpty());
+    assertNull(registry.getByJoinCode(joinCode));
+    assertEquals(1, evicted("idle"));
+    assertEquals(0, meters.get("ddz.games.loaded").gauge().value());
+  }
+
+  @Test
+  void testRecentGameIsKept() {
+    assertEquals(0, evictorAt(29).sweep());
+
+    assertSame(game, registry.get(game.gameId()));
+    verify(mockPersistenceService, never()).forget(anyString());
+    assertEquals(1, meters.get("ddz.games.loaded").gauge().value());
+  }
+
+  @Test
+  void testFinishedGameIsUnloadedSooner() {
+    assertEquals(0, evictorAt(6).sweep());
+
+    game.getState().setPhase(GameState.Phase.TERMINATED);
+    assertEquals(1, evictorAt(6).sweep());
+    assertEquals(1, evicted("finished"));
+    assertTrue(registry.getAllGames().isEmpty());
+  }
+
+  @Test
+  void testConnectedGameIsKept() {
+    when(mockConnections.isConnected(game.gameId())).thenReturn(true);
+
+    assertEquals(0, evictorAt(60).sweep());
+    assertSame(game, registry.get(game.gameId()));
+    verify(mockConnections, never()).unloaded(anyString());
+  }
+
+  @Test
+  void testGameWithPendingWriteIsKept() {
+    when(mockWriteBehind.isPending(game.gameId())).thenReturn(true);
+
+    assertEquals(0, evictorAt(60).sweep());
+    assertSame(game, registry.get(game.gameId()));
+  }
+
+  @Test
+  void testFailedSaveKeepsGame() {
+    doThrow(new IllegalStateException("database down"))
+        .when(mockPersistenceService)
+        .saveGame(same(game), any());
+
+    assertEquals(0, evictorAt(60).sweep());
+    assertSame(game, registry.get(game.gameId()));
+    assertNotNull(registry.getJoinCode(game.gameId()));
+  }
+}
@@ -0,0 +1,99 @@
+package com.yourco.ddz.server.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.yourco.ddz.server.service.GamePersistenceService;
+import com.yourco.ddz.server.service.WriteBehindQueue;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/** Unit tests for GameRecovery. */
+class GameRecoveryTest {
+
+  private GameRegistry registry;
+  private GameRecovery recovery;
+
+  @Mock private GamePersistenceService mockPersistenceService;
+  @Mock private WriteBehindQueue mockWriteBehind;
+  @Mock private GameExecutor mockGameExecutor;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(mockGameExecutor.executor()).thenReturn(Runnable::run);
+    registry = new GameRegistry(mockPersistenceService, mockWriteBehind, mockGameExecutor);
+    recovery = new GameRecovery(registry, mockPersistenceService, true, 4, Duration.ofHours(24));
+  }
+
+  private GameInstance stored(String gameId, String joinCode) {
+    GameInstance instance = GameInstance.create(gameId, 3, "Alice", UUID.randomUUID(), r -> {});
+    when(mockPersistenceService.loadGame(eq(gameId), any())).thenReturn(Optional.of(instance));
+    when(mockPersistenceService.getJoinCode(gameId)).thenReturn(Optional.of(joinCode));
+    return instance;
+  }
+
+  @Test
+  void testLoadsUncompletedGames() {
+    GameInstance a = stored("g-a", "AAAA");
+    GameInstance b = stored("g-b", "BBBB");
+    GameInstance c = stored("g-c", "CCCC");
+    when(mockPersistenceService.findUncompletedGameIds(any()))
+        .thenReturn(List.of("g-a", "g-b", "g-c"));
+
+    assertEquals(3, recovery.recover().join());
+
+    assertEquals(3, registry.getAllGames().size());
+    assertSame(a, registry.getByJoinCode("AAAA"));
+    assertSame(b, registry.getByJoinCode("BBBB"));
+    assertSame(c, registry.get("g-c"));
+    assertEquals(3, registry.loadedFromDatabaseCount());
+  }
+
+  @Test
+  void testFailedGameIsSkipped() {
+    stored("g-a", "AAAA");
+    when(mockPersistenceService.loadGame(eq("g-bad"), any()))
+        .thenThrow(new IllegalStateException("corrupt snapshot"));
+    when(mockPersistenceService.findUncompletedGameIds(any())).thenReturn(List.of("g-bad", "g-a"));
+
+    assertEquals(1, recovery.recover().join());
+    assertNotNull(registry.get("g-a"));
+  }
+
+  @Test
+  void testGameAlreadyInMemoryIsNotLoadedAgain() {
+    GameInstance live = registry.createGame(3, "Alice", UUID.randomUUID(), UUID.randomUUID());
+    when(mockPersistenceService.findUncompletedGameIds(any())).thenReturn(List.of(live.gameId()));
+
+    assertEquals(1, recovery.recover().join());
+
+    assertSame(live, registry.get(live.gameId()));
+    verify(mockPersistenceService, never()).loadGame(any(), any());
+  }
+
+  @Test
+  void testNothingToRecover() {
+    assertEquals(0, recovery.recover().join());
+
+    when(mockPersistenceService.findUncompletedGameIds(any()))
+        .thenThrow(new IllegalStateException("database down"));
+    assertEquals(0, recovery.recover().join());
+  }
+
+  @Test
+  void testWindowIsCappedByEvictionIdleTimeout() {
+    assertEquals(Duration.ofMinutes(30), GameRecovery.window(24, 60, 30));
+    assertEquals(Duration.ofHours(2), GameRecovery.window(2, 60, 600));
+    // Without eviction nothing would unload an old game, so the full max-age is used
+    assertEquals(Duration.ofHours(24), GameRecovery.window(24, 0, 30));
+  }
+}
@@ -1,9 +1,20 @@
 package com.yourco.ddz.server.core;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.yourco.ddz.server.service.GamePersistenceService;
+import com.yourco.ddz.server.service.WriteBehindQueue;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -15,11 +26,14 @@ class GameRegistryTest {
   private GameRegistry registry;
 
   @Mock private GamePersistenceService mockPersistenceService;
+  @Mock private WriteBehindQueue mockWriteBehind;
+  @Mock private GameExecutor mockGameExecutor;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
-    registry = new GameRegistry(mockPersistenceService);
+    when(mockGameExecutor.executor()).thenReturn(Runnable::run);
+    registry = new GameRegistry(mockPersistenceService, mockWriteBehind, mockGameExecutor);
   }
 
   @Test
@@ -96,4 +110,119 @@ class GameRegistryTest {
 
     assertNotEquals(code1, code2);
   }
+
+  @Test
+  void testRemoveReleasesJoinCode() {
+    GameInstance game = registry.createGame(3, "Alice", UUID.randomUUID());
+    String joinCode = registry.getJoinCode(game.gameId());
+
+    assertSame(game, registry.remove(game.gameId()));
+
+    assertNull(registry.get(game.gameId()));
+    assertNull(registry.getJoinCode(game.gameId()));
+    assertNull(registry.getByJoinCode(joinCode));
+    assertNull(registry.remove(game.gameId()));
+  }
+
+  @Test
+  void testFailedCreateReleasesJoinCode() {
+    doThrow(new IllegalStateException("database down"))
+        .when(mockPersistenceService)
+        .saveGame(any(), any(), any());
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> registry.createGame(3, "Alice", UUID.randomUUID(), UUID.randomUUID()));
+    assertTrue(registry.getAllGames().isEmpty());
+  }
+
+  @Test
+  void testUnloadedGameIsLoadedBackOnDemand() {
+    UUID userId = UUID.randomUUID();
+    UUID creatorId = UUID.randomUUID();
+    GameInstance game = registry.createGame(3, "Alice", creatorId, userId);
+    String joinCode = registry.getJoinCode(game.gameId());
+    registry.unload(game.gameId());
+    assertTrue(registry.getAllGames().isEmpty());
+
+    GameInstance stored = GameInstance.create(game.gameId(), 3, "Alice", creatorId, Runnable::run);
+    when(mockPersistenceService.loadGame(eq(game.gameId()), any())).thenReturn(Optional.of(stored));
+    when(mockPersistenceService.getJoinCode(game.gameId())).thenReturn(Optional.of(joinCode));
+    when(mockPersistenceService.getUserMappings(game.gameId()))
+        .thenReturn(Map.of(userId, creatorId));
+
+    assertSame(stored, registry.get(game.gameId()));
+    assertSame(stored, registry.getByJoinCode(joinCode));
+    assertEquals(1, registry.loadedFromDatabaseCount());
+
+    // Loaded once; later lookups are served from memory
+    assertSame(stored, registry.get(game.gameId()));
+    verify(mockPersistenceService, times(1)).loadGame(eq(game.gameId()), any());
+    verify(mockPersistenceService, never()).updateJoinCode(any(), any());
+  }
+
+  @Test
+  void testUnloadedGameIsFoundByItsStoredJoinCode() {
+    UUID creatorId = UUID.randomUUID();
+    GameInstance game = registry.createGame(3, "Alice", creatorId, UUID.randomUUID());
+    String joinCode = registry.getJoinCode(game.gameId());
+    registry.unload(game.gameId());
+
+    GameInstance stored = GameInstance.create(game.gameId(), 3, "Alice", creatorId, Runnable::run);
+    when(mockPersistenceService.findUncompletedGameIdByJoinCode(joinCode))
+        .thenReturn(Optional.of(game.gameId()));
+    when(mockPersistenceService.loadGame(eq(game.gameId()), any())).thenReturn(Optional.of(stored));
+    when(mockPersistenceService.getJoinCode(game.gameId())).thenReturn(Optional.of(joinCode));
+
+    assertSame(stored, registry.getByJoinCode(joinCode));
+    assertEquals(joinCode, registry.getJoinCode(game.gameId()));
+  }
+
+  @Test
+  void testLoadedGameGetsNewCodeIfItsOldOneWasReused() {
+    GameInstance holder = registry.createGame(3, "Bob", UUID.randomUUID(), UUID.randomUUID());
+    String taken = registry.getJoinCode(holder.gameId());
+
+    GameInstance stored =
+        GameInstance.create("g-old", 3, "Alice", UUID.randomUUID(), Runnable::run);
+    when(mockPersistenceService.loadGame(eq("g-old"), any())).thenReturn(Optional.of(stored));
+    when(mockPersistenceService.getJoinCode("g-old")).thenReturn(Optional.of(taken));
+
+    assertSame(stored, registry.get("g-old"));
+    String reassigned = registry.getJoinCode("g-old");
+    assertNotEquals(taken, reassigned);
+    assertSame(holder, registry.getByJoinCode(taken));
+
+    // The new code is stored, so the game can still be found by it once it is unloaded again
+    verify(mockPersistenceService).updateJoinCode("g-old", reassigned);
+  }
+
+  @Test
+  void testTaskQueuedBeforeUnloadRunsOnReloadedGame() {
+    UUID userId = UUID.randomUUID();
+    UUID creatorId = UUID.randomUUID();
+    GameInstance game = registry.createGame(3, "Alice", creatorId, userId);
+    registry.unload(game.gameId());
+    assertFalse(registry.isLoaded(game));
+
+    GameInstance stored = GameInstance.create(game.gameId(), 3, "Alice", creatorId, Runnable::run);
+    when(mockPersistenceService.loadGame(eq(game.gameId()), any())).thenReturn(Optional.of(stored));
+    when(mockPersistenceService.getUserMappings(game.gameId()))
+        .thenReturn(Map.of(userId, creatorId));
+
+    AtomicReference<GameInstance> told = new AtomicReference<>();
+    registry.tell(game, told::set);
+    assertSame(stored, told.get());
+    assertSame(stored, registry.call(game, current -> current));
+
+    UUID joined = UUID.randomUUID();
+    registry.call(
+        game,
+        current -> {
+          current.getState().addPlayer(joined, "Bob");
+          return null;
+        });
+    assertTrue(stored.getState().players().contains(joined));
+    assertFalse(game.getState().players().contains(joined));
+  }
 }
@@ -0,0 +1,83 @@
+package com.yourco.ddz.server.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for JoinCodeIndex and the JoinCodeGenerator encoding. */
+class JoinCodeIndexTest {
+
+  private static final int LAST = JoinCodeGenerator.CODE_SPACE - 1;
+
+  @Test
+  void testEncodingRoundTrips() {
+    assertEquals(32 * 32 * 32 * 32, JoinCodeGenerator.CODE_SPACE);
+    assertEquals("AAAA", JoinCodeGenerator.encode(0));
+    assertEquals("9999", JoinCodeGenerator.encode(LAST));
+    for (int index : new int[] {0, 1, 31, 32, 123_456, LAST}) {
+      assertEquals(index, JoinCodeGenerator.decode(JoinCodeGenerator.encode(index)));
+    }
+    assertEquals(-1, JoinCodeGenerator.decode("AAA"));
+    assertEquals(-1, JoinCodeGenerator.decode("AAI0")); // I and 0 are not in the alphabet
+    assertEquals(-1, JoinCodeGenerator.decode(null));
+  }
+
+  @Test
+  void testLookupsBothWays() {
+    JoinCodeIndex index = new JoinCodeIndex();
+    String code = index.allocate("g-1");
+
+    assertEquals("g-1", index.gameId(code));
+    assertEquals(code, index.code("g-1"));
+    assertNull(index.gameId("ZZZZ".equals(code) ? "YYYY" : "ZZZZ"));
+    assertNull(index.gameId(null));
+  }
+
+  @Test
+  void testTakenCodeMovesToNextFreeOne() {
+    JoinCodeIndex index = new JoinCodeIndex(() -> 100);
+
+    assertEquals(JoinCodeGenerator.encode(100), index.allocate("g-1"));
+    assertEquals(JoinCodeGenerator.encode(101), index.allocate("g-2"));
+    assertEquals(JoinCodeGenerator.encode(102), index.allocate("g-3"));
+  }
+
+  @Test
+  void testAllocationWrapsAroundEndOfSpace() {
+    JoinCodeIndex index = new JoinCodeIndex(() -> LAST);
+
+    assertEquals(JoinCodeGenerator.encode(LAST), index.allocate("g-1"));
+    assertEquals("AAAA", index.allocate("g-2"));
+  }
+
+  @Test
+  void testReleasedCodeIsReused() {
+    JoinCodeIndex index = new JoinCodeIndex(() -> 7);
+    String code = index.allocate("g-1");
+
+    assertEquals(code, index.release("g-1"));
+    assertNull(index.gameId(code));
+    assertNull(index.code("g-1"));
+    assertNull(index.release("g-1"));
+    assertEquals(0, index.size());
+
+    assertEquals(code, index.allocate("g-2"));
+    assertEquals("g-2", index.gameId(code));
+  }
+
+  @Test
+  void testReserve() {
+    JoinCodeIndex index = new JoinCodeIndex(() -> 0);
+
+    assertTrue(index.reserve("g-1", "AAAA"));
+    assertTrue(index.reserve("g-1", "AAAA")); // already its own
+    assertFalse(index.reserve("g-2", "AAAA"));
+    assertFalse(index.reserve("g-2", "bad!"));
+    assertEquals("AAAB", index.allocate("g-2"));
+
+    // Reserving a new code for a game frees its old one
+    assertTrue(index.reserve("g-1", "AAAC"));
+    assertNull(index.gameId("AAAA"));
+    assertEquals("AAAA", index.allocate("g-3"));
+  }
+}
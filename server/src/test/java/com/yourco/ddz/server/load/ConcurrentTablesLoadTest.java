@@ -0,0 +1,291 @@
+package com.yourco.ddz.server.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.ddz.engine.core.SystemAction;
+import com.yourco.ddz.server.core.GameExecutor;
+import com.yourco.ddz.server.core.GameInstance;
+import com.yourco.ddz.server.core.GameRegistry;
+import com.yourco.ddz.server.service.GamePersistenceService;
+import com.yourco.ddz.server.service.GameWrite;
+import com.yourco.ddz.server.service.WriteBehindQueue;
+import com.yourco.ddz.server.ws.GameWebSocketHandler;
+import com.yourco.ddz.server.ws.MessageTracer;
+import com.yourco.ddz.server.ws.SendQueues;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Plays many 3-player tables at once through the real WebSocket handler, game actors and
+ * write-behind queue, once on the platform thread pool and once on virtual threads. Socket writes
+ * and database calls are simulated with fixed delays, which is where the two modes differ: a
+ * blocked platform thread is lost to every other table, a blocked virtual thread is not.
+ *
+ * <p>Run with {@code ./gradlew :server:loadTest}; tune with {@code -Dload.tables=N}, {@code
+ * -Dload.sendMillis=N} and {@code -Dload.dbMillis=N}.
+ */
+@Tag("load")
+class ConcurrentTablesLoadTest {
+  private static final int TABLES = Integer.getInteger("load.tables", 500);
+  private static final long SEND_MILLIS = Long.getLong("load.sendMillis", 1);
+  private static final long DB_MILLIS = Long.getLong("load.dbMillis", 5);
+  private static final long TIMEOUT_SECONDS = Long.getLong("load.timeoutSeconds", 600);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void testConcurrentTablesOnPlatformAndVirtualThreads() throws Exception {
+    // Per-message INFO logging would dominate the measurement
+    ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME))
+        .setLevel(Level.WARN);
+
+    Report platform = run(false);
+    Report virtual = run(true);
+
+    System.out.printf(
+        "%d tables, %d ms per socket write, %d ms per database call%n",
+        TABLES, SEND_MILLIS, DB_MILLIS);
+    System.out.println("platform threads: " + platform);
+    System.out.println("virtual threads:  " + virtual);
+
+    assertEquals(TABLES, platform.finished);
+    assertEquals(TABLES, virtual.finished);
+  }
+
+  private Report run(boolean virtualThreads) throws Exception {
+    GamePersistenceService persistence =
+        mock(GamePersistenceService.class, withSettings().stubOnly());
+    Answer<Object> database =
+        inv -> {
+          Thread.sleep(DB_MILLIS);
+          return null;
+        };
+    doAnswer(database).when(persistence).saveGame(any(), any(), any());
+    doAnswer(database).when(persistence).write(anyCollection());
+    doAnswer(database).when(persistence).pauseGame(anyString());
+    doAnswer(database).when(persistence).resumeGame(anyString());
+    when(persistence.capture(any(), any()))
+        .thenAnswer(
+            inv -> new GameWrite(inv.<GameInstance>getArgument(0).gameId(), List.of(), null));
+
+    GameExecutor gameExecutor = new GameExecutor(0, virtualThreads);
+    WriteBehindQueue writeBehind = new WriteBehindQueue(persistence, 32, 10_000, virtualThreads);
+    GameRegistry registry = new GameRegistry(persistence, writeBehind, gameExecutor);
+    SendQueues sendQueues =
+        new SendQueues(64, 1 << 20, "snapshot", virtualThreads, new SimpleMeterRegistry());
+    GameWebSocketHandler handler =
+        new GameWebSocketHandler(registry, objectMapper, sendQueues, new MessageTracer(20, 15));
+
+    // Stands in for Tomcat's request threads delivering client messages
+    ExecutorService inbound =
+        virtualThreads
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(200);
+
+    Stats stats = new Stats(TABLES);
+    List<Bot> bots = new ArrayList<>();
+    for (int t = 0; t < TABLES; t++) {
+      bots.addAll(newTable(registry, handler, inbound, stats));
+    }
+
+    long start = System.nanoTime();
+    for (Bot bot : bots) {
+      inbound.execute(bot::connect);
+    }
+    boolean done = stats.finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    long elapsed = System.nanoTime() - start;
+
+    writeBehind.shutdown();
+    gameExecutor.shutdown();
+    sendQueues.shutdown();
+    inbound.shutdownNow();
+    if (!done) {
+      System.out.println("timed out with " + stats.finished.getCount() + " tables unfinished");
+    }
+    return stats.report(elapsed);
+  }
+
+  private List<Bot> newTable(
+      GameRegistry registry, GameWebSocketHandler handler, ExecutorService inbound, Stats stats) {
+    UUID creator = UUID.randomUUID();
+    GameInstance game = registry.createGame(3, "p0", creator, UUID.randomUUID());
+    List<UUID> players = new ArrayList<>(List.of(creator, UUID.randomUUID(), UUID.randomUUID()));
+    game.actor()
+        .call(
+            () -> {
+              game.getState().addPlayer(players.get(1), "p1");
+              game.getState().addPlayer(players.get(2), "p2");
+              game.loop().submit(new SystemAction("START", null));
+              return game.loop().tick();
+            })
+        .orThrow();
+
+    AtomicBoolean over = new AtomicBoolean();
+    List<Bot> bots = new ArrayList<>();
+    for (UUID p : players) {
+      bots.add(new Bot(game.gameId(), p, handler, inbound, stats, over));
+    }
+    return bots;
+  }
+
+  /**
+   * One player: bids 0, leads its first card when it has the lead and passes otherwise. Acts on
+   * every update that says it is its turn; duplicates are rejected by the server and ignored.
+   */
+  private final class Bot {
+    private final UUID playerId;
+    private final GameWebSocketHandler handler;
+    private final ExecutorService inbound;
+    private final Stats stats;
+    private final AtomicBoolean over;
+    private final WebSocketSession session;
+    private volatile long sentAt;
+
+    Bot(
+        String gameId,
+        UUID playerId,
+        GameWebSocketHandler handler,
+        ExecutorService inbound,
+        Stats stats,
+        AtomicBoolean over) {
+      this.playerId = playerId;
+      this.handler = handler;
+      this.inbound = inbound;
+      this.stats = stats;
+      this.over = over;
+      this.session = mock(WebSocketSession.class, withSettings().stubOnly());
+      when(session.getId()).thenReturn(playerId.toString());
+      when(session.isOpen()).thenReturn(true);
+      when(session.getUri())
+          .thenReturn(URI.create("ws://load/ws/game/" + gameId + "?playerId=" + playerId));
+      try {
+        doAnswer(
+                inv -> {
+                  Thread.sleep(SEND_MILLIS); // the socket write
+                  if (!over.get()) {
+                    String json = inv.<TextMessage>getArgument(0).getPayload();
+                    inbound.execute(() -> receive(json));
+                  }
+                  return null;
+                })
+            .when(session)
+            .sendMessage(any());
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    void connect() {
+      try {
+        handler.afterConnectionEstablished(session);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    private void receive(String json) {
+      try {
+        JsonNode msg = objectMapper.readTree(json);
+        long sent = sentAt;
+        if (sent != 0) {
+          stats.latency(System.nanoTime() - sent);
+          sentAt = 0;
+        }
+        JsonNode state = msg.path("state");
+        if (state.isMissingNode() || state.isNull()) {
+          return;
+        }
+        String phase = state.path("phase").asText();
+        if ("TERMINATED".equals(phase)) {
+          if (over.compareAndSet(false, true)) {
+            stats.finished.countDown();
+          }
+          return;
+        }
+        if (!playerId.toString().equals(state.path("currentPlayer").asText())) {
+          return;
+        }
+        String action;
+        if ("BIDDING".equals(phase)) {
+          action = "{\"type\":\"BID\",\"bidValue\":0}";
+        } else if ("PLAY".equals(phase)) {
+          if (state.path("currentLead").isNull() || state.path("currentLead").isMissingNode()) {
+            JsonNode card = state.path("myHand").get(0);
+            action = "{\"type\":\"PLAY\",\"cards\":[" + card + "]}";
+          } else {
+            action = "{\"type\":\"PASS\"}";
+          }
+        } else {
+          return;
+        }
+        stats.moves.incrementAndGet();
+        sentAt = System.nanoTime();
+        handler.handleMessage(session, new TextMessage(action));
+      } catch (Exception e) {
+        stats.errors.incrementAndGet();
+      }
+    }
+  }
+
+  /** Counters shared by all bots of one run. */
+  private static final class Stats {
+    final CountDownLatch finished;
+    final AtomicLong moves = new AtomicLong();
+    final AtomicInteger errors = new AtomicInteger();
+    private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final int tables;
+
+    Stats(int tables) {
+      this.tables = tables;
+      this.finished = new CountDownLatch(tables);
+    }
+
+    void latency(long nanos) {
+      latencies.add(nanos);
+    }
+
+    Report report(long elapsedNanos) {
+      long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+      return new Report(
+          tables - (int) finished.getCount(),
+          moves.get(),
+          errors.get(),
+          elapsedNanos / 1e9,
+          percentile(sorted, 0.50),
+          percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+      if (sorted.length == 0) return 0;
+      return sorted[(int) Math.min(sorted.length - 1, p * sorted.length)] / 1e6;
+    }
+  }
+
+  private record Report(
+      int finished, long moves, int errors, double seconds, double p50Millis, double p99Millis) {
+    @Override
+    public String toString() {
+      return String.format(
+          "%d tables finished, %d moves in %.1fs (%.0f moves/s), move-to-update p50 %.1f ms, p99"
+              + " %.1f ms, %d client errors",
+          finished, moves, seconds, moves / seconds, p50Millis, p99Millis, errors);
+    }
+  }
+}
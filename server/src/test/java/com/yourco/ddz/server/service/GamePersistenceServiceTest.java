@@ -0,0 +1,306 @@
+package com.yourco.ddz.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.ddz.engine.core.Bid;
+import com.yourco.ddz.engine.core.GameState;
+import com.yourco.ddz.engine.core.MoveGenerator;
+import com.yourco.ddz.engine.core.PlayedHand;
+import com.yourco.ddz.engine.core.PlayerAction;
+import com.yourco.ddz.engine.core.SystemAction;
+import com.yourco.ddz.server.core.GameInstance;
+import com.yourco.ddz.server.persistence.Game;
+import com.yourco.ddz.server.persistence.GameActionRecord;
+import com.yourco.ddz.server.persistence.GameResult;
+import com.yourco.ddz.server.repository.GameActionRepository;
+import com.yourco.ddz.server.repository.GameParticipantRepository;
+import com.yourco.ddz.server.repository.GameRepository;
+import com.yourco.ddz.server.repository.GameResultRepository;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/** Unit tests for the action journal and snapshot recovery in GamePersistenceService. */
+class GamePersistenceServiceTest {
+
+  @Mock private GameRepository gameRepository;
+  @Mock private GameParticipantRepository participantRepository;
+  @Mock private GameResultRepository resultRepository;
+  @Mock private GameActionRepository actionRepository;
+
+  // In-memory stand-ins for the games and game_actions tables
+  private final Map<String, Game> games = new HashMap<>();
+  private final List<GameActionRecord> journal = new ArrayList<>();
+  private int snapshots;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(gameRepository.findById(anyString()))
+        .thenAnswer(inv -> Optional.ofNullable(games.get(inv.<String>getArgument(0))));
+    when(gameRepository.save(any(Game.class)))
+        .thenAnswer(
+            inv -> {
+              Game g = inv.getArgument(0);
+              games.put(g.getGameId(), g);
+              snapshots++;
+              return g;
+            });
+    when(actionRepository.saveAll(anyList()))
+        .thenAnswer(
+            inv -> {
+              journal.addAll(inv.<List<GameActionRecord>>getArgument(0));
+              return inv.getArgument(0);
+            });
+    when(actionRepository.findByGameIdAndSeqGreaterThanOrderBySeq(anyString(), anyLong()))
+        .thenAnswer(
+            inv ->
+                journal.stream()
+                    .filter(r -> r.getGameId().equals(inv.getArgument(0)))
+                    .filter(r -> r.getSeq() > inv.<Long>getArgument(1))
+                    .toList());
+  }
+
+  private GamePersistenceService service(int snapshotInterval) {
+    return new GamePersistenceService(
+        gameRepository,
+        participantRepository,
+        resultRepository,
+        actionRepository,
+        new ObjectMapper(),
+        snapshotInterval);
+  }
+
+  private GameInstance newGame(GamePersistenceService service) {
+    GameInstance instance =
+        GameInstance.create("g-test", 3, "Alice", UUID.randomUUID(), Runnable::run);
+    service.saveGame(instance, Map.of());
+    instance.getState().addPlayer(UUID.randomUUID(), "Bob");
+    service.saveGame(instance, Map.of());
+    instance.getState().addPlayer(UUID.randomUUID(), "Carol");
+    service.saveGame(instance, Map.of());
+    act(service, instance, new SystemAction("START", null));
+    return instance;
+  }
+
+  private void act(
+      GamePersistenceService service,
+      GameInstance instance,
+      com.yourco.ddz.engine.core.GameAction a) {
+    act(service, instance, a, Map.of());
+  }
+
+  private void act(
+      GamePersistenceService service,
+      GameInstance instance,
+      com.yourco.ddz.engine.core.GameAction a,
+      Map<UUID, UUID> users) {
+    instance.loop().submit(a);
+    instance.loop().tick().orThrow();
+    service.saveGame(instance, users);
+  }
+
+  /** Bid and play the first legal move until the game ends, saving after each action. */
+  private void playToEnd(
+      GamePersistenceService service, GameInstance instance, Map<UUID, UUID> users) {
+    GameState s = instance.getState();
+    MoveGenerator generator = new MoveGenerator(instance.getRules().getConfig());
+    while (s.phase() != GameState.Phase.TERMINATED) {
+      UUID p = s.currentPlayerId();
+      if (s.phase() == GameState.Phase.BIDDING) {
+        act(service, instance, new PlayerAction(p, "BID", new Bid(1)), users);
+        continue;
+      }
+      PlayedHand play = generator.legalPlays(s, p).findFirst().orElse(null);
+      act(
+          service,
+          instance,
+          new PlayerAction(p, "PLAY", play == null ? null : play.cards()),
+          users);
+    }
+  }
+
+  private void bid(GamePersistenceService service, GameInstance instance, int value) {
+    UUID p = instance.getState().currentPlayerId();
+    act(service, instance, new PlayerAction(p, "BID", new Bid(value)));
+  }
+
+  private void playFirstLegal(GamePersistenceService service, GameInstance instance) {
+    GameState s = instance.getState();
+    UUID p = s.currentPlayerId();
+    PlayedHand play =
+        new MoveGenerator(instance.getRules().getConfig())
+            .legalPlays(s, p)
+            .findFirst()
+            .orElse(null);
+    act(service, instance, new PlayerAction(p, "PLAY", play == null ? null : play.cards()));
+  }
+
+  private static void assertSameGame(GameState expected, GameState actual) {
+    assertEquals(expected.players(), actual.players());
+    assertEquals(expected.getPlayerNames(), actual.getPlayerNames());
+    assertEquals(expected.phase(), actual.phase());
+    assertEquals(expected.currentPlayerIndex(), actual.currentPlayerIndex());
+    for (UUID p : expected.players()) {
+      assertEquals(expected.handOf(p), actual.handOf(p));
+    }
+    assertEquals(expected.bottom(), actual.bottom());
+    assertEquals(expected.getLandlordIds(), actual.getLandlordIds());
+    assertEquals(expected.getAllBids(), actual.getAllBids());
+    assertEquals(expected.getCurrentLead(), actual.getCurrentLead());
+    assertEquals(expected.getCurrentLeadPlayer(), actual.getCurrentLeadPlayer());
+    assertEquals(expected.passesInRow(), actual.passesInRow());
+    assertEquals(expected.getBombsPlayed(), actual.getBombsPlayed());
+    assertEquals(expected.rngSeed(), actual.rngSeed());
+  }
+
+  @Test
+  void testJournalsEveryActionAndSnapshotsOnlyWhenDue() {
+    GamePersistenceService service = service(1000);
+    GameInstance instance = newGame(service);
+
+    // Creation, two joins and the deal each change the roster or phase
+    assertEquals(4, snapshots);
+    assertEquals(1, journal.size());
+
+    bid(service, instance, 0);
+    bid(service, instance, 0);
+    assertEquals(4, snapshots, "bids within a phase are journaled only");
+    assertEquals(3, journal.size());
+
+    bid(service, instance, 1);
+    assertEquals(GameState.Phase.PLAY, instance.getState().phase());
+    assertEquals(5, snapshots);
+
+    playFirstLegal(service, instance);
+    playFirstLegal(service, instance);
+    assertEquals(5, snapshots);
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), journal.stream().map(r -> r.getSeq()).toList());
+    assertEquals(4, games.get("g-test").getSnapshotSeq());
+  }
+
+  @Test
+  void testSnapshotsEveryIntervalActions() {
+    GamePersistenceService service = service(3);
+    GameInstance instance = newGame(service);
+    bid(service, instance, 1);
+    bid(service, instance, 0);
+    bid(service, instance, 0);
+    int atPlay = snapshots;
+
+    for (int i = 0; i < 6; i++) {
+      playFirstLegal(service, instance);
+    }
+    assertEquals(atPlay + 2, snapshots);
+    assertEquals(10, games.get("g-test").getSnapshotSeq());
+  }
+
+  @Test
+  void testLoadReplaysJournalOverSnapshot() {
+    GamePersistenceService service = service(5);
+    GameInstance instance = newGame(service);
+    bid(service, instance, 1);
+    bid(service, instance, 0);
+    bid(service, instance, 0);
+    for (int i = 0; i < 7; i++) {
+      playFirstLegal(service, instance);
+    }
+    assertTrue(games.get("g-test").getSnapshotSeq() < journal.size(), "journal runs past snapshot");
+
+    GameInstance loaded = service(5).loadGame("g-test", Runnable::run).orElseThrow();
+
+    assertSameGame(instance.getState(), loaded.getState());
+    assertFalse(loaded.getState().isPlayerConnected(loaded.getState().players().get(0)));
+    assertEquals(instance.maxPlayers(), loaded.maxPlayers());
+
+    // Both copies accept the same next move and stay identical
+    playFirstLegal(service, instance);
+    playFirstLegal(service(5), loaded);
+    assertSameGame(instance.getState(), loaded.getState());
+  }
+
+  @Test
+  void testLoadedGameResolvesBiddingTieLikeTheOriginal() {
+    GamePersistenceService service = service(1000);
+    GameInstance instance = newGame(service);
+    int maxBid = instance.getMaxBid();
+    bid(service, instance, maxBid);
+    bid(service, instance, maxBid);
+
+    GameInstance loaded = service(1000).loadGame("g-test", Runnable::run).orElseThrow();
+    bid(service, instance, maxBid);
+    UUID last = loaded.getState().currentPlayerId();
+    loaded.loop().submit(new PlayerAction(last, "BID", new Bid(maxBid)));
+    loaded.loop().tick().orThrow();
+
+    assertEquals(GameState.Phase.PLAY, loaded.getState().phase());
+    assertSameGame(instance.getState(), loaded.getState());
+  }
+
+  @Test
+  void testRematchReopensGameAndRecordsAnotherRound() {
+    List<GameResult> results = new ArrayList<>();
+    when(resultRepository.findByGameId("g-test")).thenAnswer(inv -> List.copyOf(results));
+    when(resultRepository.save(any(GameResult.class)))
+        .thenAnswer(
+            inv -> {
+              results.add(inv.getArgument(0));
+              return inv.getArgument(0);
+            });
+    GamePersistenceService service = service(25);
+    GameInstance instance = newGame(service);
+    Map<UUID, UUID> users = new HashMap<>();
+    instance.getState().players().forEach(p -> users.put(UUID.randomUUID(), p));
+
+    playToEnd(service, instance, users);
+    assertNotNull(games.get("g-test").getCompletedAt());
+    assertEquals(3, results.size());
+
+    act(service, instance, new SystemAction("START", null), users);
+    assertNull(games.get("g-test").getCompletedAt(), "a rematch is recoverable again");
+
+    playToEnd(service, instance, users);
+    assertNotNull(games.get("g-test").getCompletedAt());
+    assertEquals(
+        List.of(1, 1, 1, 2, 2, 2), results.stream().map(GameResult::getRound).sorted().toList());
+  }
+
+  @Test
+  void testLoadMissingGame() {
+    assertTrue(service(5).loadGame("nonexistent-game-id", Runnable::run).isEmpty());
+  }
+
+  @Test
+  void testNewGameRowStoresRegistryJoinCode() {
+    GamePersistenceService service = service(25);
+    GameInstance instance =
+        GameInstance.create("g-test", 3, "Alice", UUID.randomUUID(), Runnable::run);
+
+    service.saveGame(instance, Map.of(), "K7QX");
+    instance.getState().addPlayer(UUID.randomUUID(), "Bob");
+    service.saveGame(instance, Map.of());
+
+    assertEquals("K7QX", games.get("g-test").getJoinCode());
+  }
+
+  @Test
+  void testJoinCodeCanBeChangedAfterCreation() {
+    GamePersistenceService service = service(25);
+    GameInstance instance =
+        GameInstance.create("g-test", 3, "Alice", UUID.randomUUID(), Runnable::run);
+    service.saveGame(instance, Map.of(), "K7QX");
+
+    service.updateJoinCode("g-test", "M3RT");
+    assertEquals("M3RT", games.get("g-test").getJoinCode());
+
+    instance.getState().addPlayer(UUID.randomUUID(), "Bob");
+    service.saveGame(instance, Map.of(), "P9WZ");
+    assertEquals("P9WZ", games.get("g-test").getJoinCode());
+  }
+}
@@ -0,0 +1,183 @@
+package com.yourco.ddz.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.yourco.ddz.server.core.GameInstance;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/** Unit tests for WriteBehindQueue. */
+class WriteBehindQueueTest {
+
+  @Mock private GamePersistenceService persistence;
+
+  // Games in each write() call, and the thread that made it
+  private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+  private final List<String> writerThreads = new CopyOnWriteArrayList<>();
+  private final Map<String, AtomicInteger> captures = new ConcurrentHashMap<>();
+
+  // Holds the first write until released, so the test can queue work behind it
+  private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+  private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+
+  private WriteBehindQueue queue;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(persistence.capture(any(), any()))
+        .thenAnswer(
+            inv -> {
+              String gameId = inv.<GameInstance>getArgument(0).gameId();
+              captures.computeIfAbsent(gameId, k -> new AtomicInteger()).incrementAndGet();
+              return new GameWrite(gameId, List.of(), null);
+            });
+    doAnswer(
+            inv -> {
+              boolean first = batches.isEmpty();
+              batches.add(
+                  inv.<Collection<GameWrite>>getArgument(0).stream()
+                      .map(GameWrite::gameId)
+                      .toList());
+              writerThreads.add(Thread.currentThread().getName());
+              if (first) {
+                firstWriteStarted.countDown();
+                releaseFirstWrite.await(5, TimeUnit.SECONDS);
+              }
+              return null;
+            })
+        .when(persistence)
+        .write(anyCollection());
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    releaseFirstWrite.countDown();
+    if (queue != null) {
+      queue.shutdown();
+    }
+  }
+
+  private static GameInstance game(String gameId) {
+    return GameInstance.create(gameId, 3, "Alice", UUID.randomUUID(), Runnable::run);
+  }
+
+  @Test
+  void testCoalescesPendingSavesForTheSameGame() throws InterruptedException {
+    queue = new WriteBehindQueue(persistence, 32, 100, false);
+    GameInstance a = game("g-a");
+    GameInstance b = game("g-b");
+
+    queue.enqueue(a, Map.of());
+    assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+
+    // While the writer is busy, five changes to two games queue as two saves
+    queue.enqueue(a, Map.of());
+    queue.enqueue(b, Map.of());
+    queue.enqueue(a, Map.of());
+    queue.enqueue(b, Map.of());
+    queue.enqueue(a, Map.of());
+    assertEquals(2, queue.pendingCount());
+
+    releaseFirstWrite.countDown();
+    assertTrue(queue.flush(5, TimeUnit.SECONDS));
+
+    assertEquals(List.of(List.of("g-a"), List.of("g-a", "g-b")), batches);
+    assertEquals(2, captures.get("g-a").get());
+    assertEquals(1, captures.get("g-b").get());
+  }
+
+  @Test
+  void testSavesOnCallerThreadWhenFull() throws InterruptedException {
+    queue = new WriteBehindQueue(persistence, 32, 1, false);
+    queue.enqueue(game("g-a"), Map.of());
+    assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+
+    queue.enqueue(game("g-b"), Map.of()); // fills the queue
+    queue.enqueue(game("g-c"), Map.of()); // no room: written right here
+
+    assertEquals(List.of("g-c"), batches.get(1));
+    assertEquals(Thread.currentThread().getName(), writerThreads.get(1));
+
+    releaseFirstWrite.countDown();
+    assertTrue(queue.flush(5, TimeUnit.SECONDS));
+    assertEquals(List.of("g-b"), batches.get(2));
+  }
+
+  @Test
+  void testShutdownFlushesPendingGames() throws InterruptedException {
+    queue = new WriteBehindQueue(persistence, 2, 100, false);
+    queue.enqueue(game("g-a"), Map.of());
+    assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+    for (String id : List.of("g-b", "g-c", "g-d")) {
+      queue.enqueue(game(id), Map.of());
+    }
+
+    releaseFirstWrite.countDown();
+    queue.shutdown();
+
+    assertEquals(0, queue.pendingCount());
+    assertEquals(
+        List.of("g-a", "g-b", "g-c", "g-d"), batches.stream().flatMap(List::stream).toList());
+  }
+
+  @Test
+  void testFailedWriteIsRetriedWithSnapshot() throws InterruptedException {
+    releaseFirstWrite.countDown();
+    doThrow(new IllegalStateException("database down"))
+        .doNothing()
+        .when(persistence)
+        .write(anyCollection());
+    queue = new WriteBehindQueue(persistence, 32, 100, false);
+
+    queue.enqueue(game("g-a"), Map.of());
+
+    verify(persistence, timeout(5000)).forceSnapshot("g-a");
+    verify(persistence, timeout(5000).times(2)).write(anyCollection());
+    assertTrue(queue.flush(5, TimeUnit.SECONDS));
+    assertEquals(2, captures.get("g-a").get());
+  }
+
+  @Test
+  void testFailedCaptureDoesNotStrandTheRestOfTheBatch() throws InterruptedException {
+    AtomicInteger failures = new AtomicInteger();
+    doAnswer(
+            inv -> {
+              String gameId = inv.<GameInstance>getArgument(0).gameId();
+              if (gameId.equals("g-b") && failures.getAndIncrement() == 0) {
+                throw new IllegalStateException("capture failed");
+              }
+              captures.computeIfAbsent(gameId, k -> new AtomicInteger()).incrementAndGet();
+              return new GameWrite(gameId, List.of(), null);
+            })
+        .when(persistence)
+        .capture(any(), any());
+    queue = new WriteBehindQueue(persistence, 32, 100, false);
+    queue.enqueue(game("g-a"), Map.of());
+    assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+    for (String id : List.of("g-b", "g-c", "g-d")) {
+      queue.enqueue(game(id), Map.of());
+    }
+
+    releaseFirstWrite.countDown();
+    assertTrue(queue.flush(5, TimeUnit.SECONDS));
+
+    assertEquals(List.of(List.of("g-a"), List.of("g-c", "g-d"), List.of("g-b")), batches);
+    verify(persistence).forceSnapshot("g-b");
+    for (String id : List.of("g-a", "g-b", "g-c", "g-d")) {
+      assertFalse(queue.isPending(id), id);
+    }
+  }
+}
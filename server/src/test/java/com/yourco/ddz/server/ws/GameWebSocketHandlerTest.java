@@ -0,0 +1,369 @@
+package com.yourco.ddz.server.ws;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.ddz.engine.cards.Card;
+import com.yourco.ddz.engine.core.SystemAction;
+import com.yourco.ddz.server.api.dto.CardDto;
+import com.yourco.ddz.server.api.dto.GameStateResponse;
+import com.yourco.ddz.server.core.GameExecutor;
+import com.yourco.ddz.server.core.GameInstance;
+import com.yourco.ddz.server.core.GameRegistry;
+import com.yourco.ddz.server.service.GamePersistenceService;
+import com.yourco.ddz.server.service.WriteBehindQueue;
+import com.yourco.ddz.server.ws.dto.GameUpdateMessage;
+import com.yourco.ddz.server.ws.dto.PlayMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/** Unit tests for GameWebSocketHandler broadcasts. */
+class GameWebSocketHandlerTest {
+
+  @Mock private GamePersistenceService mockPersistenceService;
+  @Mock private WriteBehindQueue mockWriteBehind;
+  @Mock private GameExecutor mockGameExecutor;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private GameWebSocketHandler handler;
+  private GameInstance game;
+  private final List<UUID> players = new ArrayList<>();
+
+  // Messages each session received, oldest first
+  private final Map<UUID, List<JsonNode>> received = new HashMap<>();
+  private final Map<UUID, List<byte[]>> binaryReceived = new HashMap<>();
+  private final Map<UUID, WebSocketSession> sessions = new HashMap<>();
+
+  // Socket writes run inline unless held, when they wait here as if the clients were stalled
+  private boolean holdSends;
+  private final List<Runnable> heldSends = new ArrayList<>();
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private final MessageTracer tracer = new MessageTracer(100, 60_000, () -> 0L);
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(mockGameExecutor.executor()).thenReturn(Runnable::run);
+    GameRegistry registry =
+        new GameRegistry(mockPersistenceService, mockWriteBehind, mockGameExecutor);
+    Executor sendExecutor =
+        task -> {
+          if (holdSends) {
+            heldSends.add(task);
+          } else {
+            task.run();
+          }
+        };
+    SendQueues sendQueues =
+        new SendQueues(4, 1 << 20, SendQueues.Overflow.SNAPSHOT, sendExecutor, meters);
+    handler = new GameWebSocketHandler(registry, objectMapper, sendQueues, tracer);
+
+    players.add(UUID.randomUUID());
+    players.add(UUID.randomUUID());
+    players.add(UUID.randomUUID());
+    game = registry.createGame(3, "Alice", players.get(0), UUID.randomUUID());
+    game.getState().addPlayer(players.get(1), "Bob");
+    game.getState().addPlayer(players.get(2), "Carol");
+    game.loop().submit(new SystemAction("START", null));
+    game.loop().tick().orThrow();
+    // Nobody has a socket yet; the last one to connect resumes the game with a broadcast
+    players.forEach(p -> game.getState().setPlayerConnected(p, false));
+  }
+
+  private WebSocketSession connect(UUID playerId, boolean delta) throws Exception {
+    return connect(playerId, delta, null);
+  }
+
+  private WebSocketSession connect(UUID playerId, boolean delta, String subProtocol)
+      throws Exception {
+    WebSocketSession session = mock(WebSocketSession.class);
+    List<JsonNode> messages = new ArrayList<>();
+    List<byte[]> frames = new ArrayList<>();
+    received.put(playerId, messages);
+    binaryReceived.put(playerId, frames);
+    sessions.put(playerId, session);
+    when(session.getAcceptedProtocol()).thenReturn(subProtocol);
+    when(session.getId()).thenReturn(playerId.toString());
+    when(session.isOpen()).thenReturn(true);
+    when(session.getUri())
+        .thenReturn(
+            URI.create(
+                "ws://test/ws/game/"
+                    + game.gameId()
+                    + "?playerId="
+                    + playerId
+                    + (delta ? "&protocol=delta" : "")));
+    doAnswer(
+            inv -> {
+              if (inv.getArgument(0) instanceof BinaryMessage binary) {
+                ByteBuffer payload = binary.getPayload();
+                byte[] frame = new byte[payload.remaining()];
+                payload.get(frame);
+                frames.add(frame);
+              } else {
+                messages.add(objectMapper.readTree(inv.<TextMessage>getArgument(0).getPayload()));
+              }
+              return null;
+            })
+        .when(session)
+        .sendMessage(any());
+    handler.afterConnectionEstablished(session);
+    return session;
+  }
+
+  private JsonNode last(UUID playerId) {
+    List<JsonNode> messages = received.get(playerId);
+    return messages.get(messages.size() - 1);
+  }
+
+  private ByteBuffer lastFrame(UUID playerId) {
+    List<byte[]> frames = binaryReceived.get(playerId);
+    return ByteBuffer.wrap(frames.get(frames.size() - 1));
+  }
+
+  private void bid(int value) throws Exception {
+    UUID current = game.getState().currentPlayerId();
+    handler.handleMessage(
+        sessions.get(current), new TextMessage("{\"type\":\"BID\",\"bidValue\":" + value + "}"));
+  }
+
+  @Test
+  void testDeltaClientGetsSnapshotThenOnlyChanges() throws Exception {
+    connect(players.get(0), true);
+    JsonNode snapshot = last(players.get(0));
+    assertEquals("GAME_UPDATE", snapshot.get("type").asText());
+    assertEquals(0, snapshot.get("version").asLong());
+    assertEquals(17, snapshot.get("state").get("myHand").size());
+
+    connect(players.get(1), true);
+    connect(players.get(2), false); // all connected: broadcast, version 1
+    bid(1); // version 2
+
+    JsonNode delta = last(players.get(0));
+    assertEquals("GAME_DELTA", delta.get("type").asText());
+    assertEquals(2, delta.get("version").asLong());
+    JsonNode changes = delta.get("changes");
+    assertTrue(changes.has("currentPlayer"));
+    assertTrue(changes.has("currentBet"));
+    assertTrue(changes.has("playerUpdates"));
+    assertEquals(1, changes.get("playerUpdates").size());
+    assertFalse(changes.has("gameId"));
+    assertFalse(changes.has("players"));
+    assertFalse(changes.has("phase"));
+    assertFalse(delta.has("myHand")); // bidding does not touch hands
+
+    // A full-state client sees the same version as a whole state
+    JsonNode update = last(players.get(2));
+    assertEquals("GAME_UPDATE", update.get("type").asText());
+    assertEquals(2, update.get("version").asLong());
+    assertEquals(3, update.get("state").get("players").size());
+  }
+
+  @Test
+  void testFirstDeltaCarriesEverythingIncludingTheHand() throws Exception {
+    connect(players.get(0), true);
+    connect(players.get(1), true);
+    connect(players.get(2), true);
+
+    JsonNode delta = last(players.get(1));
+    assertEquals("GAME_DELTA", delta.get("type").asText());
+    assertEquals(1, delta.get("version").asLong());
+    assertEquals(game.gameId(), delta.get("changes").get("gameId").asText());
+    assertEquals(3, delta.get("changes").get("players").size());
+    assertEquals(17, delta.get("myHand").size());
+  }
+
+  @Test
+  void testResyncSendsSnapshotAtCurrentVersion() throws Exception {
+    connect(players.get(0), true);
+    connect(players.get(1), true);
+    connect(players.get(2), true);
+    bid(0);
+
+    handler.handleMessage(sessions.get(players.get(0)), new TextMessage("{\"type\":\"RESYNC\"}"));
+
+    JsonNode snapshot = last(players.get(0));
+    assertEquals("GAME_UPDATE", snapshot.get("type").asText());
+    assertEquals(2, snapshot.get("version").asLong());
+    assertEquals(
+        game.getState().currentPlayerId().toString(),
+        snapshot.get("state").get("currentPlayer").asText());
+  }
+
+  @Test
+  void testDeltaAfterUpdatesOnlyFullStateClientsSawIsComplete() throws Exception {
+    connect(players.get(1), false);
+    connect(players.get(2), false);
+    WebSocketSession session = connect(players.get(0), true); // version 1, diffed: all connected
+    handler.afterConnectionClosed(session, CloseStatus.NORMAL); // version 2, nobody diffs
+    handler.afterConnectionClosed(sessions.get(players.get(1)), CloseStatus.NORMAL); // version 3
+
+    // Joins at version 3, where Bob is away; Bob comes back as he was at version 1
+    connect(players.get(0), true);
+    assertEquals(3, last(players.get(0)).get("version").asLong());
+    connect(players.get(1), false); // version 4
+
+    JsonNode delta =
+        received.get(players.get(0)).stream()
+            .filter(m -> m.get("version").asLong() == 4)
+            .findFirst()
+            .orElseThrow();
+    assertEquals("GAME_DELTA", delta.get("type").asText());
+    JsonNode bob = delta.get("changes").get("players").get(1);
+    assertEquals(players.get(1).toString(), bob.get("id").asText());
+    assertTrue(bob.get("isConnected").asBoolean());
+  }
+
+  @Test
+  void testDeltaIsMuchSmallerThanFullUpdate() throws Exception {
+    connect(players.get(0), true);
+    connect(players.get(1), true);
+    connect(players.get(2), false);
+    bid(1);
+
+    int deltaBytes = last(players.get(0)).toString().length();
+    int fullBytes = last(players.get(2)).toString().length();
+    assertTrue(deltaBytes * 3 < fullBytes, deltaBytes + " vs " + fullBytes);
+  }
+
+  @Test
+  void testSharedUpdateMatchesPerPlayerSerialization() throws Exception {
+    for (UUID p : players) {
+      connect(p, false);
+    }
+    bid(1);
+
+    for (UUID p : players) {
+      GameStateResponse expected =
+          GameStateResponse.from(game.getState(), p, game.getMaxBid(), game.maxPlayers());
+      assertEquals(
+          objectMapper.readTree(
+              objectMapper.writeValueAsString(
+                  new GameUpdateMessage(expected, "Action processed", 2))),
+          last(p));
+    }
+  }
+
+  @Test
+  void testBinaryClientGetsFramesInsteadOfJson() throws Exception {
+    connect(players.get(0), false, BinaryProtocol.NAME);
+    ByteBuffer snapshot = lastFrame(players.get(0));
+    assertEquals(BinaryProtocol.STATE, snapshot.get());
+    assertEquals(0, BinaryProtocol.readVarint(snapshot));
+    assertTrue(received.get(players.get(0)).isEmpty());
+
+    connect(players.get(1), true);
+    connect(players.get(2), false);
+    bid(1);
+
+    ByteBuffer delta = lastFrame(players.get(0));
+    assertEquals(BinaryProtocol.DELTA, delta.get());
+    assertEquals(2, BinaryProtocol.readVarint(delta));
+
+    // Same change, as JSON delta and as binary delta
+    int jsonBytes = last(players.get(1)).toString().length();
+    assertTrue(delta.limit() * 4 < jsonBytes, delta.limit() + " vs " + jsonBytes);
+  }
+
+  @Test
+  void testBinaryActionsAreApplied() throws Exception {
+    for (UUID p : players) {
+      connect(p, false, BinaryProtocol.NAME);
+    }
+    UUID current = game.getState().currentPlayerId();
+
+    handler.handleMessage(
+        sessions.get(current), new BinaryMessage(new byte[] {BinaryProtocol.BID, 2}));
+
+    assertEquals(2, game.getState().getPlayerBid(current));
+    assertEquals(BinaryProtocol.DELTA, lastFrame(current).get());
+  }
+
+  @Test
+  void testMalformedBinaryActionGetsErrorFrame() throws Exception {
+    connect(players.get(0), false, BinaryProtocol.NAME);
+
+    handler.handleMessage(
+        sessions.get(players.get(0)), new BinaryMessage(new byte[] {BinaryProtocol.PLAY, 5, 1}));
+
+    assertEquals(BinaryProtocol.ERROR, lastFrame(players.get(0)).get());
+  }
+
+  @Test
+  void testBinaryPlayDecodesCardIndexes() {
+    Card three = Card.of(Card.Suit.SPADES, Card.Rank.THREE);
+    Card bigJoker = Card.of(Card.Suit.JOKER, Card.Rank.BIG_JOKER);
+    ByteBuffer frame =
+        ByteBuffer.wrap(
+            new byte[] {BinaryProtocol.PLAY, 2, (byte) three.index(), (byte) bigJoker.index()});
+
+    PlayMessage play = (PlayMessage) BinaryProtocol.decode(frame);
+
+    assertEquals(List.of(CardDto.from(three), CardDto.from(bigJoker)), play.getCards());
+  }
+
+  @Test
+  void testOverflowingSendQueueIsReplacedBySnapshot() throws Exception {
+    for (UUID p : players) {
+      connect(p, true); // the last connect broadcasts version 1
+    }
+    int before = received.get(players.get(0)).size();
+
+    holdSends = true;
+    for (int i = 0; i < 6; i++) {
+      handler.broadcastStateUpdate(game.gameId(), game, "update " + i); // versions 2-7
+    }
+    holdSends = false;
+    heldSends.forEach(Runnable::run);
+
+    // Versions 2-5 filled the queue; 6 overflowed it, so the client gets a snapshot at 6, then 7
+    List<JsonNode> after =
+        received.get(players.get(0)).subList(before, received.get(players.get(0)).size());
+    assertEquals(2, after.size());
+    assertEquals("GAME_UPDATE", after.get(0).get("type").asText());
+    assertEquals(6, after.get(0).get("version").asLong());
+    assertEquals("GAME_DELTA", after.get(1).get("type").asText());
+    assertEquals(7, after.get(1).get("version").asLong());
+    assertEquals(3, meters.counter("ddz.websocket.send.overflows", "policy", "snapshot").count());
+  }
+
+  @Test
+  void testTracedGameTracesBothDirections() throws Exception {
+    for (UUID p : players) {
+      connect(p, false);
+    }
+    assertTrue(tracer.traces().isEmpty());
+
+    tracer.enable(game.gameId(), null, null);
+    bid(0);
+
+    // One action in, one update out to each of the three players
+    assertEquals(4, tracer.traces().get(game.gameId()).traced());
+    assertTrue(tracer.disable(game.gameId()));
+  }
+
+  @Test
+  void testReportsWhetherGameHasClients() throws Exception {
+    assertFalse(handler.isConnected(game.gameId()));
+
+    WebSocketSession session = connect(players.get(0), false);
+    assertTrue(handler.isConnected(game.gameId()));
+
+    handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+    assertFalse(handler.isConnected(game.gameId()));
+  }
+}
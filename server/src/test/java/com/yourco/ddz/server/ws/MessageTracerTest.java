@@ -0,0 +1,87 @@
+package com.yourco.ddz.server.ws;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for MessageTracer. */
+class MessageTracerTest {
+
+  private final AtomicLong now = new AtomicLong(1_000_000);
+  private final MessageTracer tracer = new MessageTracer(3, 60_000, now::get);
+  private final UUID player = UUID.randomUUID();
+
+  @Test
+  void testOffByDefault() {
+    assertFalse(tracer.active());
+    assertFalse(tracer.json("g1", "out", "s1", player, "{}"));
+  }
+
+  @Test
+  void testOnlyTracedGameIsLogged() {
+    tracer.enable("g1", null, null);
+
+    assertTrue(tracer.active());
+    assertTrue(tracer.json("g1", "out", "s1", player, "{\"type\":\"GAME_UPDATE\"}"));
+    assertTrue(tracer.binary("g1", "in", "s1", player, new byte[] {0x12}));
+    assertFalse(tracer.json("g2", "out", "s2", player, "{}"));
+    assertFalse(tracer.json(null, "out", "s3", null, "{}"));
+  }
+
+  @Test
+  void testBudgetIsPerSecond() {
+    tracer.enable("g1", null, null);
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(tracer.json("g1", "out", "s1", player, "{}"));
+    }
+    assertFalse(tracer.json("g1", "out", "s1", player, "{}"));
+    assertFalse(tracer.json("g1", "out", "s1", player, "{}"));
+
+    now.addAndGet(1000);
+    assertTrue(tracer.json("g1", "out", "s1", player, "{}"));
+
+    MessageTracer.Status status = tracer.traces().get("g1");
+    assertEquals(4, status.traced());
+    assertEquals(2, status.dropped());
+  }
+
+  @Test
+  void testTraceExpires() {
+    tracer.enable("g1", 100, 1);
+
+    now.addAndGet(59_999);
+    assertTrue(tracer.json("g1", "out", "s1", player, "{}"));
+    now.addAndGet(1);
+    assertFalse(tracer.json("g1", "out", "s1", player, "{}"));
+    assertFalse(tracer.active());
+    assertTrue(tracer.traces().isEmpty());
+  }
+
+  @Test
+  void testDisable() {
+    tracer.enable("g1", null, null);
+
+    assertTrue(tracer.disable("g1"));
+    assertFalse(tracer.disable("g1"));
+    assertFalse(tracer.active());
+    assertFalse(tracer.json("g1", "out", "s1", player, "{}"));
+  }
+
+  @Test
+  void testRequestsAreCappedAtConfiguredLimits() {
+    MessageTracer.Status status = tracer.enable("g1", 1_000, 10_000);
+
+    assertEquals(3, status.maxPerSecond());
+    assertEquals(now.get() + 60_000, status.expiresAt().toEpochMilli());
+    assertEquals(2, tracer.enable("g1", 2, null).maxPerSecond());
+  }
+
+  @Test
+  void testRejectsZeroBudget() {
+    assertThrows(IllegalArgumentException.class, () -> tracer.enable("g1", 0, null));
+    assertThrows(IllegalArgumentException.class, () -> tracer.enable("g1", null, 0));
+  }
+}
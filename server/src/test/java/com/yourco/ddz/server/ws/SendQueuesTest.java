@@ -0,0 +1,106 @@
+package com.yourco.ddz.server.ws;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/** Unit tests for SendQueues and SessionSendQueue. */
+class SendQueuesTest {
+
+  private final ExecutorService pool = Executors.newCachedThreadPool();
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+  // What the session wrote, and a gate that keeps its socket stalled until opened
+  private final List<String> written = new CopyOnWriteArrayList<>();
+  private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+  private final CountDownLatch unstall = new CountDownLatch(1);
+
+  @AfterEach
+  void tearDown() {
+    unstall.countDown();
+    pool.shutdownNow();
+  }
+
+  private WebSocketSession stalledSession() throws Exception {
+    WebSocketSession session = mock(WebSocketSession.class);
+    when(session.getId()).thenReturn("s-1");
+    when(session.isOpen()).thenReturn(true);
+    doAnswer(
+            inv -> {
+              firstSendStarted.countDown();
+              unstall.await(5, TimeUnit.SECONDS);
+              written.add(inv.<TextMessage>getArgument(0).getPayload());
+              return null;
+            })
+        .when(session)
+        .sendMessage(any());
+    return session;
+  }
+
+  @Test
+  void testOfferReturnsWhileSocketIsStalledAndKeepsOrder() throws Exception {
+    SendQueues queues = new SendQueues(64, 1 << 20, SendQueues.Overflow.SNAPSHOT, pool, meters);
+    WebSocketSession session = stalledSession();
+    SessionSendQueue queue = queues.open(session);
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(queue.offer(new TextMessage("m" + i)));
+    }
+    assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+    assertEquals(4, queues.queued()); // m0 is being written
+
+    unstall.countDown();
+    verify(session, timeout(5000).times(5)).sendMessage(any());
+    assertEquals(List.of("m0", "m1", "m2", "m3", "m4"), written);
+    assertEquals(0, queues.queued());
+    assertEquals(5, meters.timer("ddz.websocket.send.latency").count());
+  }
+
+  @Test
+  void testRefusesPastMessageAndByteLimits() throws Exception {
+    SendQueues queues = new SendQueues(2, 10, SendQueues.Overflow.SNAPSHOT, pool, meters);
+    SessionSendQueue queue = queues.open(stalledSession());
+    assertTrue(queue.offer(new TextMessage("in flight")));
+    assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+
+    assertTrue(queue.offer(new TextMessage("12345")));
+    assertFalse(queue.offer(new TextMessage("123456"))); // 11 bytes queued would pass the limit
+    assertTrue(queue.offer(new TextMessage("1234")));
+    assertFalse(queue.offer(new TextMessage("")));
+    assertEquals(2, queue.depth());
+
+    queue.clear();
+    assertEquals(0, queue.depth());
+    assertEquals(0, queues.queued());
+    // An empty queue takes a message bigger than the byte limit
+    assertTrue(queue.offer(new TextMessage("a whole snapshot")));
+  }
+
+  @Test
+  void testDisconnectClosesSessionAndRefusesMore() throws Exception {
+    SendQueues queues = new SendQueues(3, 1 << 20, SendQueues.Overflow.DISCONNECT, pool, meters);
+    WebSocketSession session = stalledSession();
+    SessionSendQueue queue = queues.open(session);
+    queue.offer(new TextMessage("m0"));
+    queue.offer(new TextMessage("m1"));
+
+    queue.disconnect();
+
+    verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+    assertFalse(queue.offer(new TextMessage("m2")));
+    assertEquals(0, queue.depth());
+  }
+}